@@ -16,26 +16,50 @@
 
 package com.github.javaxcel;
 
+import com.github.javaxcel.accessor.FieldAccessorFactory;
 import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry;
 import com.github.javaxcel.converter.handler.registry.impl.ExcelTypeHandlerRegistryImpl;
+import com.github.javaxcel.exception.ReadingExcelException;
 import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.ExcelStreamingReader;
 import com.github.javaxcel.in.core.impl.MapReader;
 import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
+import com.github.javaxcel.metadata.ExcelModelMetadataCache;
 import com.github.javaxcel.out.core.ExcelWriter;
+import com.github.javaxcel.out.core.impl.DirectModelWriter;
 import com.github.javaxcel.out.core.impl.MapWriter;
 import com.github.javaxcel.out.core.impl.ModelWriter;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 
 /**
  * Factory for creating the appropriate implementation of {@link ExcelWriter} and {@link ExcelReader}.
  *
  * @see ModelWriter
+ * @see DirectModelWriter
  * @see MapWriter
  * @see ModelReader
+ * @see StreamingModelReader
  * @see MapReader
  */
 public class Javaxcel {
@@ -43,19 +67,45 @@ public class Javaxcel {
     @VisibleForTesting
     final ExcelTypeHandlerRegistry registry;
 
-    private Javaxcel(ExcelTypeHandlerRegistry registry) {
+    /**
+     * Cache of metadata for model, which is shared by the writers and readers of this instance.
+     */
+    private final ExcelModelMetadataCache metadataCache;
+
+    private Javaxcel(ExcelTypeHandlerRegistry registry, FieldAccessorFactory accessorFactory) {
         this.registry = registry;
+        this.metadataCache = new ExcelModelMetadataCache(accessorFactory);
     }
 
     public static Javaxcel newInstance() {
-        return new Javaxcel(new DefaultExcelTypeHandlerRegistry());
+        return new Javaxcel(new DefaultExcelTypeHandlerRegistry(), FieldAccessorFactory.DEFAULT);
     }
 
     public static Javaxcel newInstance(ExcelTypeHandlerRegistry registry) {
+        return newInstance(registry, FieldAccessorFactory.DEFAULT);
+    }
+
+    /**
+     * Returns a new instance, whose writers and readers access the fields of model with the factory.
+     *
+     * @param registry        registry of handlers for field type
+     * @param accessorFactory factory of accessor for the fields
+     * @return new instance
+     */
+    public static Javaxcel newInstance(ExcelTypeHandlerRegistry registry, FieldAccessorFactory accessorFactory) {
         ExcelTypeHandlerRegistry clone = new ExcelTypeHandlerRegistryImpl();
         clone.addAll(registry);
 
-        return new Javaxcel(clone);
+        return new Javaxcel(clone, accessorFactory);
+    }
+
+    /**
+     * Returns the cache of metadata for model, which has statistics of hits and misses.
+     *
+     * @return cache of metadata
+     */
+    public ExcelModelMetadataCache getMetadataCache() {
+        return this.metadataCache;
     }
 
     /**
@@ -67,7 +117,20 @@ public class Javaxcel {
      * @return implementation that can handle the given type when you write
      */
     public <T> ExcelWriter<T> writer(Workbook workbook, Class<T> type) {
-        return new ModelWriter<>(workbook, type, this.registry);
+        return new ModelWriter<>(workbook, type, this.registry, this.metadataCache);
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelWriter},
+     * which writes xlsx file directly without {@link Workbook}.
+     *
+     * @param type type of model
+     * @param <T>  type
+     * @return implementation that can handle the given type when you write
+     * @see DirectModelWriter
+     */
+    public <T> ExcelWriter<T> directWriter(Class<T> type) {
+        return new DirectModelWriter<>(type, this.registry, this.metadataCache);
     }
 
     /**
@@ -89,7 +152,163 @@ public class Javaxcel {
      * @return implementation that can handle the given type when you read
      */
     public <T> ExcelReader<T> reader(Workbook workbook, Class<T> type) {
-        return new ModelReader<>(workbook, type, this.registry);
+        return new ModelReader<>(workbook, type, this.registry, this.metadataCache);
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelStreamingReader},
+     * which reads xlsx file lazily without {@link Workbook}.
+     *
+     * @param file xlsx file
+     * @param type type of model
+     * @param <T>  type
+     * @return implementation that can handle the given type when you read
+     * @see StreamingModelReader
+     */
+    public <T> ExcelStreamingReader<T> streamingReader(File file, Class<T> type) {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+        } catch (Exception e) {
+            throw new ReadingExcelException(e, "Failed to open the xlsx file: %s", file);
+        }
+
+        return createStreamingReader(pkg, type);
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelStreamingReader},
+     * which reads xlsx file lazily without {@link Workbook}.
+     *
+     * <p> The input stream is read into memory as compressed, so prefer
+     * {@link #streamingReader(File, Class)} for large file.
+     *
+     * @param in   input stream of xlsx file
+     * @param type type of model
+     * @param <T>  type
+     * @return implementation that can handle the given type when you read
+     * @see StreamingModelReader
+     */
+    public <T> ExcelStreamingReader<T> streamingReader(InputStream in, Class<T> type) {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(in);
+        } catch (Exception e) {
+            throw new ReadingExcelException(e, "Failed to open the xlsx file from input stream");
+        }
+
+        return createStreamingReader(pkg, type);
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelStreamingReader},
+     * which reads xlsx file lazily without {@link Workbook}.
+     *
+     * <p> The file on the default file system is opened as read-only without copying it,
+     * like {@link #streamingReader(File, Class)}. The file on the other file systems
+     * is copied to a temporary file, which is deleted when the reader is closed.
+     *
+     * @param path path of xlsx file
+     * @param type type of model
+     * @param <T>  type
+     * @return implementation that can handle the given type when you read
+     * @see StreamingModelReader
+     */
+    public <T> ExcelStreamingReader<T> streamingReader(Path path, Class<T> type) {
+        if (path.getFileSystem() == FileSystems.getDefault()) {
+            return streamingReader(path.toFile(), type);
+        }
+
+        return streamingReader(it -> Files.copy(path, it, StandardCopyOption.REPLACE_EXISTING), path, type);
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelStreamingReader},
+     * which reads xlsx file lazily without {@link Workbook}.
+     *
+     * <p> The channel is copied from its current position to the end into a temporary file,
+     * which is deleted when the reader is closed. The channel is not closed by the reader.
+     *
+     * @param channel channel of xlsx file
+     * @param type    type of model
+     * @param <T>     type
+     * @return implementation that can handle the given type when you read
+     * @see StreamingModelReader
+     */
+    public <T> ExcelStreamingReader<T> streamingReader(SeekableByteChannel channel, Class<T> type) {
+        // Doesn't close the input stream, because it closes the channel.
+        return streamingReader(it -> Files.copy(Channels.newInputStream(channel), it, StandardCopyOption.REPLACE_EXISTING),
+                channel, type);
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelStreamingReader},
+     * which reads xlsx file lazily without {@link Workbook}.
+     *
+     * <p> The buffer such as {@link MappedByteBuffer} is copied from its position to its limit
+     * into a temporary file, which is deleted when the reader is closed. The position of the buffer is not changed.
+     *
+     * @param buffer buffer of xlsx file
+     * @param type   type of model
+     * @param <T>    type
+     * @return implementation that can handle the given type when you read
+     * @see StreamingModelReader
+     */
+    public <T> ExcelStreamingReader<T> streamingReader(ByteBuffer buffer, Class<T> type) {
+        return streamingReader(it -> {
+            ByteBuffer src = buffer.duplicate();
+            try (FileChannel channel = FileChannel.open(it, StandardOpenOption.WRITE)) {
+                while (src.hasRemaining()) {
+                    channel.write(src);
+                }
+            }
+        }, buffer, type);
+    }
+
+    /**
+     * Copies xlsx file into a temporary file, and opens it as read-only,
+     * so that the package doesn't hold the whole file on heap like {@link OPCPackage#open(InputStream)}.
+     */
+    private <T> ExcelStreamingReader<T> streamingReader(FileCopier copier, Object source, Class<T> type) {
+        Path file = null;
+        OPCPackage pkg;
+        try {
+            file = Files.createTempFile("javaxcel-xlsx-", ".xlsx");
+            copier.copyTo(file);
+            pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        } catch (Exception e) {
+            deleteQuietly(file);
+            throw new ReadingExcelException(e, "Failed to open the xlsx file: %s", source);
+        }
+
+        try {
+            return new StreamingModelReader<>(pkg, file, type, this.registry, this.metadataCache);
+        } catch (RuntimeException e) {
+            // Releases the file if the model cannot be read.
+            pkg.revert();
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private <T> ExcelStreamingReader<T> createStreamingReader(OPCPackage pkg, Class<T> type) {
+        try {
+            return new StreamingModelReader<>(pkg, type, this.registry, this.metadataCache);
+        } catch (RuntimeException e) {
+            // Releases the file if the model cannot be read.
+            pkg.revert();
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(@Nullable Path file) {
+        if (file == null) return;
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            file.toFile().deleteOnExit();
+        }
     }
 
     /**
@@ -102,4 +321,14 @@ public class Javaxcel {
         return new MapReader(workbook);
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Action that copies xlsx file into the given file.
+     */
+    @FunctionalInterface
+    private interface FileCopier {
+        void copyTo(Path file) throws IOException;
+    }
+
 }
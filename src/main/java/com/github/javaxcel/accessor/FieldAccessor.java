@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.accessor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+
+/**
+ * Accessor for value of a field, which is built once per field.
+ *
+ * <p> The accessor gets and sets the value through getter/setter for the field
+ * if it was built with them, otherwise through access to the field directly.
+ *
+ * <p> The primitive-specialized getters let a writer that writes numeric cell
+ * get the value of the field without boxing. The default implementation of them unboxes the value,
+ * so the implementation should override them for the field of primitive type.
+ * There are no primitive-specialized setters, because the values read from cells
+ * are already boxed by the type handlers.
+ */
+public interface FieldAccessor {
+
+    /**
+     * Returns the field accessed by this accessor.
+     *
+     * @return field
+     */
+    Field getField();
+
+    /**
+     * Gets the value of the field from the model.
+     *
+     * @param model model that has the field
+     * @return value of the field
+     */
+    @Nullable
+    Object get(Object model);
+
+    /**
+     * Sets the value to the field of the model.
+     *
+     * @param model model that has the field
+     * @param value value of the field
+     */
+    void set(Object model, @Nullable Object value);
+
+    /**
+     * Gets the value of the field of {@code int} from the model without boxing.
+     *
+     * @param model model that has the field
+     * @return value of the field
+     */
+    default int getInt(Object model) {
+        return (Integer) get(model);
+    }
+
+    /**
+     * Gets the value of the field of {@code long} from the model without boxing.
+     *
+     * @param model model that has the field
+     * @return value of the field
+     */
+    default long getLong(Object model) {
+        return (Long) get(model);
+    }
+
+    /**
+     * Gets the value of the field of {@code double} from the model without boxing.
+     *
+     * @param model model that has the field
+     * @return value of the field
+     */
+    default double getDouble(Object model) {
+        return (Double) get(model);
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.accessor;
+
+import com.github.javaxcel.accessor.impl.MethodHandleFieldAccessorFactory;
+import com.github.javaxcel.accessor.impl.ReflectionFieldAccessorFactory;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Factory for {@link FieldAccessor}.
+ *
+ * @see MethodHandleFieldAccessorFactory
+ * @see ReflectionFieldAccessorFactory
+ */
+public interface FieldAccessorFactory {
+
+    /**
+     * Factory used when no factory is given.
+     */
+    FieldAccessorFactory DEFAULT = new MethodHandleFieldAccessorFactory();
+
+    /**
+     * Creates an accessor for the field.
+     *
+     * @param field  targeted field
+     * @param getter getter for the field, or null to get value from the field directly
+     * @param setter setter for the field, or null to set value to the field directly
+     * @return accessor for the field
+     */
+    FieldAccessor create(Field field, @Nullable Method getter, @Nullable Method setter);
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.accessor.impl;
+
+import com.github.javaxcel.accessor.FieldAccessor;
+import com.github.javaxcel.accessor.FieldAccessorFactory;
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ReflectionUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Factory for accessor with {@link MethodHandle}.
+ *
+ * <p> Method handles are resolved once when the accessor is created, so that access check
+ * and lookup of member are not repeated on each access unlike reflection API.
+ * For the field of {@code int}, {@code long} and {@code double}, the accessor has
+ * an additional getter handle typed with the primitive, which doesn't box the value.
+ *
+ * <p> This doesn't use {@link java.lang.invoke.LambdaMetafactory}, because the class spun by it
+ * is defined in the class loader of this library, which may not see the model class.
+ * (e.g. the model class is loaded by a child class loader of web application)
+ */
+public class MethodHandleFieldAccessorFactory implements FieldAccessorFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @Override
+    public FieldAccessor create(Field field, @Nullable Method getter, @Nullable Method setter) {
+        Asserts.that(field)
+                .describedAs("MethodHandleFieldAccessorFactory cannot create accessor for null")
+                .isNotNull();
+
+        MethodHandle getterHandle = toGetterHandle(field, getter);
+        MethodHandle setterHandle = toSetterHandle(field, setter);
+
+        Class<?> type = field.getType();
+        if (type == int.class) {
+            return new IntFieldAccessor(field, getterHandle, setterHandle);
+        } else if (type == long.class) {
+            return new LongFieldAccessor(field, getterHandle, setterHandle);
+        } else if (type == double.class) {
+            return new DoubleFieldAccessor(field, getterHandle, setterHandle);
+        } else {
+            return new ObjectFieldAccessor(field, getterHandle, setterHandle);
+        }
+    }
+
+    private static MethodHandle toGetterHandle(Field field, @Nullable Method getter) {
+        try {
+            if (getter == null) {
+                if (!field.isAccessible()) {
+                    field.setAccessible(true);
+                }
+
+                return LOOKUP.unreflectGetter(field);
+            }
+
+            // The declaring class of public getter may be not public.
+            if (!getter.isAccessible()) {
+                getter.setAccessible(true);
+            }
+
+            return LOOKUP.unreflect(getter);
+        } catch (IllegalAccessException e) {
+            String message = String.format("Failed to create getter handle for the field: %s", field);
+            throw new IllegalArgumentException(message, e);
+        }
+    }
+
+    /**
+     * Returns a setter handle for the field.
+     *
+     * @return setter handle, or null if the field is final and has no setter
+     */
+    @Nullable
+    private static MethodHandle toSetterHandle(Field field, @Nullable Method setter) {
+        try {
+            if (setter == null) {
+                if (!field.isAccessible()) {
+                    field.setAccessible(true);
+                }
+
+                return LOOKUP.unreflectSetter(field);
+            }
+
+            // The declaring class of public setter may be not public.
+            if (!setter.isAccessible()) {
+                setter.setAccessible(true);
+            }
+
+            return LOOKUP.unreflect(setter);
+        } catch (IllegalAccessException e) {
+            // Method handle can't write to final field; falls back to reflection API.
+            return null;
+        }
+    }
+
+    private static RuntimeException toRuntimeException(Throwable t, String format, Field field) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+
+        return new RuntimeException(String.format(format, field), t);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static class ObjectFieldAccessor implements FieldAccessor {
+        protected final Field field;
+        private final MethodHandle getter;
+        @Nullable
+        private final MethodHandle setter;
+
+        private ObjectFieldAccessor(Field field, MethodHandle getter, @Nullable MethodHandle setter) {
+            this.field = field;
+            // Erases the types to invoke the handles exactly.
+            this.getter = getter.asType(GETTER_TYPE);
+            this.setter = setter == null ? null : setter.asType(SETTER_TYPE);
+        }
+
+        @Override
+        public Field getField() {
+            return this.field;
+        }
+
+        @Nullable
+        @Override
+        public Object get(Object model) {
+            try {
+                return (Object) this.getter.invokeExact(model);
+            } catch (Throwable t) {
+                throw toRuntimeException(t, "Failed to get value of the field: %s", this.field);
+            }
+        }
+
+        @Override
+        public void set(Object model, @Nullable Object value) {
+            if (this.setter == null) {
+                ReflectionUtils.setFieldValue(model, this.field, value);
+                return;
+            }
+
+            try {
+                this.setter.invokeExact(model, value);
+            } catch (Throwable t) {
+                throw toRuntimeException(t, "Failed to set value to the field: %s", this.field);
+            }
+        }
+    }
+
+    private static final class IntFieldAccessor extends ObjectFieldAccessor {
+        private final MethodHandle intGetter;
+
+        private IntFieldAccessor(Field field, MethodHandle getter, @Nullable MethodHandle setter) {
+            super(field, getter, setter);
+            this.intGetter = getter.asType(MethodType.methodType(int.class, Object.class));
+        }
+
+        @Override
+        public int getInt(Object model) {
+            try {
+                return (int) this.intGetter.invokeExact(model);
+            } catch (Throwable t) {
+                throw toRuntimeException(t, "Failed to get value of the field: %s", this.field);
+            }
+        }
+    }
+
+    private static final class LongFieldAccessor extends ObjectFieldAccessor {
+        private final MethodHandle longGetter;
+
+        private LongFieldAccessor(Field field, MethodHandle getter, @Nullable MethodHandle setter) {
+            super(field, getter, setter);
+            this.longGetter = getter.asType(MethodType.methodType(long.class, Object.class));
+        }
+
+        @Override
+        public long getLong(Object model) {
+            try {
+                return (long) this.longGetter.invokeExact(model);
+            } catch (Throwable t) {
+                throw toRuntimeException(t, "Failed to get value of the field: %s", this.field);
+            }
+        }
+    }
+
+    private static final class DoubleFieldAccessor extends ObjectFieldAccessor {
+        private final MethodHandle doubleGetter;
+
+        private DoubleFieldAccessor(Field field, MethodHandle getter, @Nullable MethodHandle setter) {
+            super(field, getter, setter);
+            this.doubleGetter = getter.asType(MethodType.methodType(double.class, Object.class));
+        }
+
+        @Override
+        public double getDouble(Object model) {
+            try {
+                return (double) this.doubleGetter.invokeExact(model);
+            } catch (Throwable t) {
+                throw toRuntimeException(t, "Failed to get value of the field: %s", this.field);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.accessor.impl;
+
+import com.github.javaxcel.accessor.FieldAccessor;
+import com.github.javaxcel.accessor.FieldAccessorFactory;
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ReflectionUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Factory for accessor with reflection API.
+ *
+ * <p> This is slower than {@link MethodHandleFieldAccessorFactory},
+ * but it can be used as a fallback on the environment that restricts {@link java.lang.invoke}.
+ */
+public class ReflectionFieldAccessorFactory implements FieldAccessorFactory {
+
+    @Override
+    public FieldAccessor create(Field field, @Nullable Method getter, @Nullable Method setter) {
+        Asserts.that(field)
+                .describedAs("ReflectionFieldAccessorFactory cannot create accessor for null")
+                .isNotNull();
+
+        return new ReflectionFieldAccessor(field, getter, setter);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static final class ReflectionFieldAccessor implements FieldAccessor {
+        private final Field field;
+        @Nullable
+        private final Method getter;
+        @Nullable
+        private final Method setter;
+
+        private ReflectionFieldAccessor(Field field, @Nullable Method getter, @Nullable Method setter) {
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Field getField() {
+            return this.field;
+        }
+
+        @Nullable
+        @Override
+        public Object get(Object model) {
+            if (this.getter == null) {
+                return ReflectionUtils.getFieldValue(model, this.field);
+            }
+
+            return ReflectionUtils.invoke(this.getter, model);
+        }
+
+        @Override
+        public void set(Object model, @Nullable Object value) {
+            if (this.setter == null) {
+                ReflectionUtils.setFieldValue(model, this.field, value);
+                return;
+            }
+
+            ReflectionUtils.invoke(this.setter, model, value);
+        }
+    }
+
+}
@@ -23,10 +23,12 @@ import com.github.javaxcel.analysis.ExcelAnalysisImpl.DefaultMetaImpl;
 import com.github.javaxcel.annotation.ExcelColumn;
 import com.github.javaxcel.annotation.ExcelModel;
 import com.github.javaxcel.annotation.ExcelWriteExpression;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.converter.out.ExcelWriteExpressionConverter;
 import com.github.javaxcel.converter.out.ExcelWriteHandlerConverter;
 import com.github.javaxcel.out.strategy.impl.DefaultValue;
+import com.github.javaxcel.out.strategy.impl.TypedCells;
 import com.github.javaxcel.out.strategy.impl.UseGetters;
 import com.github.javaxcel.util.FieldUtils;
 
@@ -57,6 +59,12 @@ public class ExcelWriteAnalyzer extends AbstractExcelAnalyzer {
      */
     public static final int GETTER = 0x08;
 
+    /**
+     * Flag which indicates that value of the field should be written as native value of cell,
+     * if its handler is {@link ExcelNativeTypeHandler}.
+     */
+    public static final int NATIVE = 0x10;
+
     /**
      * Instantiates a new analyzer for writing Excel.
      *
@@ -97,6 +105,7 @@ public class ExcelWriteAnalyzer extends AbstractExcelAnalyzer {
     @Override
     protected int analyzeFlags(Field field, Object[] arguments) {
         UseGetters ug = FieldUtils.resolveFirst(UseGetters.class, arguments);
+        TypedCells tc = FieldUtils.resolveFirst(TypedCells.class, arguments);
 
         int flags = 0x00;
         flags |= field.isAnnotationPresent(ExcelWriteExpression.class) ? EXPRESSION : HANDLER;
@@ -113,6 +122,12 @@ public class ExcelWriteAnalyzer extends AbstractExcelAnalyzer {
             }
         }
 
+        // Array and iterable are always written as a string.
+        Class<?> type = field.getType();
+        if (tc != null && (flags & HANDLER) == HANDLER && !type.isArray() && !Iterable.class.isAssignableFrom(type)) {
+            flags |= NATIVE;
+        }
+
         return flags;
     }
 
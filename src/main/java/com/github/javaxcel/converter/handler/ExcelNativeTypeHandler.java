@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.converter.handler;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Handler for type that can be written as a native value of cell, not a string.
+ *
+ * <p> Excel stores a number as a double-precision floating-point number and shows it
+ * with 15 significant digits at most. Date/time is a number too, which is the serial
+ * date of 1900 date system (the default of new workbook) with data format.
+ * So implementation should give up a value that cannot be represented without loss
+ * and let it be written as a string.
+ *
+ * <p> Handler can also read native value of cell as it is, which skips formatting the cell
+ * into a string and parsing it again. Reader gives a number as {@link Double}, a boolean
+ * as {@link Boolean} and a number with date format as {@link LocalDateTime}.
+ *
+ * @param <T> type of object to handle
+ */
+public interface ExcelNativeTypeHandler<T> extends ExcelTypeHandler<T> {
+
+    /**
+     * Returns whether this handler can write the value as native value with arguments.
+     *
+     * @param arguments optional arguments
+     * @return whether native value can be written
+     */
+    default boolean supportsNative(Object... arguments) {
+        return true;
+    }
+
+    /**
+     * Converts the value with arguments into native value of cell.
+     *
+     * @param value     object value
+     * @param arguments optional arguments
+     * @return {@link Double} or {@link Boolean}, or null if the value cannot be represented without loss
+     * @throws Exception if failed to handle the value
+     */
+    @Nullable
+    Object writeNative(Object value, Object... arguments) throws Exception;
+
+    /**
+     * Returns data format of cell for native value.
+     *
+     * @param arguments optional arguments
+     * @return data format, or null if the cell needs no data format
+     */
+    @Nullable
+    default String getDataFormat(Object... arguments) {
+        return null;
+    }
+
+    /**
+     * Returns whether this handler can read the type of native value with arguments.
+     *
+     * @param nativeType {@link Double}, {@link Boolean} or {@link LocalDateTime}
+     * @param arguments  optional arguments
+     * @return whether native value can be read
+     */
+    default boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return false;
+    }
+
+    /**
+     * Converts native value of cell with arguments into the value.
+     *
+     * @param value     native value of the type this handler supports
+     * @param arguments optional arguments
+     * @return value
+     * @throws Exception if failed to handle the native value
+     * @see #supportsReadNative(Class, Object...)
+     */
+    default T readNative(Object value, Object... arguments) throws Exception {
+        throw new UnsupportedOperationException(getClass().getName() + " cannot read native value: " + value);
+    }
+
+}
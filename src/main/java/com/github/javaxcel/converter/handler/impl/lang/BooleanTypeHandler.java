@@ -17,8 +17,9 @@
 package com.github.javaxcel.converter.handler.impl.lang;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
-public class BooleanTypeHandler extends AbstractExcelTypeHandler<Boolean> {
+public class BooleanTypeHandler extends AbstractExcelTypeHandler<Boolean> implements ExcelNativeTypeHandler<Boolean> {
 
     public BooleanTypeHandler() {
         this(false);
@@ -33,9 +34,24 @@ public class BooleanTypeHandler extends AbstractExcelTypeHandler<Boolean> {
         return value.toString();
     }
 
+    @Override
+    public Boolean writeNative(Object value, Object... arguments) {
+        return (Boolean) value;
+    }
+
     @Override
     public Boolean read(String value, Object... arguments) {
         return Boolean.parseBoolean(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Boolean.class;
+    }
+
+    @Override
+    public Boolean readNative(Object value, Object... arguments) {
+        return (Boolean) value;
+    }
+
 }
@@ -17,8 +17,9 @@
 package com.github.javaxcel.converter.handler.impl.lang;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
-public class ByteTypeHandler extends AbstractExcelTypeHandler<Byte> {
+public class ByteTypeHandler extends AbstractExcelTypeHandler<Byte> implements ExcelNativeTypeHandler<Byte> {
 
     public ByteTypeHandler() {
         this(false);
@@ -33,9 +34,29 @@ public class ByteTypeHandler extends AbstractExcelTypeHandler<Byte> {
         return value.toString();
     }
 
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        return ((Number) value).doubleValue();
+    }
+
     @Override
     public Byte read(String value, Object... arguments) {
         return Byte.parseByte(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Double.class;
+    }
+
+    @Override
+    public Byte readNative(Object value, Object... arguments) {
+        double number = (Double) value;
+        if ((byte) number != number) {
+            throw new NumberFormatException("For input number: " + value);
+        }
+
+        return (byte) number;
+    }
+
 }
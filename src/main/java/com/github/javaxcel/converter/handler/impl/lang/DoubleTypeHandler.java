@@ -17,8 +17,9 @@
 package com.github.javaxcel.converter.handler.impl.lang;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
-public class DoubleTypeHandler extends AbstractExcelTypeHandler<Double> {
+public class DoubleTypeHandler extends AbstractExcelTypeHandler<Double> implements ExcelNativeTypeHandler<Double> {
 
     public DoubleTypeHandler() {
         this(false);
@@ -33,9 +34,25 @@ public class DoubleTypeHandler extends AbstractExcelTypeHandler<Double> {
         return value.toString();
     }
 
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        Double number = (Double) value;
+        return number.isNaN() || number.isInfinite() ? null : number;
+    }
+
     @Override
     public Double read(String value, Object... arguments) {
         return Double.parseDouble(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Double.class;
+    }
+
+    @Override
+    public Double readNative(Object value, Object... arguments) {
+        return (Double) value;
+    }
+
 }
@@ -17,8 +17,9 @@
 package com.github.javaxcel.converter.handler.impl.lang;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
-public class FloatTypeHandler extends AbstractExcelTypeHandler<Float> {
+public class FloatTypeHandler extends AbstractExcelTypeHandler<Float> implements ExcelNativeTypeHandler<Float> {
 
     public FloatTypeHandler() {
         this(false);
@@ -33,9 +34,30 @@ public class FloatTypeHandler extends AbstractExcelTypeHandler<Float> {
         return value.toString();
     }
 
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        Float number = (Float) value;
+        if (number.isNaN() || number.isInfinite()) {
+            return null;
+        }
+
+        // Widening conversion of float makes a noise: 3.14F -> 3.140000104904175
+        return Double.parseDouble(number.toString());
+    }
+
     @Override
     public Float read(String value, Object... arguments) {
         return Float.parseFloat(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Double.class;
+    }
+
+    @Override
+    public Float readNative(Object value, Object... arguments) {
+        return ((Double) value).floatValue();
+    }
+
 }
@@ -17,8 +17,9 @@
 package com.github.javaxcel.converter.handler.impl.lang;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
-public class IntegerTypeHandler extends AbstractExcelTypeHandler<Integer> {
+public class IntegerTypeHandler extends AbstractExcelTypeHandler<Integer> implements ExcelNativeTypeHandler<Integer> {
 
     public IntegerTypeHandler() {
         this(false);
@@ -33,9 +34,29 @@ public class IntegerTypeHandler extends AbstractExcelTypeHandler<Integer> {
         return value.toString();
     }
 
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        return ((Number) value).doubleValue();
+    }
+
     @Override
     public Integer read(String value, Object... arguments) {
         return Integer.parseInt(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Double.class;
+    }
+
+    @Override
+    public Integer readNative(Object value, Object... arguments) {
+        double number = (Double) value;
+        if ((int) number != number) {
+            throw new NumberFormatException("For input number: " + value);
+        }
+
+        return (int) number;
+    }
+
 }
@@ -17,8 +17,14 @@
 package com.github.javaxcel.converter.handler.impl.lang;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
-public class LongTypeHandler extends AbstractExcelTypeHandler<Long> {
+public class LongTypeHandler extends AbstractExcelTypeHandler<Long> implements ExcelNativeTypeHandler<Long> {
+
+    /**
+     * The largest number with 15 digits, which Excel can represent.
+     */
+    public static final long MAX_SIGNIFICAND = 999_999_999_999_999L;
 
     public LongTypeHandler() {
         this(false);
@@ -33,9 +39,38 @@ public class LongTypeHandler extends AbstractExcelTypeHandler<Long> {
         return value.toString();
     }
 
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        long number = (Long) value;
+
+        // Excel can't represent a number exceeding 15 significant digits.
+        if (number > MAX_SIGNIFICAND || number < -MAX_SIGNIFICAND) {
+            return null;
+        }
+
+        return (double) number;
+    }
+
     @Override
     public Long read(String value, Object... arguments) {
         return Long.parseLong(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Double.class;
+    }
+
+    @Override
+    public Long readNative(Object value, Object... arguments) {
+        double number = (Double) value;
+
+        // Narrowing conversion saturates a number out of range of long, so checks the range first.
+        if (number < -0x1p63 || number >= 0x1p63 || (long) number != number) {
+            throw new NumberFormatException("For input number: " + value);
+        }
+
+        return (long) number;
+    }
+
 }
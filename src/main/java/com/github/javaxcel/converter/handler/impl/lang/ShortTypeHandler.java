@@ -17,8 +17,9 @@
 package com.github.javaxcel.converter.handler.impl.lang;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
-public class ShortTypeHandler extends AbstractExcelTypeHandler<Short> {
+public class ShortTypeHandler extends AbstractExcelTypeHandler<Short> implements ExcelNativeTypeHandler<Short> {
 
     public ShortTypeHandler() {
         this(false);
@@ -33,9 +34,29 @@ public class ShortTypeHandler extends AbstractExcelTypeHandler<Short> {
         return value.toString();
     }
 
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        return ((Number) value).doubleValue();
+    }
+
     @Override
     public Short read(String value, Object... arguments) {
         return Short.parseShort(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Double.class;
+    }
+
+    @Override
+    public Short readNative(Object value, Object... arguments) {
+        double number = (Double) value;
+        if ((short) number != number) {
+            throw new NumberFormatException("For input number: " + value);
+        }
+
+        return (short) number;
+    }
+
 }
@@ -17,10 +17,11 @@
 package com.github.javaxcel.converter.handler.impl.math;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
 import java.math.BigDecimal;
 
-public class BigDecimalTypeHandler extends AbstractExcelTypeHandler<BigDecimal> {
+public class BigDecimalTypeHandler extends AbstractExcelTypeHandler<BigDecimal> implements ExcelNativeTypeHandler<BigDecimal> {
 
     public BigDecimalTypeHandler() {
         super(BigDecimal.class);
@@ -31,9 +32,34 @@ public class BigDecimalTypeHandler extends AbstractExcelTypeHandler<BigDecimal>
         return value.stripTrailingZeros().toString();
     }
 
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        BigDecimal number = ((BigDecimal) value).stripTrailingZeros();
+
+        // Excel can't represent a number exceeding 15 significant digits.
+        if (number.precision() > 15) {
+            return null;
+        }
+
+        double d = number.doubleValue();
+        return Double.isInfinite(d) || (d == 0 && number.signum() != 0) ? null : d;
+    }
+
     @Override
     public BigDecimal read(String value, Object... arguments) {
         return new BigDecimal(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Double.class;
+    }
+
+    @Override
+    public BigDecimal readNative(Object value, Object... arguments) {
+        // The shortest decimal that represents the double, which is the same as what was written.
+        BigDecimal number = BigDecimal.valueOf((Double) value).stripTrailingZeros();
+        return number.scale() < 0 ? number.setScale(0) : number;
+    }
+
 }
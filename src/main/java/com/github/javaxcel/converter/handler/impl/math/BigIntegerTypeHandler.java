@@ -17,10 +17,17 @@
 package com.github.javaxcel.converter.handler.impl.math;
 
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 
-public class BigIntegerTypeHandler extends AbstractExcelTypeHandler<BigInteger> {
+public class BigIntegerTypeHandler extends AbstractExcelTypeHandler<BigInteger> implements ExcelNativeTypeHandler<BigInteger> {
+
+    /**
+     * The largest number with 15 digits.
+     */
+    private static final BigInteger MAX_SIGNIFICAND = BigInteger.valueOf(999_999_999_999_999L);
 
     public BigIntegerTypeHandler() {
         super(BigInteger.class);
@@ -31,9 +38,36 @@ public class BigIntegerTypeHandler extends AbstractExcelTypeHandler<BigInteger>
         return value.toString();
     }
 
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        BigInteger number = (BigInteger) value;
+
+        // Excel can't represent a number exceeding 15 significant digits.
+        if (number.abs().compareTo(MAX_SIGNIFICAND) > 0) {
+            return null;
+        }
+
+        return number.doubleValue();
+    }
+
     @Override
     public BigInteger read(String value, Object... arguments) {
         return new BigInteger(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == Double.class;
+    }
+
+    @Override
+    public BigInteger readNative(Object value, Object... arguments) {
+        double number = (Double) value;
+        if (Math.rint(number) != number) {
+            throw new NumberFormatException("For input number: " + value);
+        }
+
+        return BigDecimal.valueOf(number).toBigIntegerExact();
+    }
+
 }
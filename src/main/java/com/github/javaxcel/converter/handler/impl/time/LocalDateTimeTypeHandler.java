@@ -16,13 +16,19 @@
 
 package com.github.javaxcel.converter.handler.impl.time;
 
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 import com.github.javaxcel.converter.handler.impl.time.temporal.AbstractTemporalAccessorTypeHandler;
+import com.github.javaxcel.util.ExcelUtils;
 import io.github.imsejin.common.constant.DateType;
+import io.github.imsejin.common.util.StringUtils;
+import org.apache.poi.ss.usermodel.DateUtil;
 
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalQuery;
 
-public class LocalDateTimeTypeHandler extends AbstractTemporalAccessorTypeHandler<LocalDateTime> {
+public class LocalDateTimeTypeHandler extends AbstractTemporalAccessorTypeHandler<LocalDateTime> implements ExcelNativeTypeHandler<LocalDateTime> {
+
+    private static final String DEFAULT_PATTERN = DateType.F_DATE_TIME.getPattern();
 
     public LocalDateTimeTypeHandler() {
         super(LocalDateTime.class, DateType.F_DATE_TIME.getFormatter());
@@ -33,4 +39,36 @@ public class LocalDateTimeTypeHandler extends AbstractTemporalAccessorTypeHandle
         return LocalDateTime::from;
     }
 
+    @Override
+    public boolean supportsNative(Object... arguments) {
+        return ExcelUtils.isCompatibleDateFormat(getDataFormat(arguments));
+    }
+
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        LocalDateTime dateTime = (LocalDateTime) value;
+
+        // Excel can't represent date before 1900 or after 9999.
+        if (dateTime.getYear() < 1900 || dateTime.getYear() > 9999) {
+            return null;
+        }
+
+        return DateUtil.getExcelDate(dateTime);
+    }
+
+    @Override
+    public String getDataFormat(Object... arguments) {
+        return StringUtils.ifNullOrEmpty(resolvePattern(arguments), DEFAULT_PATTERN);
+    }
+
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == LocalDateTime.class;
+    }
+
+    @Override
+    public LocalDateTime readNative(Object value, Object... arguments) {
+        return (LocalDateTime) value;
+    }
+
 }
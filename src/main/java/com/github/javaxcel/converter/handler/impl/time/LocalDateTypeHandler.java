@@ -16,13 +16,20 @@
 
 package com.github.javaxcel.converter.handler.impl.time;
 
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 import com.github.javaxcel.converter.handler.impl.time.temporal.AbstractTemporalAccessorTypeHandler;
+import com.github.javaxcel.util.ExcelUtils;
 import io.github.imsejin.common.constant.DateType;
+import io.github.imsejin.common.util.StringUtils;
+import org.apache.poi.ss.usermodel.DateUtil;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.TemporalQuery;
 
-public class LocalDateTypeHandler extends AbstractTemporalAccessorTypeHandler<LocalDate> {
+public class LocalDateTypeHandler extends AbstractTemporalAccessorTypeHandler<LocalDate> implements ExcelNativeTypeHandler<LocalDate> {
+
+    private static final String DEFAULT_PATTERN = DateType.F_DATE.getPattern();
 
     public LocalDateTypeHandler() {
         super(LocalDate.class, DateType.F_DATE.getFormatter());
@@ -33,4 +40,36 @@ public class LocalDateTypeHandler extends AbstractTemporalAccessorTypeHandler<Lo
         return LocalDate::from;
     }
 
+    @Override
+    public boolean supportsNative(Object... arguments) {
+        return ExcelUtils.isCompatibleDateFormat(getDataFormat(arguments));
+    }
+
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        LocalDate date = (LocalDate) value;
+
+        // Excel can't represent date before 1900 or after 9999.
+        if (date.getYear() < 1900 || date.getYear() > 9999) {
+            return null;
+        }
+
+        return DateUtil.getExcelDate(date.atStartOfDay());
+    }
+
+    @Override
+    public String getDataFormat(Object... arguments) {
+        return StringUtils.ifNullOrEmpty(resolvePattern(arguments), DEFAULT_PATTERN);
+    }
+
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == LocalDateTime.class;
+    }
+
+    @Override
+    public LocalDate readNative(Object value, Object... arguments) {
+        return ((LocalDateTime) value).toLocalDate();
+    }
+
 }
@@ -16,13 +16,22 @@
 
 package com.github.javaxcel.converter.handler.impl.time;
 
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 import com.github.javaxcel.converter.handler.impl.time.temporal.AbstractTemporalAccessorTypeHandler;
+import com.github.javaxcel.util.ExcelUtils;
 import io.github.imsejin.common.constant.DateType;
+import io.github.imsejin.common.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.TemporalQuery;
+import java.util.concurrent.TimeUnit;
 
-public class LocalTimeTypeHandler extends AbstractTemporalAccessorTypeHandler<LocalTime> {
+public class LocalTimeTypeHandler extends AbstractTemporalAccessorTypeHandler<LocalTime> implements ExcelNativeTypeHandler<LocalTime> {
+
+    private static final String DEFAULT_PATTERN = DateType.F_TIME.getPattern();
+
+    private static final long NANOS_PER_DAY = TimeUnit.DAYS.toNanos(1);
 
     public LocalTimeTypeHandler() {
         super(LocalTime.class, DateType.F_TIME.getFormatter());
@@ -33,4 +42,31 @@ public class LocalTimeTypeHandler extends AbstractTemporalAccessorTypeHandler<Lo
         return LocalTime::from;
     }
 
+    @Override
+    public boolean supportsNative(Object... arguments) {
+        return ExcelUtils.isCompatibleDateFormat(getDataFormat(arguments));
+    }
+
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        // Time is the fraction of a day in Excel.
+        LocalTime time = (LocalTime) value;
+        return (double) time.toNanoOfDay() / NANOS_PER_DAY;
+    }
+
+    @Override
+    public String getDataFormat(Object... arguments) {
+        return StringUtils.ifNullOrEmpty(resolvePattern(arguments), DEFAULT_PATTERN);
+    }
+
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == LocalDateTime.class;
+    }
+
+    @Override
+    public LocalTime readNative(Object value, Object... arguments) {
+        return ((LocalDateTime) value).toLocalTime();
+    }
+
 }
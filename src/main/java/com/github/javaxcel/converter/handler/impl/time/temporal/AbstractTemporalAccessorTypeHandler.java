@@ -20,6 +20,7 @@ import com.github.javaxcel.annotation.ExcelDateTimeFormat;
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
 import com.github.javaxcel.util.FieldUtils;
 import io.github.imsejin.common.util.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.time.format.DateTimeFormatter;
@@ -37,6 +38,27 @@ public abstract class AbstractTemporalAccessorTypeHandler<T extends TemporalAcce
 
     protected abstract TemporalQuery<T> getTemporalQuery();
 
+    /**
+     * Returns the pattern of {@link ExcelDateTimeFormat} on the field in arguments.
+     *
+     * @param arguments optional arguments
+     * @return pattern, or null if the field or the pattern doesn't exist
+     */
+    @Nullable
+    protected static String resolvePattern(Object... arguments) {
+        Field field = FieldUtils.resolveFirst(Field.class, arguments);
+        if (field == null) {
+            return null;
+        }
+
+        ExcelDateTimeFormat annotation = field.getAnnotation(ExcelDateTimeFormat.class);
+        if (annotation == null || StringUtils.isNullOrEmpty(annotation.pattern())) {
+            return null;
+        }
+
+        return annotation.pattern();
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     @Override
@@ -18,60 +18,77 @@ package com.github.javaxcel.converter.handler.impl.util;
 
 import com.github.javaxcel.annotation.ExcelDateTimeFormat;
 import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
+import com.github.javaxcel.util.ExcelUtils;
 import com.github.javaxcel.util.FieldUtils;
 import io.github.imsejin.common.constant.DateType;
 import io.github.imsejin.common.util.StringUtils;
+import org.apache.poi.ss.usermodel.DateUtil;
 
 import java.lang.reflect.Field;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 
 /**
  * Notice that {@link SimpleDateFormat} is not thread-safe.
  */
-public class DateTypeHandler extends AbstractExcelTypeHandler<Date> {
+public class DateTypeHandler extends AbstractExcelTypeHandler<Date> implements ExcelNativeTypeHandler<Date> {
 
     private static final String DEFAULT_PATTERN = DateType.F_DATE_TIME.getPattern();
 
+    private static final double MAX_EXCEL_DATE = DateUtil.getExcelDate(LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_000_000));
+
     public DateTypeHandler() {
         super(Date.class);
     }
 
     @Override
     protected String writeInternal(Date value, Object... arguments) {
-        // Resolve field from arguments.
-        Field field = FieldUtils.resolveFirst(Field.class, arguments);
-        if (field == null) {
-            return stringify(value, DEFAULT_PATTERN);
-        }
+        return stringify(value, resolvePattern(arguments));
+    }
 
-        ExcelDateTimeFormat annotation = field.getAnnotation(ExcelDateTimeFormat.class);
-        if (annotation == null || StringUtils.isNullOrEmpty(annotation.pattern())) {
-            return stringify(value, DEFAULT_PATTERN);
-        } else {
-            return stringify(value, annotation.pattern());
-        }
+    @Override
+    public boolean supportsNative(Object... arguments) {
+        return ExcelUtils.isCompatibleDateFormat(getDataFormat(arguments));
+    }
+
+    @Override
+    public Double writeNative(Object value, Object... arguments) {
+        // Excel can't represent date before 1900 or after 9999.
+        double excelDate = DateUtil.getExcelDate((Date) value);
+        return excelDate < 0 || excelDate > MAX_EXCEL_DATE ? null : excelDate;
+    }
+
+    @Override
+    public String getDataFormat(Object... arguments) {
+        return resolvePattern(arguments);
     }
 
     @Override
     public Date read(String value, Object... arguments) throws ParseException {
+        return parse(value, resolvePattern(arguments));
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static String resolvePattern(Object... arguments) {
         // Resolve field from arguments.
         Field field = FieldUtils.resolveFirst(Field.class, arguments);
         if (field == null) {
-            return parse(value, DEFAULT_PATTERN);
+            return DEFAULT_PATTERN;
         }
 
         ExcelDateTimeFormat annotation = field.getAnnotation(ExcelDateTimeFormat.class);
         if (annotation == null || StringUtils.isNullOrEmpty(annotation.pattern())) {
-            return parse(value, DEFAULT_PATTERN);
+            return DEFAULT_PATTERN;
         } else {
-            return parse(value, annotation.pattern());
+            return annotation.pattern();
         }
     }
 
-    // -------------------------------------------------------------------------------------------------
-
     private static String stringify(Date value, String pattern) {
         return new SimpleDateFormat(pattern).format(value);
     }
@@ -80,4 +97,14 @@ public class DateTypeHandler extends AbstractExcelTypeHandler<Date> {
         return new SimpleDateFormat(pattern).parse(value);
     }
 
+    @Override
+    public boolean supportsReadNative(Class<?> nativeType, Object... arguments) {
+        return nativeType == LocalDateTime.class;
+    }
+
+    @Override
+    public Date readNative(Object value, Object... arguments) {
+        return Date.from(((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant());
+    }
+
 }
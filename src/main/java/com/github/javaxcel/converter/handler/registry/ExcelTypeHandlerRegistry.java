@@ -80,4 +80,17 @@ public interface ExcelTypeHandlerRegistry {
      */
     boolean addAll(ExcelTypeHandlerRegistry registry);
 
+    /**
+     * Returns the version of this registry, which increases whenever a handler is added.
+     *
+     * <p> The plans compiled with this registry are reused until this is changed.
+     * If the implementation doesn't override this, the plans compiled before a handler is added
+     * are reused even after that.
+     *
+     * @return version of this registry
+     */
+    default long getVersion() {
+        return 0;
+    }
+
 }
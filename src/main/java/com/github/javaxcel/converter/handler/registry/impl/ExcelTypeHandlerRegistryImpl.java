@@ -34,6 +34,8 @@ public class ExcelTypeHandlerRegistryImpl implements ExcelTypeHandlerRegistry {
 
     private final Map<Class<?>, ExcelTypeHandler<?>> handlerMap = new HashMap<>();
 
+    private long version;
+
     @Nullable
     @Override
     public ExcelTypeHandler<?> getHandler(Class<?> type) {
@@ -68,6 +70,7 @@ public class ExcelTypeHandlerRegistryImpl implements ExcelTypeHandlerRegistry {
 
         boolean added = !this.handlerMap.containsKey(type);
         this.handlerMap.put(type, handler);
+        this.version++;
 
         return added;
     }
@@ -97,4 +100,9 @@ public class ExcelTypeHandlerRegistryImpl implements ExcelTypeHandlerRegistry {
         return added;
     }
 
+    @Override
+    public long getVersion() {
+        return this.version;
+    }
+
 }
@@ -39,4 +39,17 @@ public interface ExcelReadConverter {
      */
     Object convert(Map<String, String> variables, Field field);
 
+    /**
+     * Converts a string in cell to the type of field.
+     *
+     * <p> Override this to read the values from the buffer of row without materializing {@link Map}.
+     *
+     * @param row   buffer of row in which values are addressed by column index
+     * @param field targeted field of model
+     * @return value converted to the type of field
+     */
+    default Object convert(ExcelReadRow row, Field field) {
+        return convert(row.toMap(), field);
+    }
+
 }
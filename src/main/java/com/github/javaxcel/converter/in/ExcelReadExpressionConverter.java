@@ -28,13 +28,20 @@ import org.jetbrains.annotations.Nullable;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class ExcelReadExpressionConverter implements ExcelReadConverter {
 
@@ -43,11 +50,25 @@ public class ExcelReadExpressionConverter implements ExcelReadConverter {
     private final Map<Field, Cache> analysisMap;
 
     public ExcelReadExpressionConverter(Iterable<ExcelAnalysis> analyses) {
+        this(analyses, SpelCompilerMode.OFF);
+    }
+
+    /**
+     * @param analyses     analyses of the fields
+     * @param compilerMode compiler mode of expressions
+     * @see SpelCompilerMode
+     */
+    public ExcelReadExpressionConverter(Iterable<ExcelAnalysis> analyses, SpelCompilerMode compilerMode) {
         Asserts.that(analyses)
                 .describedAs("ExcelReadExpressionConverter.analyses is not allowed to be null")
                 .isNotNull()
                 .describedAs("ExcelReadExpressionConverter.analyses is not allowed to be empty")
                 .is(them -> them.iterator().hasNext());
+        Asserts.that(compilerMode)
+                .describedAs("ExcelReadExpressionConverter.compilerMode is not allowed to be null")
+                .isNotNull();
+
+        ExpressionParser expressionParser = createExpressionParser(analyses, compilerMode);
 
         Map<Field, Cache> analysisMap = new HashMap<>();
 
@@ -61,7 +82,7 @@ public class ExcelReadExpressionConverter implements ExcelReadConverter {
                 // BECAUSE THE ANNOTATION HAS ONLY ONE MANDATORY ATTRIBUTE.
                 // THIS CLASS IS RESPONSIBLE FOR INFORMING USER OF FAILURE OF PARSING EXPRESSION.
                 ExcelReadExpression annotation = field.getAnnotation(ExcelReadExpression.class);
-                cache.expression = EXPRESSION_PARSER.parseExpression(annotation.value());
+                cache.expression = expressionParser.parseExpression(annotation.value());
 
                 // HOWEVER, @ExcelColumn.defaultValue IS NOT MANDATORY ATTRIBUTE
                 // AND ALSO THE ANNOTATION CAN BE USED FOR OTHER PURPOSES.
@@ -69,7 +90,7 @@ public class ExcelReadExpressionConverter implements ExcelReadConverter {
                 DefaultMeta defaultMeta = analysis.getDefaultMeta();
                 String defaultExpressionString = defaultMeta.getValue();
                 if (defaultMeta.getSource() == Source.COLUMN && !StringUtils.isNullOrEmpty(defaultExpressionString)) {
-                    cache.expressionForDefault = EXPRESSION_PARSER.parseExpression(defaultExpressionString);
+                    cache.expressionForDefault = expressionParser.parseExpression(defaultExpressionString);
                 }
             }
 
@@ -102,6 +123,57 @@ public class ExcelReadExpressionConverter implements ExcelReadConverter {
         // Enables to use value of the field as "#FIELD_NAME" in @ExcelReadExpression.
         variables.forEach(context::setVariable);
 
+        return evaluate(context, field);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> The values of the row are looked up on demand, instead of being copied into variables.
+     *
+     * @see ExcelReadExpression#value()
+     * @see ExcelColumn#defaultValue()
+     */
+    @Nullable
+    @Override
+    public Object convert(ExcelReadRow row, Field field) {
+        // Enables to use value of the field as "#FIELD_NAME" in @ExcelReadExpression.
+        EvaluationContext context = new RowEvaluationContext(row);
+
+        return evaluate(context, field);
+    }
+
+    /**
+     * Returns the names of variables referenced by the expression of the field.
+     *
+     * <p> The columns of the variables must be read as string, because the expression sees them as string.
+     *
+     * @param field field
+     * @return names of variables
+     */
+    public Set<String> getVariableNames(Field field) {
+        Cache cache = this.analysisMap.get(field);
+        if (cache == null || !(cache.expression instanceof SpelExpression)) return Collections.emptySet();
+
+        Set<String> variableNames = new HashSet<>();
+        collectVariableNames(((SpelExpression) cache.expression).getAST(), variableNames);
+
+        return variableNames;
+    }
+
+    private static void collectVariableNames(SpelNode node, Set<String> variableNames) {
+        if (node instanceof VariableReference) {
+            // VariableReference is stringified as "#name".
+            variableNames.add(node.toStringAST().substring(1));
+        }
+
+        for (int i = 0; i < node.getChildCount(); i++) {
+            collectVariableNames(node.getChild(i), variableNames);
+        }
+    }
+
+    @Nullable
+    private Object evaluate(EvaluationContext context, Field field) {
         Cache cache = this.analysisMap.get(field);
         Object value = cache.expression.getValue(context, field.getType());
         value = isNullOrEmpty(value) ? null : value;
@@ -124,6 +196,18 @@ public class ExcelReadExpressionConverter implements ExcelReadConverter {
 
     // -------------------------------------------------------------------------------------------------
 
+    private static ExpressionParser createExpressionParser(Iterable<ExcelAnalysis> analyses, SpelCompilerMode compilerMode) {
+        if (compilerMode == SpelCompilerMode.OFF) {
+            return EXPRESSION_PARSER;
+        }
+
+        // Compiled expression is loaded by child of the class loader,
+        // so the class loader must see the types of fields in the model.
+        ClassLoader classLoader = analyses.iterator().next().getField().getDeclaringClass().getClassLoader();
+
+        return new SpelExpressionParser(new SpelParserConfiguration(compilerMode, classLoader));
+    }
+
     private static boolean isNullOrEmpty(@Nullable Object object) {
         if (object == null) {
             return true;
@@ -136,6 +220,25 @@ public class ExcelReadExpressionConverter implements ExcelReadConverter {
         return false;
     }
 
+    /**
+     * Evaluation context that looks up the variables in the buffer of row.
+     */
+    private static class RowEvaluationContext extends StandardEvaluationContext {
+        private final ExcelReadRow row;
+
+        private RowEvaluationContext(ExcelReadRow row) {
+            this.row = row;
+        }
+
+        @Nullable
+        @Override
+        public Object lookupVariable(String name) {
+            // Prefers the variable assigned in expression.
+            Object value = super.lookupVariable(name);
+            return value == null ? this.row.get(name) : value;
+        }
+    }
+
     private static class Cache {
         private final ExcelAnalysis analysis;
         @Nullable
@@ -18,7 +18,9 @@ package com.github.javaxcel.converter.in;
 
 import com.github.javaxcel.analysis.ExcelAnalysis;
 import com.github.javaxcel.analysis.in.ExcelReadAnalyzer;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 import com.github.javaxcel.converter.handler.ExcelTypeHandler;
+import com.github.javaxcel.converter.in.ExcelReadRow.NativeType;
 import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.util.FieldUtils;
 import io.github.imsejin.common.assertion.Asserts;
@@ -31,9 +33,11 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class ExcelReadHandlerConverter implements ExcelReadConverter {
 
@@ -79,6 +83,52 @@ public class ExcelReadHandlerConverter implements ExcelReadConverter {
         return handleInternal(field, type, value);
     }
 
+    @Nullable
+    @Override
+    public Object convert(ExcelReadRow row, Field field) {
+        Class<?> type = field.getType();
+
+        // Skips formatting and parsing when the reader gives native value of cell.
+        Object nativeValue = row.getNative(field.getName());
+        if (nativeValue != null) {
+            return handleNative(field, type, nativeValue);
+        }
+
+        String value = row.get(field.getName());
+
+        return handleInternal(field, type, value);
+    }
+
+    /**
+     * Returns the types of native value of cell that the handler for the field can read.
+     *
+     * <p> Array and iterable type always need a string, so there is no native type for them.
+     *
+     * @param field field
+     * @return types of native value
+     */
+    public Set<NativeType> getNativeTypes(Field field) {
+        Set<NativeType> nativeTypes = EnumSet.noneOf(NativeType.class);
+
+        ExcelAnalysis analysis = this.analysisMap.get(field);
+        if (analysis == null || !analysis.hasFlag(ExcelReadAnalyzer.HANDLER)) return nativeTypes;
+
+        Class<?> type = field.getType();
+        if (type.isArray() || Iterable.class.isAssignableFrom(type)) return nativeTypes;
+
+        ExcelTypeHandler<?> handler = this.registry.getHandler(type);
+        if (!(handler instanceof ExcelNativeTypeHandler)) return nativeTypes;
+
+        ExcelNativeTypeHandler<?> nativeHandler = (ExcelNativeTypeHandler<?>) handler;
+        for (NativeType nativeType : NativeType.values()) {
+            if (nativeHandler.supportsReadNative(nativeType.getJavaType(), field)) {
+                nativeTypes.add(nativeType);
+            }
+        }
+
+        return nativeTypes;
+    }
+
     private Object handleInternal(Field field, Class<?> type, String value) {
         // When cell value is null or empty.
         if (StringUtils.isNullOrEmpty(value)) {
@@ -180,6 +230,19 @@ public class ExcelReadHandlerConverter implements ExcelReadConverter {
         }
     }
 
+    private Object handleNative(Field field, Class<?> type, Object value) {
+        ExcelNativeTypeHandler<?> handler = (ExcelNativeTypeHandler<?>) this.registry.getHandler(type);
+
+        try {
+            // Converts native value of cell to the type of field.
+            return handler.readNative(value, field);
+        } catch (Exception e) {
+            String message = String.format("Failed to convert %s(%s) to %s",
+                    value, value.getClass().getSimpleName(), type.getSimpleName());
+            throw new RuntimeException(message, e);
+        }
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     // To access at test source, modifier should be package-private.
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.converter.in;
+
+import io.github.imsejin.common.assertion.Asserts;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Buffer of a row, in which the values of cells are addressed by column index.
+ *
+ * <p> The table of header names to column indexes is computed once per sheet
+ * and shared by the buffer and its copies. Reader reuses the buffer for each row,
+ * so converter must not keep reference to it.
+ *
+ * <p> The column that accepts native value of cell has the value as it is
+ * instead of string, so that the converter doesn't parse the formatted string again.
+ *
+ * @see ExcelReadConverter#convert(ExcelReadRow, Field)
+ */
+public final class ExcelReadRow {
+
+    private final List<String> names;
+
+    private final Map<String, Integer> indexes;
+
+    private final String[] values;
+
+    /**
+     * Types of native value accepted by each column, or null if no column accepts native value.
+     */
+    @Nullable
+    private final List<Set<NativeType>> nativeTypes;
+
+    @Nullable
+    private final Object[] nativeValues;
+
+    /**
+     * Whether each cell exists in the row, to distinguish missing cell from blank cell.
+     */
+    private final boolean[] present;
+
+    /**
+     * Whether each column is read, or null if all the columns are read.
+     */
+    @Nullable
+    private boolean[] projection;
+
+    /**
+     * Creates a buffer of row with the header names.
+     *
+     * @param names header names in order of columns
+     */
+    public ExcelReadRow(List<String> names) {
+        this(names, null);
+    }
+
+    /**
+     * Creates a buffer of row with the header names and types of native value accepted by each column.
+     *
+     * @param names       header names in order of columns
+     * @param nativeTypes types of native value accepted by each column
+     */
+    public ExcelReadRow(List<String> names, @Nullable List<Set<NativeType>> nativeTypes) {
+        Asserts.that(names)
+                .describedAs("ExcelReadRow.names is not allowed to be null")
+                .isNotNull();
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            // Prefers the first column when header names are duplicated.
+            indexes.putIfAbsent(names.get(i), i);
+        }
+
+        this.names = Collections.unmodifiableList(names);
+        this.indexes = Collections.unmodifiableMap(indexes);
+        this.values = new String[names.size()];
+        this.present = new boolean[names.size()];
+
+        boolean anyNative = nativeTypes != null && nativeTypes.stream().anyMatch(it -> it != null && !it.isEmpty());
+        this.nativeTypes = anyNative ? Collections.unmodifiableList(nativeTypes) : null;
+        this.nativeValues = anyNative ? new Object[names.size()] : null;
+    }
+
+    private ExcelReadRow(ExcelReadRow origin) {
+        this.names = origin.names;
+        this.indexes = origin.indexes;
+        this.values = origin.values.clone();
+        this.present = origin.present.clone();
+        this.nativeTypes = origin.nativeTypes;
+        this.nativeValues = origin.nativeValues == null ? null : origin.nativeValues.clone();
+        this.projection = origin.projection;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return number of columns
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * Returns the value of cell at the column index.
+     *
+     * @param index column index
+     * @return value of cell
+     */
+    @Nullable
+    public String get(int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value of cell in the column that has the header name.
+     *
+     * @param name header name
+     * @return value of cell, or null if there is no column of the header name
+     */
+    @Nullable
+    public String get(String name) {
+        Integer index = this.indexes.get(name);
+        return index == null ? null : this.values[index];
+    }
+
+    /**
+     * Sets the value of cell at the column index.
+     *
+     * @param index column index
+     * @param value value of cell
+     */
+    public void set(int index, @Nullable String value) {
+        this.values[index] = value;
+        this.present[index] = true;
+    }
+
+    /**
+     * Returns whether the column at the index accepts the type of native value.
+     *
+     * @param index      column index
+     * @param nativeType type of native value
+     * @return whether the native value is accepted
+     */
+    public boolean acceptsNative(int index, NativeType nativeType) {
+        if (this.nativeTypes == null || index >= this.nativeTypes.size()) return false;
+
+        Set<NativeType> types = this.nativeTypes.get(index);
+        return types != null && types.contains(nativeType);
+    }
+
+    /**
+     * Returns the native value of cell in the column that has the header name.
+     *
+     * @param name header name
+     * @return native value of cell, or null if the cell was read as string
+     */
+    @Nullable
+    public Object getNative(String name) {
+        if (this.nativeValues == null) return null;
+
+        Integer index = this.indexes.get(name);
+        return index == null ? null : this.nativeValues[index];
+    }
+
+    /**
+     * Sets the native value of cell at the column index, which is accepted by the column.
+     *
+     * @param index column index
+     * @param value native value of cell
+     * @see #acceptsNative(int, NativeType)
+     */
+    public void setNative(int index, Object value) {
+        this.nativeValues[index] = value;
+        this.present[index] = true;
+    }
+
+    /**
+     * Lets the reader read only the columns that have the header names.
+     *
+     * @param names header names of the columns to be read
+     */
+    public void project(Collection<String> names) {
+        boolean[] projection = new boolean[this.names.size()];
+        for (int i = 0; i < projection.length; i++) {
+            projection[i] = names.contains(this.names.get(i));
+        }
+
+        this.projection = projection;
+    }
+
+    /**
+     * Returns whether the column at the index is read.
+     *
+     * @param index column index
+     * @return whether the column is read
+     * @see #project(Collection)
+     */
+    public boolean isProjected(int index) {
+        return this.projection == null || this.projection[index];
+    }
+
+    /**
+     * Clears the values to reuse this buffer for the next row.
+     */
+    public void clear() {
+        Arrays.fill(this.values, null);
+        Arrays.fill(this.present, false);
+        if (this.nativeValues != null) Arrays.fill(this.nativeValues, null);
+    }
+
+    /**
+     * Returns a copy of this buffer, which shares the table of header names.
+     *
+     * @return copy of this
+     */
+    public ExcelReadRow copy() {
+        return new ExcelReadRow(this);
+    }
+
+    /**
+     * Returns a map in which key is header name and value is value of cell.
+     *
+     * <p> Missing cells are not contained in the map.
+     *
+     * @return map of the row
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.present[i]) {
+                map.put(this.names.get(i), this.values[i]);
+            }
+        }
+
+        return map;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Type of native value of cell.
+     */
+    public enum NativeType {
+        /**
+         * Number, which is read as {@link Double}.
+         */
+        NUMBER(Double.class),
+
+        /**
+         * Boolean, which is read as {@link Boolean}.
+         */
+        BOOLEAN(Boolean.class),
+
+        /**
+         * Number with date format, which is read as {@link LocalDateTime}.
+         */
+        DATE(LocalDateTime.class);
+
+        private final Class<?> javaType;
+
+        NativeType(Class<?> javaType) {
+            this.javaType = javaType;
+        }
+
+        public Class<?> getJavaType() {
+            return this.javaType;
+        }
+    }
+
+}
@@ -21,7 +21,9 @@ import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.converter.in.ExcelReadConverter;
 import com.github.javaxcel.converter.in.ExcelReadExpressionConverter;
 import com.github.javaxcel.converter.in.ExcelReadHandlerConverter;
+import com.github.javaxcel.converter.in.ExcelReadRow;
 import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -34,10 +36,15 @@ public final class ExcelReadConverters implements ExcelReadConverter {
     private final List<ExcelReadConverter> candidates;
 
     public ExcelReadConverters(Iterable<ExcelAnalysis> analyses, ExcelTypeHandlerRegistry registry) {
+        this(analyses, registry, SpelCompilerMode.OFF);
+    }
+
+    public ExcelReadConverters(Iterable<ExcelAnalysis> analyses, ExcelTypeHandlerRegistry registry,
+                               SpelCompilerMode compilerMode) {
         List<ExcelReadConverter> converters = new ArrayList<>();
 
         converters.add(new ExcelReadHandlerConverter(analyses, registry));
-        converters.add(new ExcelReadExpressionConverter(analyses));
+        converters.add(new ExcelReadExpressionConverter(analyses, compilerMode));
 
         this.candidates = Collections.unmodifiableList(converters);
     }
@@ -59,4 +66,34 @@ public final class ExcelReadConverters implements ExcelReadConverter {
         throw new RuntimeException("Never throw");
     }
 
+    @Override
+    public Object convert(ExcelReadRow row, Field field) {
+        for (ExcelReadConverter converter : this.candidates) {
+            if (converter.supports(field)) {
+                return converter.convert(row, field);
+            }
+        }
+
+        throw new RuntimeException("Never throw");
+    }
+
+    /**
+     * Returns the converter that supports the field.
+     *
+     * <p> This is resolved once per field, so that the caller doesn't
+     * look up the candidates for each cell.
+     *
+     * @param field targeted field
+     * @return converter for the field
+     */
+    public ExcelReadConverter getConverter(Field field) {
+        for (ExcelReadConverter converter : this.candidates) {
+            if (converter.supports(field)) {
+                return converter;
+            }
+        }
+
+        throw new RuntimeException("Never throw");
+    }
+
 }
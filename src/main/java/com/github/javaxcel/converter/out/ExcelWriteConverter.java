@@ -18,6 +18,7 @@ package com.github.javaxcel.converter.out;
 
 import com.github.javaxcel.annotation.ExcelColumn;
 import com.github.javaxcel.annotation.ExcelModel;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 import com.github.javaxcel.out.core.ExcelWriter;
 import com.github.javaxcel.out.strategy.impl.DefaultValue;
 import org.jetbrains.annotations.Nullable;
@@ -59,4 +60,64 @@ public interface ExcelWriteConverter {
     @Nullable
     String convert(Object model, Field field);
 
+    /**
+     * Converts a value of the field into a native value of cell.
+     *
+     * <p> If the field is written as native value, this returns {@link Double} or {@link Boolean}.
+     * Otherwise, this returns the same as {@link #convert(Object, Field)}.
+     *
+     * @param model element in list
+     * @param field field of model
+     * @return native value, stringified value of field or default value
+     * @see ExcelNativeTypeHandler
+     */
+    @Nullable
+    default Object convertNative(Object model, Field field) {
+        return convert(model, field);
+    }
+
+    /**
+     * Converts a value of the field into a native value of cell in the scope of the row.
+     *
+     * <p> The scope is shared by all the columns in the same row, so that the converter
+     * resolves the state from the model once per row, not once per cell.
+     * By default, this ignores the scope.
+     *
+     * @param model element in list
+     * @param field field of model
+     * @param scope scope of the row
+     * @return native value, stringified value of field or default value
+     * @see #convertNative(Object, Field)
+     */
+    @Nullable
+    default Object convertNative(Object model, Field field, ExcelWriteRowScope scope) {
+        return convertNative(model, field);
+    }
+
+    /**
+     * Returns whether the field is converted into a numeric value of cell without boxing.
+     *
+     * @param field field of model
+     * @return whether {@link #convertNumeric(Object, Field)} is supported for the field
+     */
+    default boolean supportsNumeric(Field field) {
+        return false;
+    }
+
+    /**
+     * Converts a value of the primitive field into a numeric value of cell without boxing.
+     *
+     * <p> If the value cannot be represented as numeric value of cell, this returns {@link Double#NaN}.
+     * Then the caller should write it through {@link #convertNative(Object, Field)}.
+     *
+     * @param model element in list
+     * @param field field of model
+     * @return numeric value of cell, or {@link Double#NaN}
+     * @throws UnsupportedOperationException if the field is not supported
+     * @see #supportsNumeric(Field)
+     */
+    default double convertNumeric(Object model, Field field) {
+        throw new UnsupportedOperationException("Not supported numeric value of the field: " + field);
+    }
+
 }
@@ -16,6 +16,8 @@
 
 package com.github.javaxcel.converter.out;
 
+import com.github.javaxcel.accessor.FieldAccessor;
+import com.github.javaxcel.accessor.FieldAccessorFactory;
 import com.github.javaxcel.analysis.ExcelAnalysis;
 import com.github.javaxcel.analysis.ExcelAnalysis.DefaultMeta;
 import com.github.javaxcel.analysis.ExcelAnalysis.DefaultMeta.Source;
@@ -23,43 +25,67 @@ import com.github.javaxcel.analysis.out.ExcelWriteAnalyzer;
 import com.github.javaxcel.annotation.ExcelWriteExpression;
 import com.github.javaxcel.util.FieldUtils;
 import io.github.imsejin.common.assertion.Asserts;
-import io.github.imsejin.common.util.ReflectionUtils;
 import io.github.imsejin.common.util.StringUtils;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
 
     private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
-    private final List<Field> fields;
+    private final VariableTable fieldVariables;
 
-    private final Map<Field, Method> getterMap;
+    private final VariableTable getterVariables;
 
     private final Map<Field, Cache> analysisMap;
 
     public ExcelWriteExpressionConverter(Iterable<ExcelAnalysis> analyses) {
+        this(analyses, FieldAccessorFactory.DEFAULT);
+    }
+
+    public ExcelWriteExpressionConverter(Iterable<ExcelAnalysis> analyses, FieldAccessorFactory accessorFactory) {
+        this(analyses, accessorFactory, SpelCompilerMode.OFF);
+    }
+
+    /**
+     * @param analyses        analyses of the fields
+     * @param accessorFactory factory for accessors to the fields
+     * @param compilerMode    compiler mode of expressions
+     * @see SpelCompilerMode
+     */
+    public ExcelWriteExpressionConverter(Iterable<ExcelAnalysis> analyses, FieldAccessorFactory accessorFactory,
+                                         SpelCompilerMode compilerMode) {
         Asserts.that(analyses)
                 .describedAs("ExcelWriteExpressionConverter.analyses is not allowed to be null")
                 .isNotNull()
                 .describedAs("ExcelWriteExpressionConverter.analyses is not allowed to be empty")
                 .is(them -> them.iterator().hasNext());
+        Asserts.that(accessorFactory)
+                .describedAs("ExcelWriteExpressionConverter.accessorFactory is not allowed to be null")
+                .isNotNull();
+        Asserts.that(compilerMode)
+                .describedAs("ExcelWriteExpressionConverter.compilerMode is not allowed to be null")
+                .isNotNull();
+
+        ExpressionParser expressionParser = createExpressionParser(analyses, compilerMode);
 
-        List<Field> fields = new ArrayList<>();
-        Map<Field, Method> getterMap = new HashMap<>();
+        List<FieldAccessor> fieldAccessors = new ArrayList<>();
+        List<FieldAccessor> getterAccessors = new ArrayList<>();
         Map<Field, Cache> analysisMap = new HashMap<>();
 
         for (ExcelAnalysis analysis : analyses) {
@@ -72,7 +98,7 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
                 // BECAUSE THE ANNOTATION HAS ONLY ONE MANDATORY ATTRIBUTE.
                 // THIS CLASS IS RESPONSIBLE FOR INFORMING USER OF FAILURE OF PARSING EXPRESSION.
                 ExcelWriteExpression annotation = field.getAnnotation(ExcelWriteExpression.class);
-                cache.expression = EXPRESSION_PARSER.parseExpression(annotation.value());
+                cache.expression = expressionParser.parseExpression(annotation.value());
 
                 // HOWEVER, @ExcelColumn.defaultValue IS NOT MANDATORY ATTRIBUTE
                 // AND ALSO THE ANNOTATION CAN BE USED FOR OTHER PURPOSES.
@@ -80,22 +106,22 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
                 DefaultMeta defaultMeta = analysis.getDefaultMeta();
                 String defaultValue = defaultMeta.getValue();
                 if (defaultMeta.getSource() == Source.COLUMN && !StringUtils.isNullOrEmpty(defaultValue)) {
-                    cache.expressionForDefault = EXPRESSION_PARSER.parseExpression(defaultValue);
+                    cache.expressionForDefault = expressionParser.parseExpression(defaultValue);
                 }
             }
 
-            // Makes getter a cache.
+            // Makes accessors a cache.
             if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
                 Method getter = FieldUtils.resolveGetter(field);
-                getterMap.put(field, getter);
+                getterAccessors.add(accessorFactory.create(field, getter, null));
             }
 
-            fields.add(field);
+            fieldAccessors.add(accessorFactory.create(field, null, null));
             analysisMap.put(field, cache);
         }
 
-        this.fields = Collections.unmodifiableList(fields);
-        this.getterMap = Collections.unmodifiableMap(getterMap);
+        this.fieldVariables = new VariableTable(fieldAccessors);
+        this.getterVariables = new VariableTable(getterAccessors);
         this.analysisMap = Collections.unmodifiableMap(analysisMap);
     }
 
@@ -111,13 +137,25 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
     @Nullable
     @Override
     public String convert(Object model, Field field) {
-        // Don't set root object to prevent user from assigning value
-        // to the field of model with the way we don't intend.
-        EvaluationContext context = new StandardEvaluationContext();
+        return convertNative(model, field, new ExcelWriteRowScope());
+    }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p> The values of fields are read lazily and shared by all the expressions in the same row,
+     * so only the fields referenced by the expressions are read once per row.
+     */
+    @Nullable
+    @Override
+    public String convertNative(Object model, Field field, ExcelWriteRowScope scope) {
         // Enables to use value of the field as "#FIELD_NAME" in @ExcelWriteExpression.
-        Map<String, Object> variables = getVariablesOf(model, field);
-        variables.forEach(context::setVariable);
+        VariableTable table = getVariableTableOf(field);
+        RowVariables variables = scope.computeIfAbsent(table, key -> new RowVariables(table, model));
+
+        // Don't set root object to prevent user from assigning value
+        // to the field of model with the way we don't intend.
+        EvaluationContext context = new RowEvaluationContext(variables);
 
         Cache cache = this.analysisMap.get(field);
         Object value = cache.expression.getValue(context);
@@ -150,28 +188,32 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
 
     // -------------------------------------------------------------------------------------------------
 
-    private Map<String, Object> getVariablesOf(Object model, Field field) {
+    private VariableTable getVariableTableOf(Field field) {
         ExcelAnalysis analysis = this.analysisMap.get(field).analysis;
 
         if (analysis.hasFlag(ExcelWriteAnalyzer.FIELD_ACCESS)) {
-            return FieldUtils.toMap(model, this.fields);
+            return this.fieldVariables;
 
         } else if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
-            Map<String, Object> variables = new HashMap<>();
-            for (Entry<Field, Method> entry : this.getterMap.entrySet()) {
-                Method getter = entry.getValue();
-                Object value = ReflectionUtils.invoke(getter, model);
-
-                variables.put(entry.getKey().getName(), value);
-            }
-
-            return variables;
+            return this.getterVariables;
 
         } else {
             throw new RuntimeException("Never throw; ExcelWriteAnalyzer adds the flags into each analysis");
         }
     }
 
+    private static ExpressionParser createExpressionParser(Iterable<ExcelAnalysis> analyses, SpelCompilerMode compilerMode) {
+        if (compilerMode == SpelCompilerMode.OFF) {
+            return EXPRESSION_PARSER;
+        }
+
+        // Compiled expression is loaded by child of the class loader,
+        // so the class loader must see the types of fields in the model.
+        ClassLoader classLoader = analyses.iterator().next().getField().getDeclaringClass().getClassLoader();
+
+        return new SpelExpressionParser(new SpelParserConfiguration(compilerMode, classLoader));
+    }
+
     private static boolean isNullOrEmpty(@Nullable Object object) {
         if (object == null) {
             return true;
@@ -184,6 +226,77 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
         return false;
     }
 
+    /**
+     * Names of variables and accessors to their values, which is resolved once.
+     */
+    private static class VariableTable {
+        private final FieldAccessor[] accessors;
+        private final Map<String, Integer> indexes;
+
+        private VariableTable(List<FieldAccessor> accessors) {
+            Map<String, Integer> indexes = new HashMap<>();
+            for (int i = 0; i < accessors.size(); i++) {
+                indexes.put(accessors.get(i).getField().getName(), i);
+            }
+
+            this.accessors = accessors.toArray(new FieldAccessor[0]);
+            this.indexes = Collections.unmodifiableMap(indexes);
+        }
+    }
+
+    /**
+     * Values of variables for a model, which are read on demand.
+     */
+    private static class RowVariables {
+        private static final Object UNRESOLVED = new Object();
+
+        private final VariableTable table;
+        private final Object model;
+        private final Object[] values;
+
+        private RowVariables(VariableTable table, Object model) {
+            this.table = table;
+            this.model = model;
+            this.values = new Object[table.accessors.length];
+            Arrays.fill(this.values, UNRESOLVED);
+        }
+
+        @Nullable
+        private Object get(String name) {
+            Integer index = this.table.indexes.get(name);
+            if (index == null) {
+                return null;
+            }
+
+            Object value = this.values[index];
+            if (value == UNRESOLVED) {
+                value = this.table.accessors[index].get(this.model);
+                this.values[index] = value;
+            }
+
+            return value;
+        }
+    }
+
+    /**
+     * Evaluation context that resolves the variables of fields on demand.
+     */
+    private static class RowEvaluationContext extends StandardEvaluationContext {
+        private final RowVariables variables;
+
+        private RowEvaluationContext(RowVariables variables) {
+            this.variables = variables;
+        }
+
+        @Nullable
+        @Override
+        public Object lookupVariable(String name) {
+            // Prefers the variable assigned in expression.
+            Object value = super.lookupVariable(name);
+            return value == null ? this.variables.get(name) : value;
+        }
+    }
+
     private static class Cache {
         private final ExcelAnalysis analysis;
         @Nullable
@@ -16,14 +16,19 @@
 
 package com.github.javaxcel.converter.out;
 
+import com.github.javaxcel.accessor.FieldAccessor;
+import com.github.javaxcel.accessor.FieldAccessorFactory;
 import com.github.javaxcel.analysis.ExcelAnalysis;
 import com.github.javaxcel.analysis.out.ExcelWriteAnalyzer;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 import com.github.javaxcel.converter.handler.ExcelTypeHandler;
+import com.github.javaxcel.converter.handler.impl.lang.DoubleTypeHandler;
+import com.github.javaxcel.converter.handler.impl.lang.IntegerTypeHandler;
+import com.github.javaxcel.converter.handler.impl.lang.LongTypeHandler;
 import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.util.FieldUtils;
 import io.github.imsejin.common.assertion.Asserts;
 import io.github.imsejin.common.util.ClassUtils;
-import io.github.imsejin.common.util.ReflectionUtils;
 import io.github.imsejin.common.util.StringUtils;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,18 +37,32 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 public class ExcelWriteHandlerConverter implements ExcelWriteConverter {
 
     private final ExcelTypeHandlerRegistry registry;
 
-    private final Map<Field, Method> getterMap;
+    private final Map<Field, FieldAccessor> accessorMap;
 
     private final Map<Field, ExcelAnalysis> analysisMap;
 
+    private final Map<Field, ExcelNativeTypeHandler<?>> nativeHandlerMap;
+
+    /**
+     * Fields of primitive type, whose values are written as numeric value without boxing.
+     */
+    private final Set<Field> numericFields;
+
     public ExcelWriteHandlerConverter(Iterable<ExcelAnalysis> analyses, ExcelTypeHandlerRegistry registry) {
+        this(analyses, registry, FieldAccessorFactory.DEFAULT);
+    }
+
+    public ExcelWriteHandlerConverter(Iterable<ExcelAnalysis> analyses, ExcelTypeHandlerRegistry registry,
+                                      FieldAccessorFactory accessorFactory) {
         Asserts.that(analyses)
                 .describedAs("ExcelWriteHandlerConverter.analyses is not allowed to be null")
                 .isNotNull()
@@ -54,26 +73,76 @@ public class ExcelWriteHandlerConverter implements ExcelWriteConverter {
                 .isNotNull()
                 .describedAs("ExcelWriteHandlerConverter.registry.allTypes is not allowed to be null")
                 .isNot(it -> it.getAllTypes() == null);
+        Asserts.that(accessorFactory)
+                .describedAs("ExcelWriteHandlerConverter.accessorFactory is not allowed to be null")
+                .isNotNull();
 
         this.registry = registry;
 
-        Map<Field, Method> getterMap = new HashMap<>();
+        Map<Field, FieldAccessor> accessorMap = new HashMap<>();
         Map<Field, ExcelAnalysis> analysisMap = new HashMap<>();
+        Map<Field, ExcelNativeTypeHandler<?>> nativeHandlerMap = new HashMap<>();
+        Set<Field> numericFields = new HashSet<>();
 
         for (ExcelAnalysis analysis : analyses) {
             Field field = analysis.getField();
 
-            // Makes getter a cache.
-            if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
-                Method getter = FieldUtils.resolveGetter(field);
-                getterMap.put(field, getter);
+            // Makes handler for native value a cache.
+            ExcelNativeTypeHandler<?> nativeHandler = resolveNativeHandler(analysis);
+            if (nativeHandler != null) {
+                nativeHandlerMap.put(field, nativeHandler);
+
+                if (isNumericHandler(field.getType(), nativeHandler)) {
+                    numericFields.add(field);
+                }
             }
 
+            // Makes accessor a cache.
+            Method getter = analysis.hasFlag(ExcelWriteAnalyzer.GETTER) ? FieldUtils.resolveGetter(field) : null;
+            accessorMap.put(field, accessorFactory.create(field, getter, null));
+
             analysisMap.put(field, analysis);
         }
 
-        this.getterMap = Collections.unmodifiableMap(getterMap);
+        this.accessorMap = Collections.unmodifiableMap(accessorMap);
         this.analysisMap = Collections.unmodifiableMap(analysisMap);
+        this.nativeHandlerMap = Collections.unmodifiableMap(nativeHandlerMap);
+        this.numericFields = Collections.unmodifiableSet(numericFields);
+    }
+
+    /**
+     * Returns whether the handler is the built-in one for the primitive type,
+     * whose native value is the number as it is.
+     */
+    private static boolean isNumericHandler(Class<?> type, ExcelNativeTypeHandler<?> handler) {
+        Class<?> handlerType = handler.getClass();
+
+        if (type == int.class) return handlerType == IntegerTypeHandler.class;
+        if (type == long.class) return handlerType == LongTypeHandler.class;
+        if (type == double.class) return handlerType == DoubleTypeHandler.class;
+
+        return false;
+    }
+
+    /**
+     * Returns the handler that writes native value of the field.
+     *
+     * @param analysis analysis of the field
+     * @return handler for native value, or null if the field is not written as native value
+     */
+    @Nullable
+    public static ExcelNativeTypeHandler<?> resolveNativeHandler(ExcelAnalysis analysis) {
+        if (!analysis.hasFlag(ExcelWriteAnalyzer.NATIVE) || !analysis.doesHandlerResolved()) {
+            return null;
+        }
+
+        ExcelTypeHandler<?> handler = analysis.getHandler();
+        if (!(handler instanceof ExcelNativeTypeHandler)) {
+            return null;
+        }
+
+        ExcelNativeTypeHandler<?> nativeHandler = (ExcelNativeTypeHandler<?>) handler;
+        return nativeHandler.supportsNative(analysis.getField()) ? nativeHandler : null;
     }
 
     @Override
@@ -108,22 +177,81 @@ public class ExcelWriteHandlerConverter implements ExcelWriteConverter {
         return handleInternal(field, type, value);
     }
 
-    // -------------------------------------------------------------------------------------------------
-
+    /**
+     * {@inheritDoc}
+     */
     @Nullable
-    private Object getValueOf(Object model, Field field) {
-        ExcelAnalysis analysis = this.analysisMap.get(field);
+    @Override
+    public Object convertNative(Object model, Field field) {
+        ExcelNativeTypeHandler<?> handler = this.nativeHandlerMap.get(field);
+        if (handler == null) {
+            return convert(model, field);
+        }
 
-        if (analysis.hasFlag(ExcelWriteAnalyzer.FIELD_ACCESS)) {
-            return ReflectionUtils.getFieldValue(model, field);
+        // Gets property value of model.
+        Object value = getValueOf(model, field);
 
-        } else if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
-            Method getter = this.getterMap.get(field);
-            return ReflectionUtils.invoke(getter, model);
+        // Returns default value if the value is null or empty string.
+        if (isNullOrEmpty(value)) {
+            ExcelAnalysis analysis = this.analysisMap.get(field);
+            return StringUtils.ifNullOrEmpty(analysis.getDefaultMeta().getValue(), (String) null);
+        }
 
-        } else {
-            throw new RuntimeException("Never throw; ExcelWriteAnalyzer adds the flags into each analysis");
+        Object nativeValue;
+        try {
+            nativeValue = handler.writeNative(value, field);
+        } catch (Exception e) {
+            String message = String.format("Failed to convert %s(%s) to native value", value, field.getType().getSimpleName());
+            throw new RuntimeException(message, e);
+        }
+
+        // Writes the value as a string, when it cannot be represented as native value.
+        return nativeValue == null ? handleInternal(field, field.getType(), value) : nativeValue;
+    }
+
+    @Override
+    public boolean supportsNumeric(Field field) {
+        return this.numericFields.contains(field);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> This gets the value through the primitive-specialized getter of accessor,
+     * so that the value is never boxed. The primitive value has no default value,
+     * because it is never null.
+     */
+    @Override
+    public double convertNumeric(Object model, Field field) {
+        if (!this.numericFields.contains(field)) {
+            return ExcelWriteConverter.super.convertNumeric(model, field);
         }
+
+        FieldAccessor accessor = this.accessorMap.get(field);
+        Class<?> type = field.getType();
+
+        if (type == int.class) {
+            return accessor.getInt(model);
+        }
+
+        if (type == long.class) {
+            // Excel can't represent a number exceeding 15 significant digits.
+            long number = accessor.getLong(model);
+            return number > LongTypeHandler.MAX_SIGNIFICAND || number < -LongTypeHandler.MAX_SIGNIFICAND
+                    ? Double.NaN : number;
+        }
+
+        double number = accessor.getDouble(model);
+        return Double.isInfinite(number) ? Double.NaN : number;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @Nullable
+    private Object getValueOf(Object model, Field field) {
+        // Accessor gets the value through getter or access to field, following the flags of analysis.
+        FieldAccessor accessor = this.accessorMap.get(field);
+        return accessor.get(model);
     }
 
     private static boolean isNullOrEmpty(@Nullable Object object) {
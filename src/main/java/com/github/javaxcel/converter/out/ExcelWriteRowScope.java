@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.converter.out;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Scope of a row, which is shared by the converters of all the columns in the row.
+ *
+ * <p> Converter can keep the state resolved from a model in this scope,
+ * so that the other columns in the same row reuse it instead of resolving it again.
+ * A row is written by a single thread, so this is not thread-safe.
+ *
+ * @see ExcelWriteConverter#convertNative(Object, Field, ExcelWriteRowScope)
+ */
+public final class ExcelWriteRowScope {
+
+    @Nullable
+    private Map<Object, Object> attributes;
+
+    /**
+     * Returns the attribute of the key, or computes it if absent.
+     *
+     * @param key             key of attribute, which is compared by identity
+     * @param mappingFunction function to compute the attribute
+     * @param <V>             type of attribute
+     * @return attribute of the key
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V computeIfAbsent(Object key, Function<Object, V> mappingFunction) {
+        // Most rows don't need any attribute, so creates the map lazily.
+        if (this.attributes == null) {
+            this.attributes = new IdentityHashMap<>(4);
+        }
+
+        return (V) this.attributes.computeIfAbsent(key, mappingFunction);
+    }
+
+}
@@ -16,12 +16,15 @@
 
 package com.github.javaxcel.converter.out.support;
 
+import com.github.javaxcel.accessor.FieldAccessorFactory;
 import com.github.javaxcel.analysis.ExcelAnalysis;
 import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.converter.out.ExcelWriteConverter;
 import com.github.javaxcel.converter.out.ExcelWriteExpressionConverter;
 import com.github.javaxcel.converter.out.ExcelWriteHandlerConverter;
+import com.github.javaxcel.converter.out.ExcelWriteRowScope;
 import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -33,10 +36,20 @@ public final class ExcelWriteConverters implements ExcelWriteConverter {
     private final List<ExcelWriteConverter> candidates;
 
     public ExcelWriteConverters(Iterable<ExcelAnalysis> analyses, ExcelTypeHandlerRegistry registry) {
+        this(analyses, registry, FieldAccessorFactory.DEFAULT);
+    }
+
+    public ExcelWriteConverters(Iterable<ExcelAnalysis> analyses, ExcelTypeHandlerRegistry registry,
+                                FieldAccessorFactory accessorFactory) {
+        this(analyses, registry, accessorFactory, SpelCompilerMode.OFF);
+    }
+
+    public ExcelWriteConverters(Iterable<ExcelAnalysis> analyses, ExcelTypeHandlerRegistry registry,
+                                FieldAccessorFactory accessorFactory, SpelCompilerMode compilerMode) {
         List<ExcelWriteConverter> converters = new ArrayList<>();
 
-        converters.add(new ExcelWriteHandlerConverter(analyses, registry));
-        converters.add(new ExcelWriteExpressionConverter(analyses));
+        converters.add(new ExcelWriteHandlerConverter(analyses, registry, accessorFactory));
+        converters.add(new ExcelWriteExpressionConverter(analyses, accessorFactory, compilerMode));
 
         this.candidates = Collections.unmodifiableList(converters);
     }
@@ -58,4 +71,55 @@ public final class ExcelWriteConverters implements ExcelWriteConverter {
         throw new RuntimeException("Never throw");
     }
 
+    @Override
+    public Object convertNative(Object model, Field field) {
+        for (ExcelWriteConverter converter : this.candidates) {
+            if (converter.supports(field)) {
+                return converter.convertNative(model, field);
+            }
+        }
+
+        throw new RuntimeException("Never throw");
+    }
+
+    @Override
+    public Object convertNative(Object model, Field field, ExcelWriteRowScope scope) {
+        for (ExcelWriteConverter converter : this.candidates) {
+            if (converter.supports(field)) {
+                return converter.convertNative(model, field, scope);
+            }
+        }
+
+        throw new RuntimeException("Never throw");
+    }
+
+    @Override
+    public boolean supportsNumeric(Field field) {
+        return getConverter(field).supportsNumeric(field);
+    }
+
+    @Override
+    public double convertNumeric(Object model, Field field) {
+        return getConverter(field).convertNumeric(model, field);
+    }
+
+    /**
+     * Returns the converter that supports the field.
+     *
+     * <p> This is resolved once per field, so that the caller doesn't
+     * look up the candidates for each cell.
+     *
+     * @param field targeted field
+     * @return converter for the field
+     */
+    public ExcelWriteConverter getConverter(Field field) {
+        for (ExcelWriteConverter converter : this.candidates) {
+            if (converter.supports(field)) {
+                return converter;
+            }
+        }
+
+        throw new RuntimeException("Never throw");
+    }
+
 }
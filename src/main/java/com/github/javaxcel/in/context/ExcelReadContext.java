@@ -25,6 +25,7 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -62,13 +63,32 @@ public class ExcelReadContext<T> {
      */
     private int readCount;
 
+    /**
+     * Time spent to evaluate formulas in nanoseconds.
+     */
+    private long formulaEvaluationNanos;
+
     private Sheet sheet;
     private List<T> chunk;
 
     public ExcelReadContext(Workbook workbook, Class<T> modelType, Class<? extends ExcelReader<T>> readerType) {
+        this(modelType, readerType, workbook);
         Asserts.that(workbook)
                 .describedAs("ExcelReadContext.workbook is not allowed to be null")
                 .isNotNull();
+    }
+
+    /**
+     * Creates a context for the reader that doesn't load {@link Workbook}, such as streaming reader.
+     *
+     * @param modelType  type of model
+     * @param readerType type of reader
+     */
+    public ExcelReadContext(Class<T> modelType, Class<? extends ExcelReader<T>> readerType) {
+        this(modelType, readerType, null);
+    }
+
+    private ExcelReadContext(Class<T> modelType, Class<? extends ExcelReader<T>> readerType, @Nullable Workbook workbook) {
         Asserts.that(modelType)
                 .describedAs("ExcelReadContext.modelType is not allowed to be null")
                 .isNotNull();
@@ -83,7 +103,12 @@ public class ExcelReadContext<T> {
         this.readerType = readerType;
     }
 
-    @NotNull
+    /**
+     * Returns the workbook, which is null when the reader doesn't load it.
+     *
+     * @return workbook
+     */
+    @Nullable
     public Workbook getWorkbook() {
         return this.workbook;
     }
@@ -151,6 +176,35 @@ public class ExcelReadContext<T> {
         this.readCount++;
     }
 
+    /**
+     * Increases the number of models read by the given count,
+     * such as the count of the sheet read concurrently.
+     *
+     * @param count the number of models read
+     */
+    public void increaseReadCount(int count) {
+        this.readCount += count;
+    }
+
+    /**
+     * Returns the time spent to evaluate formulas of the cells read.
+     *
+     * @return time spent to evaluate formulas
+     * @see com.github.javaxcel.in.strategy.impl.FormulaEvaluation
+     */
+    public Duration getFormulaEvaluationTime() {
+        return Duration.ofNanos(this.formulaEvaluationNanos);
+    }
+
+    /**
+     * Adds the time spent to evaluate formulas.
+     *
+     * @param nanos time in nanoseconds
+     */
+    public void addFormulaEvaluationTime(long nanos) {
+        this.formulaEvaluationNanos += nanos;
+    }
+
     @Nullable
     public List<T> getChunk() {
         return this.chunk;
@@ -16,32 +16,50 @@
 
 package com.github.javaxcel.in.core;
 
+import com.github.javaxcel.converter.in.ExcelReadRow;
+import com.github.javaxcel.converter.in.ExcelReadRow.NativeType;
 import com.github.javaxcel.in.context.ExcelReadContext;
 import com.github.javaxcel.in.lifecycle.ExcelReadLifecycle;
 import com.github.javaxcel.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.in.strategy.impl.ConcurrentSheets;
+import com.github.javaxcel.in.strategy.impl.Filter;
+import com.github.javaxcel.in.strategy.impl.FormulaEvaluation;
+import com.github.javaxcel.in.strategy.impl.FormulaEvaluation.Policy;
 import com.github.javaxcel.in.strategy.impl.KeyNames;
 import com.github.javaxcel.in.strategy.impl.Limit;
+import com.github.javaxcel.in.strategy.impl.Offset;
+import com.github.javaxcel.in.strategy.impl.Parallel;
+import com.github.javaxcel.in.strategy.impl.Projection;
 import com.github.javaxcel.util.ExcelUtils;
 import io.github.imsejin.common.assertion.Asserts;
 import io.github.imsejin.common.util.ArrayUtils;
 import io.github.imsejin.common.util.CollectionUtils;
 import io.github.imsejin.common.util.StringUtils;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.CreationHelper;
 import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
 import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static java.util.stream.Collectors.toMap;
@@ -54,7 +72,7 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
     /**
      * Formatter that stringifies the value in a cell with {@link FormulaEvaluator}.
      *
-     * @see #readRow(Row)
+     * @see #readRow(Row, ExcelReadRow, DataFormatter, FormulaEvaluator, Policy, ExcelReadContext)
      */
     private static final DataFormatter DATA_FORMATTER = new DataFormatter();
 
@@ -63,7 +81,7 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
      *
      * @see Workbook#getCreationHelper()
      * @see CreationHelper#createFormulaEvaluator()
-     * @see #readRow(Row)
+     * @see #readRow(Row, ExcelReadRow, DataFormatter, FormulaEvaluator, Policy, ExcelReadContext)
      */
     private final FormulaEvaluator formulaEvaluator;
 
@@ -72,6 +90,20 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
      */
     private int limit = -1;
 
+    /**
+     * The number of rows that remain to be skipped before reading.
+     *
+     * @see Offset
+     */
+    private int rowsToSkip;
+
+    /**
+     * The number of rows to be skipped in each sheet read concurrently.
+     *
+     * @see ConcurrentSheets
+     */
+    private final Map<Sheet, Integer> rowsToSkipPerSheet = new IdentityHashMap<>();
+
     private final ExcelReadContext<T> context;
 
     @SuppressWarnings("unchecked")
@@ -125,14 +157,27 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
         this.context.setList(list);
 
         resolveLimit();
+        resolveOffset();
         resolveHeaderNames();
 
         // Lifecycle method.
         prepare(this.context);
 
         List<Sheet> sheets = ExcelUtils.getSheets(this.context.getWorkbook());
+
+        ExcelReadStrategy concurrentSheets = this.context.getStrategyMap().get(ConcurrentSheets.class);
+        if (concurrentSheets != null && sheets.size() > 1) {
+            readSheetsConcurrently(sheets, (Executor) concurrentSheets.execute(this.context));
+
+            // Lifecycle method.
+            complete(this.context);
+
+            return list;
+        }
+
         for (Sheet sheet : sheets) {
             if (this.context.getReadCount() == this.limit) break;
+            if (skipSheetBeforeOffset(sheet)) continue;
 
             this.context.setSheet(sheet);
 
@@ -140,11 +185,7 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
             preReadSheet(this.context);
 
             // Resolve header names if you don't give the option.
-            List<String> headerNames = this.context.getHeaderNames().isEmpty()
-                    ? readHeader(this.context) : Collections.emptyList();
-            if (CollectionUtils.exists(headerNames)) {
-                this.context.setHeaderNames(headerNames);
-            }
+            readHeaderIfAbsent(this.context);
 
             List<T> chunk = readBody(this.context);
             this.context.setChunk(chunk);
@@ -160,6 +201,173 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
         return list;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p> A batch doesn't span sheets, so the last batch of each sheet can be smaller than the batch size.
+     */
+    @Override
+    public final void read(int batchSize, Consumer<List<T>> consumer) {
+        Asserts.that(batchSize)
+                .describedAs("batchSize must be positive, but it isn't: {0}", batchSize)
+                .isPositive();
+        Asserts.that(consumer)
+                .describedAs("consumer is not allowed to be null")
+                .isNotNull();
+
+        resolveLimit();
+        resolveOffset();
+        resolveHeaderNames();
+
+        // Lifecycle method.
+        prepare(this.context);
+
+        // Reuses the list for all the batches.
+        List<T> batch = new ArrayList<>(batchSize);
+        List<T> readOnlyBatch = Collections.unmodifiableList(batch);
+
+        List<Sheet> sheets = ExcelUtils.getSheets(this.context.getWorkbook());
+        for (Sheet sheet : sheets) {
+            if (this.context.getReadCount() == this.limit) break;
+            if (skipSheetBeforeOffset(sheet)) continue;
+
+            this.context.setSheet(sheet);
+
+            // Lifecycle method.
+            preReadSheet(this.context);
+
+            // Resolve header names if you don't give the option.
+            readHeaderIfAbsent(this.context);
+
+            readBodyAsRows(this.context, row -> {
+                // Lifecycle method.
+                if (batch.isEmpty()) preReadBatch(this.context);
+
+                batch.add(readModel(row));
+
+                if (batch.size() == batchSize) {
+                    flushBatch(batch, readOnlyBatch, consumer);
+                }
+            });
+
+            if (!batch.isEmpty()) {
+                flushBatch(batch, readOnlyBatch, consumer);
+            }
+
+            // Lifecycle method.
+            postReadSheet(this.context);
+        }
+
+        // Lifecycle method.
+        complete(this.context);
+    }
+
+    /**
+     * Reads the sheets concurrently, and merges the models in order of the sheets.
+     *
+     * <p> Each sheet reads the models up to the limit, and the merge stops at the limit,
+     * so the models are the same as the ones read sequentially. The lifecycle methods
+     * are invoked on the current thread; only the bodies are read on the executor.
+     *
+     * @param sheets   visible sheets
+     * @param executor executor that reads the bodies of sheets
+     */
+    private void readSheetsConcurrently(List<Sheet> sheets, Executor executor) {
+        List<ExcelReadContext<T>> contexts = new ArrayList<>(sheets.size());
+        for (Sheet sheet : sheets) {
+            if (skipSheetBeforeOffset(sheet)) continue;
+
+            // Only the first sheet after the offset has the rows to be skipped.
+            this.rowsToSkipPerSheet.put(sheet, this.rowsToSkip);
+            this.rowsToSkip = 0;
+
+            ExcelReadContext<T> sheetContext = copyContext(sheet);
+
+            // Lifecycle method.
+            preReadSheet(sheetContext);
+
+            // Resolve header names if you don't give the option.
+            readHeaderIfAbsent(sheetContext);
+            if (!this.context.getHeaderNames().isEmpty()) {
+                sheetContext.setHeaderNames(this.context.getHeaderNames());
+            }
+
+            contexts.add(sheetContext);
+        }
+
+        CompletableFuture<?>[] futures = contexts.stream()
+                .map(it -> CompletableFuture.runAsync(() -> it.setChunk(readBody(it)), executor))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            // Throws the exception from converter as it is.
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw e;
+        } finally {
+            this.rowsToSkipPerSheet.clear();
+        }
+
+        List<T> list = this.context.getList();
+        for (ExcelReadContext<T> sheetContext : contexts) {
+            // Discards the models after the limit, which are read by the later sheets.
+            List<T> chunk = sheetContext.getChunk();
+            if (this.limit != -1 && list.size() + chunk.size() > this.limit) {
+                chunk = chunk.subList(0, this.limit - list.size());
+                sheetContext.setChunk(chunk);
+            }
+
+            list.addAll(chunk);
+            this.context.increaseReadCount(chunk.size());
+            this.context.addFormulaEvaluationTime(sheetContext.getFormulaEvaluationTime().toNanos());
+
+            // Lifecycle method.
+            postReadSheet(sheetContext);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ExcelReadContext<T> copyContext(Sheet sheet) {
+        Class<? extends ExcelReader<T>> readerType = (Class<? extends ExcelReader<T>>) this.context.getReaderType();
+        ExcelReadContext<T> copy = new ExcelReadContext<>(this.context.getWorkbook(), this.context.getModelType(), readerType);
+
+        // Sheets read concurrently are not converted in parallel again.
+        Map<Class<? extends ExcelReadStrategy>, ExcelReadStrategy> strategyMap = new HashMap<>(this.context.getStrategyMap());
+        strategyMap.remove(Parallel.class);
+        copy.setStrategyMap(Collections.unmodifiableMap(strategyMap));
+
+        copy.setList(this.context.getList());
+        copy.setSheet(sheet);
+
+        return copy;
+    }
+
+    private void readHeaderIfAbsent(ExcelReadContext<T> context) {
+        if (!this.context.getHeaderNames().isEmpty()) return;
+
+        List<String> headerNames = readHeader(context);
+        if (CollectionUtils.exists(headerNames)) {
+            this.context.setHeaderNames(headerNames);
+        }
+    }
+
+    private void flushBatch(List<T> batch, List<T> readOnlyBatch, Consumer<List<T>> consumer) {
+        this.context.setChunk(readOnlyBatch);
+
+        // Lifecycle method.
+        postReadBatch(this.context);
+
+        consumer.accept(readOnlyBatch);
+
+        // Releases the models before reading the next batch.
+        batch.clear();
+    }
+
     private void resolveLimit() {
         ExcelReadStrategy strategy = this.context.getStrategyMap().get(Limit.class);
         if (strategy == null) return;
@@ -167,6 +375,30 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
         this.limit = (int) strategy.execute(this.context);
     }
 
+    private void resolveOffset() {
+        ExcelReadStrategy strategy = this.context.getStrategyMap().get(Offset.class);
+        if (strategy == null) return;
+
+        this.rowsToSkip = (int) strategy.execute(this.context);
+    }
+
+    /**
+     * Skips the whole sheet if all of its rows are before the offset.
+     *
+     * @param sheet sheet
+     * @return whether the sheet is skipped
+     */
+    private boolean skipSheetBeforeOffset(Sheet sheet) {
+        if (this.rowsToSkip == 0) return false;
+
+        int numOfRows = sheet.getPhysicalNumberOfRows();
+        if (sheet.getRow(0) != null) numOfRows--;
+        if (numOfRows > this.rowsToSkip) return false;
+
+        this.rowsToSkip -= numOfRows;
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     private void resolveHeaderNames() {
         ExcelReadStrategy strategy = this.context.getStrategyMap().get(KeyNames.class);
@@ -179,35 +411,89 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
     /**
      * Reads the body part of sheet and returns maps.
      *
-     * @param sheet Excel sheet
+     * @param context context with current sheet
      * @return models read as map
      */
-    protected final List<Map<String, String>> readBodyAsMaps(Sheet sheet) {
+    protected final List<Map<String, String>> readBodyAsMaps(ExcelReadContext<T> context) {
         List<Map<String, String>> maps = new ArrayList<>();
-        for (Row row : sheet) {
+        readBodyAsRows(context, row -> maps.add(Collections.unmodifiableMap(row.toMap())));
+
+        return Collections.unmodifiableList(maps);
+    }
+
+    /**
+     * Reads the body part of sheet into the buffer of row, and passes it to the action for each row.
+     *
+     * <p> The buffer is reused for each row, so the action must copy it
+     * with {@link ExcelReadRow#copy()} to keep it after the action returns.
+     *
+     * @param context context with current sheet
+     * @param action  action for each row
+     */
+    protected final void readBodyAsRows(ExcelReadContext<T> context, Consumer<ExcelReadRow> action) {
+        // Computes the table of header names to column indexes once per sheet.
+        ExcelReadRow buffer = createRowBuffer(context.getHeaderNames());
+        Collection<String> projection = resolveProjection(context);
+        if (projection != null) {
+            buffer.project(projection);
+        }
+
+        // The sheets read concurrently don't share the formatter and evaluator.
+        boolean shared = context == this.context;
+        DataFormatter dataFormatter = shared ? DATA_FORMATTER : new DataFormatter();
+        FormulaEvaluator formulaEvaluator = shared ? this.formulaEvaluator : resolveFormulaEvaluator(context.getWorkbook());
+
+        ExcelReadStrategy strategy = context.getStrategyMap().get(FormulaEvaluation.class);
+        Policy policy = strategy == null ? Policy.EVALUATE : (Policy) strategy.execute(context);
+
+        ExcelReadStrategy filterStrategy = context.getStrategyMap().get(Filter.class);
+        Filter filter = filterStrategy == null ? null : (Filter) filterStrategy.execute(context);
+
+        // The sheets read concurrently have their own rows to be skipped.
+        Integer rowsToSkipOfSheet = this.rowsToSkipPerSheet.get(context.getSheet());
+        int rowsToSkip = shared || rowsToSkipOfSheet == null ? this.rowsToSkip : rowsToSkipOfSheet;
+
+        for (Row row : context.getSheet()) {
             // ExcelReader already read a header, so skip the first row in this method.
             if (row.getRowNum() == 0) {
                 continue;
             }
 
-            if (this.context.getReadCount() == this.limit) {
+            // Skips the row before the offset without formatting it.
+            if (rowsToSkip > 0) {
+                rowsToSkip--;
+                continue;
+            }
+
+            if (context.getReadCount() == this.limit) {
                 break;
             }
 
-            Map<String, String> rowMap = readRow(row);
-            maps.add(rowMap);
+            readRow(row, buffer, dataFormatter, formulaEvaluator, policy, context);
+
+            // Discards the rejected row before conversion.
+            if (filter != null && !filter.test(buffer)) {
+                continue;
+            }
+
+            context.increaseReadCount();
+
+            action.accept(buffer);
         }
 
-        return Collections.unmodifiableList(maps);
+        if (shared) {
+            this.rowsToSkip = rowsToSkip;
+        }
     }
 
     /**
-     * Converts a row to the imitated model.
+     * Reads a row into the buffer of row.
      *
-     * <p> Reads rows to get data. this creates {@link Map} as an imitated model
-     * and puts the key({@link Field#getName()}) and the value
+     * <p> Reads rows to get data. this sets the value
      * ({@link DataFormatter#formatCellValue(Cell, FormulaEvaluator)})
-     * to the model. The result is the same as the following code.
+     * to the buffer at the column index. The result is the same as the following code.
+     * If the column accepts native value of the cell, this sets it as it is
+     * without formatting.
      *
      * <pre><code>
      *     +------+--------+--------+----------+
@@ -216,44 +502,168 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
      *     | John | 180.5  | 79.2   |          |
      *     +------+--------+--------+----------+
      *
-     *     This row will be converted to
+     *     This row will be read as
      *
-     *     { "name": "John", "height": "180.5", "weight": "79.2", "eyesight": null }
+     *     [ "John", "180.5", "79.2", null ]
      * </code></pre>
      *
-     * @param row row in sheet
-     * @return imitated model
+     * @param row              row in sheet
+     * @param buffer           buffer of row
+     * @param dataFormatter    formatter that stringifies the value in a cell
+     * @param formulaEvaluator evaluator that evaluates the formula in a cell
+     * @param policy           policy for the cell that has a formula
+     * @param context          context to which the time to evaluate formulas is reported
      */
-    private Map<String, String> readRow(Row row) {
-        Map<String, String> map = new HashMap<>();
+    private static void readRow(Row row, ExcelReadRow buffer, DataFormatter dataFormatter,
+                                @Nullable FormulaEvaluator formulaEvaluator, Policy policy,
+                                ExcelReadContext<?> context) {
+        buffer.clear();
 
-        int numOfColumns = row.getLastCellNum();
+        // Ignores the cells that have no header.
+        int numOfColumns = Math.min(row.getLastCellNum(), buffer.size());
         for (int i = 0; i < numOfColumns; i++) {
+            // Skips the cell before formatting it.
+            if (!buffer.isProjected(i)) continue;
+
             Cell cell = row.getCell(i);
             if (cell == null) continue;
 
+            // Cached result of formula can be read as native value too.
+            CellType cellType = cell.getCellType();
+            if (cellType == CellType.FORMULA && policy == Policy.CACHED) {
+                cellType = cell.getCachedFormulaResultType();
+            }
+
+            if (readNative(cell, cellType, buffer, i)) continue;
+
             String cellValue;
-            if (this.formulaEvaluator == null) {
+            if (formulaEvaluator == null) {
                 cellValue = cell.getStringCellValue();
+            } else if (cell.getCellType() == CellType.FORMULA) {
+                cellValue = readFormula(cell, dataFormatter, formulaEvaluator, policy, context);
             } else {
-                // Evaluates the formula and returns a stringified value.
-                cellValue = DATA_FORMATTER.formatCellValue(cell, this.formulaEvaluator);
+                cellValue = dataFormatter.formatCellValue(cell);
             }
 
             // Converts empty string to null because when CellType is BLANK,
             // DataFormatter returns empty string.
-            String headerName = this.context.getHeaderNames().get(i);
-            map.put(headerName, StringUtils.ifNullOrEmpty(cellValue, (String) null));
+            buffer.set(i, StringUtils.ifNullOrEmpty(cellValue, (String) null));
         }
+    }
+
+    /**
+     * Reads the cell that has a formula as string with the policy.
+     *
+     * @param cell             cell that has a formula
+     * @param dataFormatter    formatter that stringifies the value in a cell
+     * @param formulaEvaluator evaluator that evaluates the formula in a cell
+     * @param policy           policy for the cell that has a formula
+     * @param context          context to which the time to evaluate formulas is reported
+     * @return stringified value
+     */
+    @Nullable
+    private static String readFormula(Cell cell, DataFormatter dataFormatter, FormulaEvaluator formulaEvaluator,
+                                      Policy policy, ExcelReadContext<?> context) {
+        switch (policy) {
+            case NONE:
+                return cell.getCellFormula();
+            case CACHED:
+                return formatCachedResult(cell, dataFormatter);
+            default:
+                // Evaluates the formula and returns a stringified value.
+                long startTime = System.nanoTime();
+                String cellValue = dataFormatter.formatCellValue(cell, formulaEvaluator);
+                context.addFormulaEvaluationTime(System.nanoTime() - startTime);
 
-        // Increases read count of row.
-        this.context.increaseReadCount();
+                return cellValue;
+        }
+    }
 
-        return Collections.unmodifiableMap(map);
+    @Nullable
+    private static String formatCachedResult(Cell cell, DataFormatter dataFormatter) {
+        switch (cell.getCachedFormulaResultType()) {
+            case NUMERIC:
+                CellStyle style = cell.getCellStyle();
+                return dataFormatter.formatRawCellContents(cell.getNumericCellValue(),
+                        style.getDataFormat(), style.getDataFormatString());
+            case STRING:
+                return cell.getRichStringCellValue().getString();
+            case BOOLEAN:
+                return cell.getBooleanCellValue() ? "TRUE" : "FALSE";
+            case ERROR:
+                return FormulaError.forInt(cell.getErrorCellValue()).getString();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Sets native value of the cell to the buffer, if the column accepts it.
+     *
+     * <p> Formula cell is formatted unless its cached result is read,
+     * because the result may be changed by evaluation.
+     *
+     * @param cell     cell
+     * @param cellType type of cell, or type of cached result of formula
+     * @param buffer   buffer of row
+     * @param index    column index
+     * @return whether native value is set
+     */
+    private static boolean readNative(Cell cell, CellType cellType, ExcelReadRow buffer, int index) {
+        switch (cellType) {
+            case NUMERIC:
+                boolean acceptsNumber = buffer.acceptsNative(index, NativeType.NUMBER);
+                boolean acceptsDate = buffer.acceptsNative(index, NativeType.DATE);
+                if (!acceptsNumber && !acceptsDate) return false;
+
+                if (DateUtil.isCellDateFormatted(cell)) {
+                    if (!acceptsDate) return false;
+                    buffer.setNative(index, cell.getLocalDateTimeCellValue());
+                } else {
+                    if (!acceptsNumber) return false;
+                    buffer.setNative(index, cell.getNumericCellValue());
+                }
+
+                return true;
+            case BOOLEAN:
+                if (!buffer.acceptsNative(index, NativeType.BOOLEAN)) return false;
+                buffer.setNative(index, cell.getBooleanCellValue());
+
+                return true;
+            default:
+                return false;
+        }
     }
 
     // Overridable -------------------------------------------------------------------------------------
 
+    /**
+     * Creates a buffer of row for each sheet.
+     *
+     * <p> Override this to let the columns accept native value of cell.
+     *
+     * @param headerNames header names of sheet
+     * @return buffer of row
+     */
+    protected ExcelReadRow createRowBuffer(List<String> headerNames) {
+        return new ExcelReadRow(headerNames);
+    }
+
+    /**
+     * Returns the header names of the columns to be read, if {@link Projection} is given.
+     *
+     * <p> Override this to read the other columns that the projected columns depend on.
+     *
+     * @param context context with strategies
+     * @return header names of the projected columns, or null if all the columns are read
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected Collection<String> resolveProjection(ExcelReadContext<T> context) {
+        ExcelReadStrategy strategy = context.getStrategyMap().get(Projection.class);
+        return strategy == null ? null : (Collection<String>) strategy.execute(context);
+    }
+
     /**
      * Reads the first row as header for each sheet.
      *
@@ -268,4 +678,13 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
      */
     protected abstract List<T> readBody(ExcelReadContext<T> context);
 
+    /**
+     * Converts a row to the model, when the models are read in batches.
+     *
+     * @param row buffer of row, which is reused for the next row
+     * @return model
+     * @see #read(int, Consumer)
+     */
+    protected abstract T readModel(ExcelReadRow row);
+
 }
@@ -16,9 +16,12 @@
 
 package com.github.javaxcel.in.core;
 
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.lifecycle.ExcelReadLifecycle;
 import com.github.javaxcel.in.strategy.ExcelReadStrategy;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ExcelReader<T> {
 
@@ -38,4 +41,27 @@ public interface ExcelReader<T> {
      */
     List<T> read();
 
+    /**
+     * Reads the Excel file and passes the models to the consumer in batches.
+     *
+     * <p> The list given to the consumer is reused for the next batch,
+     * so copy it if the models are needed after the consumer returns.
+     * Only a batch is held in memory at a time.
+     *
+     * <p> The sheets are read sequentially on the current thread, so
+     * {@link com.github.javaxcel.in.strategy.impl.Parallel} and
+     * {@link com.github.javaxcel.in.strategy.impl.ConcurrentSheets} are ignored.
+     * The other strategies such as {@link com.github.javaxcel.in.strategy.impl.Limit}
+     * and {@link com.github.javaxcel.in.strategy.impl.Offset} are applied as {@link #read()} does.
+     *
+     * <p> The models are not accumulated, so {@link ExcelReadContext#getList()} is null
+     * during the lifecycle methods. Instead, {@link ExcelReadContext#getChunk()} is the current batch
+     * in {@link ExcelReadLifecycle#postReadBatch(ExcelReadContext)}.
+     *
+     * @param batchSize the maximum number of models in a batch
+     * @param consumer  consumer of batch
+     * @throws IllegalArgumentException if batch size is not positive or consumer is null
+     */
+    void read(int batchSize, Consumer<List<T>> consumer);
+
 }
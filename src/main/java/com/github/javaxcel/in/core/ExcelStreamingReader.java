@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.in.core;
+
+import com.github.javaxcel.in.strategy.ExcelReadStrategy;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Excel reader that reads models lazily without loading the whole workbook.
+ *
+ * <p> This reads the Excel file only once; one of {@link #read()}, {@link #iterator()}
+ * and {@link #stream()} can be invoked. The file is released when all the models are read,
+ * or this is closed before that.
+ *
+ * @param <T> type of model
+ */
+public interface ExcelStreamingReader<T> extends ExcelReader<T>, Closeable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ExcelStreamingReader<T> options(ExcelReadStrategy... strategies);
+
+    /**
+     * Returns an iterator that reads a model from the Excel file on each call of {@link Iterator#next()}.
+     *
+     * @return iterator of models
+     */
+    Iterator<T> iterator();
+
+    /**
+     * Returns a stream that reads models from the Excel file lazily.
+     *
+     * <p> Closing the stream closes this reader, so use the stream
+     * with try-with-resources when it may not be consumed to the end.
+     *
+     * @return stream of models
+     */
+    default Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Releases the Excel file.
+     */
+    @Override
+    void close();
+
+}
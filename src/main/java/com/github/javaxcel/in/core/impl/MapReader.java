@@ -16,6 +16,7 @@
 
 package com.github.javaxcel.in.core.impl;
 
+import com.github.javaxcel.converter.in.ExcelReadRow;
 import com.github.javaxcel.in.context.ExcelReadContext;
 import com.github.javaxcel.in.core.AbstractExcelReader;
 import io.github.imsejin.common.util.StringUtils;
@@ -24,6 +25,7 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Workbook;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -81,7 +83,13 @@ public class MapReader extends AbstractExcelReader<Map<String, String>> {
 
     @Override
     protected List<Map<String, String>> readBody(ExcelReadContext<Map<String, String>> context) {
-        return super.readBodyAsMaps(context.getSheet());
+        return super.readBodyAsMaps(context);
+    }
+
+    @Override
+    protected Map<String, String> readModel(ExcelReadRow row) {
+        // Only this reader materializes the row as map.
+        return Collections.unmodifiableMap(row.toMap());
     }
 
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.in.core.impl;
+
+import com.github.javaxcel.analysis.ExcelAnalysis;
+import com.github.javaxcel.analysis.ExcelAnalyzer;
+import com.github.javaxcel.analysis.in.ExcelReadAnalyzer;
+import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.converter.in.ExcelReadConverter;
+import com.github.javaxcel.converter.in.ExcelReadExpressionConverter;
+import com.github.javaxcel.converter.in.ExcelReadHandlerConverter;
+import com.github.javaxcel.converter.in.ExcelReadRow.NativeType;
+import com.github.javaxcel.converter.in.support.ExcelReadConverters;
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.processor.ExcelModelCreationProcessor;
+import com.github.javaxcel.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.in.strategy.impl.CompiledExpressions;
+import com.github.javaxcel.in.strategy.impl.Filter;
+import com.github.javaxcel.in.strategy.impl.Projection;
+import com.github.javaxcel.in.strategy.impl.TypedCells;
+import com.github.javaxcel.in.strategy.impl.UseSetters;
+import com.github.javaxcel.metadata.ExcelModelMetadata;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Converter and processor for model, which are shared by the readers with the same options.
+ *
+ * @param <T> type of model
+ */
+final class ModelReadPlan<T> {
+
+    final ExcelReadConverters converters;
+
+    final ExcelModelCreationProcessor<T> modelProcessor;
+
+    /**
+     * Types of native value of cell accepted by each field, in the same order as the fields.
+     */
+    private final List<Set<NativeType>> nativeTypes;
+
+    private final List<String> fieldNames;
+
+    /**
+     * Names of the fields that the expression of each field refers to.
+     */
+    private final Map<String, Set<String>> variableNamesPerField;
+
+    private ModelReadPlan(ExcelReadConverters converters, ExcelModelCreationProcessor<T> modelProcessor,
+                          List<Set<NativeType>> nativeTypes, List<String> fieldNames,
+                          Map<String, Set<String>> variableNamesPerField) {
+        this.converters = converters;
+        this.modelProcessor = modelProcessor;
+        this.nativeTypes = nativeTypes;
+        this.fieldNames = fieldNames;
+        this.variableNamesPerField = variableNamesPerField;
+    }
+
+    /**
+     * Returns the header names of the columns to be read if {@link Projection} is given,
+     * including the columns that the expressions of the projected fields refer to.
+     *
+     * @param context context with strategies
+     * @return header names of the projected columns, or null if all the columns are read
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    Set<String> getProjection(ExcelReadContext<T> context) {
+        ExcelReadStrategy strategy = context.getStrategyMap().get(Projection.class);
+        if (strategy == null) return null;
+
+        // The referred column may also have the expression that refers to the other columns.
+        Set<String> projection = new HashSet<>((Collection<String>) strategy.execute(context));
+        Deque<String> names = new ArrayDeque<>(projection);
+        while (!names.isEmpty()) {
+            for (String variableName : this.variableNamesPerField.getOrDefault(names.poll(), Collections.emptySet())) {
+                if (projection.add(variableName)) names.add(variableName);
+            }
+        }
+
+        return projection;
+    }
+
+    /**
+     * Returns the types of native value of cell accepted by each field if {@link TypedCells} is given,
+     * except the fields whose columns are tested as string by {@link Filter}.
+     *
+     * @param context context with strategies
+     * @return types of native value in the same order as the fields
+     */
+    List<Set<NativeType>> getNativeTypes(ExcelReadContext<T> context) {
+        ExcelReadStrategy strategy = context.getStrategyMap().get(Filter.class);
+        Filter filter = strategy == null ? null : (Filter) strategy.execute(context);
+
+        // Every column is read as formatted string unless the strategy is given,
+        // or when the predicate on the buffer of row can get any column as string.
+        if (!context.getStrategyMap().containsKey(TypedCells.class) || (filter != null && filter.getHeaderName() == null)) {
+            return Collections.nCopies(this.nativeTypes.size(), Collections.emptySet());
+        }
+
+        String headerName = filter == null ? null : filter.getHeaderName();
+        int index = headerName == null ? -1 : this.fieldNames.indexOf(headerName);
+        if (index == -1) return this.nativeTypes;
+
+        List<Set<NativeType>> nativeTypes = new ArrayList<>(this.nativeTypes);
+        nativeTypes.set(index, EnumSet.noneOf(NativeType.class));
+
+        return Collections.unmodifiableList(nativeTypes);
+    }
+
+    /**
+     * Returns the plan compiled by the other readers with the same options, or compiles it if absent.
+     *
+     * @param metadata metadata of model
+     * @param registry registry of handlers for field type
+     * @param context  context with strategies
+     * @param <T>      type of model
+     * @return plan for reading model
+     */
+    static <T> ModelReadPlan<T> get(ExcelModelMetadata<T> metadata, ExcelTypeHandlerRegistry registry,
+                                    ExcelReadContext<T> context) {
+        Map<Class<? extends ExcelReadStrategy>, ExcelReadStrategy> strategyMap = context.getStrategyMap();
+        ExcelReadStrategy compiledExpressions = strategyMap.get(CompiledExpressions.class);
+        SpelCompilerMode compilerMode = compiledExpressions == null
+                ? SpelCompilerMode.OFF : (SpelCompilerMode) compiledExpressions.execute(context);
+
+        // Consists of the options that affect analyses and converter.
+        List<Object> key = Arrays.asList(ModelReadPlan.class, registry,
+                strategyMap.containsKey(UseSetters.class), compilerMode);
+
+        return metadata.getPlan(key, registry.getVersion(), it -> compile(metadata, registry, context, compilerMode));
+    }
+
+    private static <T> ModelReadPlan<T> compile(ExcelModelMetadata<T> metadata, ExcelTypeHandlerRegistry registry,
+                                                ExcelReadContext<T> context, SpelCompilerMode compilerMode) {
+        // Analyzes the fields with arguments.
+        ExcelAnalyzer analyzer = new ExcelReadAnalyzer(registry);
+        Collection<ExcelReadStrategy> strategies = context.getStrategyMap().values();
+        List<ExcelAnalysis> analyses = analyzer.analyze(metadata.getFields(), strategies.toArray());
+
+        // Creates a converter.
+        ExcelReadConverters converters = new ExcelReadConverters(analyses, registry, compilerMode);
+
+        // ExcelModelCreationProcessor needs the analyses.
+        ExcelModelCreationProcessor<T> modelProcessor = new ExcelModelCreationProcessor<>(
+                metadata.getModelType(), metadata.getFields(), metadata.getExecutable(), metadata.getAccessorFactory());
+        modelProcessor.setAnalyses(analyses);
+
+        // Expressions see the values of the other columns as string.
+        Set<String> variableNames = new HashSet<>();
+        Map<String, Set<String>> variableNamesPerField = new HashMap<>();
+        for (Field field : metadata.getFields()) {
+            ExcelReadConverter converter = converters.getConverter(field);
+            if (converter instanceof ExcelReadExpressionConverter) {
+                Set<String> names = ((ExcelReadExpressionConverter) converter).getVariableNames(field);
+                variableNames.addAll(names);
+                variableNamesPerField.put(field.getName(), Collections.unmodifiableSet(names));
+            }
+        }
+
+        // Resolves the native values of cell that the handlers for the fields can read as it is.
+        List<Set<NativeType>> nativeTypes = new ArrayList<>();
+        for (Field field : metadata.getFields()) {
+            ExcelReadConverter converter = converters.getConverter(field);
+            nativeTypes.add(converter instanceof ExcelReadHandlerConverter && !variableNames.contains(field.getName())
+                    ? ((ExcelReadHandlerConverter) converter).getNativeTypes(field)
+                    : EnumSet.noneOf(NativeType.class));
+        }
+
+        List<String> fieldNames = metadata.getFields().stream().map(Field::getName).collect(toList());
+
+        return new ModelReadPlan<>(converters, modelProcessor, Collections.unmodifiableList(nativeTypes),
+                Collections.unmodifiableList(fieldNames), Collections.unmodifiableMap(variableNamesPerField));
+    }
+
+}
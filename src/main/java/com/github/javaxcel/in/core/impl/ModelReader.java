@@ -16,33 +16,39 @@
 
 package com.github.javaxcel.in.core.impl;
 
-import com.github.javaxcel.analysis.ExcelAnalysis;
-import com.github.javaxcel.analysis.ExcelAnalyzer;
-import com.github.javaxcel.analysis.in.ExcelReadAnalyzer;
 import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.converter.in.ExcelReadConverter;
-import com.github.javaxcel.converter.in.support.ExcelReadConverters;
+import com.github.javaxcel.converter.in.ExcelReadRow;
+import com.github.javaxcel.converter.in.ExcelReadRow.NativeType;
 import com.github.javaxcel.exception.NoTargetedFieldException;
+import com.github.javaxcel.exception.ReadingExcelException;
 import com.github.javaxcel.in.context.ExcelReadContext;
 import com.github.javaxcel.in.core.AbstractExcelReader;
 import com.github.javaxcel.in.processor.ExcelModelCreationProcessor;
-import com.github.javaxcel.in.resolver.AbstractExcelModelExecutableResolver;
 import com.github.javaxcel.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.in.strategy.impl.CompiledRows;
 import com.github.javaxcel.in.strategy.impl.Parallel;
+import com.github.javaxcel.metadata.ExcelModelMetadata;
+import com.github.javaxcel.metadata.ExcelModelMetadataCache;
 import com.github.javaxcel.util.FieldUtils;
 import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ClassUtils;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-
-import static java.util.stream.Collectors.toList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Excel reader for model.
@@ -60,10 +66,30 @@ public class ModelReader<T> extends AbstractExcelReader<T> {
 
     private final ExcelTypeHandlerRegistry registry;
 
-    private final ExcelModelCreationProcessor<T> modelProcessor;
+    private final ExcelModelMetadata<T> metadata;
+
+    private ExcelModelCreationProcessor<T> modelProcessor;
 
     private ExcelReadConverter converter;
 
+    /**
+     * Converters for each field, which are resolved before reading the body.
+     *
+     * @see CompiledRows
+     */
+    private ExcelReadConverter[] fieldConverters;
+
+    /**
+     * Types of native value of cell accepted by each field.
+     */
+    private List<Set<NativeType>> nativeTypes;
+
+    /**
+     * Header names of the columns to be read, including the columns that expressions refer to.
+     */
+    @Nullable
+    private Set<String> projection;
+
     /**
      * Creates a reader for model.
      *
@@ -71,43 +97,59 @@ public class ModelReader<T> extends AbstractExcelReader<T> {
      * @param modelType type of Excel model
      */
     public ModelReader(Workbook workbook, Class<T> modelType, ExcelTypeHandlerRegistry registry) {
+        this(workbook, modelType, registry, new ExcelModelMetadataCache());
+    }
+
+    /**
+     * Creates a reader for model, which shares the metadata of model with the other readers.
+     *
+     * @param workbook      Excel workbook
+     * @param modelType     type of Excel model
+     * @param registry      registry of handlers for field type
+     * @param metadataCache cache of metadata for model
+     */
+    public ModelReader(Workbook workbook, Class<T> modelType, ExcelTypeHandlerRegistry registry,
+                       ExcelModelMetadataCache metadataCache) {
         super(workbook, modelType);
 
-        // Finds the targeted fields.
-        List<Field> fields = FieldUtils.getTargetedFields(modelType);
+        Asserts.that(metadataCache)
+                .describedAs("ModelReader.metadataCache is not allowed to be null")
+                .isNotNull();
+        this.metadata = metadataCache.get(modelType);
+
+        // Finds the targeted fields, which are already accessible.
+        List<Field> fields = this.metadata.getFields();
         Asserts.that(fields)
                 .describedAs("ModelReader.fields cannot find the targeted fields in the class: {0}", modelType.getName())
                 .thrownBy(desc -> new NoTargetedFieldException(modelType, desc))
                 .isNotEmpty()
                 .describedAs("ModelReader.fields cannot have null element: {0}", fields)
                 .doesNotContainNull();
-
-        // To prevent exception from occurring on multi-threaded environment,
-        // Permits access to the fields that are not accessible. (ExcelReadStrategy.Parallel)
-        fields.stream().filter(it -> !it.isAccessible()).forEach(it -> it.setAccessible(true));
-        this.fields = Collections.unmodifiableList(fields);
+        this.fields = fields;
 
         Asserts.that(registry)
                 .describedAs("ModelReader.registry is not allowed to be null")
                 .isNotNull();
         this.registry = registry;
 
-        Executable executable = AbstractExcelModelExecutableResolver.resolve(modelType);
-        this.modelProcessor = new ExcelModelCreationProcessor<>(modelType, this.fields, executable);
+        // Resolves the model creator in advance to fail fast.
+        this.metadata.getExecutable();
     }
 
     @Override
     public void prepare(ExcelReadContext<T> context) {
-        // Analyzes the fields with arguments.
-        ExcelAnalyzer analyzer = new ExcelReadAnalyzer(this.registry);
-        Collection<ExcelReadStrategy> strategies = context.getStrategyMap().values();
-        List<ExcelAnalysis> analyses = analyzer.analyze(this.fields, strategies.toArray());
-
-        // Creates a converter.
-        this.converter = new ExcelReadConverters(analyses, registry);
+        // Reuses the converter and processor compiled by the other readers with the same options.
+        ModelReadPlan<T> plan = ModelReadPlan.get(this.metadata, this.registry, context);
+        this.converter = plan.converters;
+        this.modelProcessor = plan.modelProcessor;
+        this.nativeTypes = plan.getNativeTypes(context);
+        this.projection = plan.getProjection(context);
 
-        // ExcelModelCreationProcessor needs the analyses.
-        this.modelProcessor.setAnalyses(analyses);
+        // Resolves the converter of each field in advance.
+        if (context.getStrategyMap().containsKey(CompiledRows.class)) {
+            this.fieldConverters = this.fields.stream().map(plan.converters::getConverter)
+                    .toArray(ExcelReadConverter[]::new);
+        }
     }
 
     @Override
@@ -116,42 +158,232 @@ public class ModelReader<T> extends AbstractExcelReader<T> {
         return FieldUtils.toHeaderNames(this.fields, true);
     }
 
+    @Override
+    protected ExcelReadRow createRowBuffer(List<String> headerNames) {
+        // Header names are in the same order as the fields.
+        return new ExcelReadRow(headerNames, this.nativeTypes);
+    }
+
+    @Nullable
+    @Override
+    protected Collection<String> resolveProjection(ExcelReadContext<T> context) {
+        return this.projection;
+    }
+
     @Override
     protected List<T> readBody(ExcelReadContext<T> context) {
-        List<Map<String, String>> maps = super.readBodyAsMaps(context.getSheet());
+        ExcelReadStrategy strategy = context.getStrategyMap().get(Parallel.class);
+        if (strategy != null) {
+            return readBodyInParallel(context, (Parallel) strategy.execute(context));
+        }
 
-        if (context.getStrategyMap().containsKey(Parallel.class)) {
-            return maps.parallelStream().map(this::toActualModel).collect(toList());
-        } else {
-            // Makes sure not to grow length of internal array.
-            List<T> models = new ArrayList<>(maps.size());
+        List<T> models = new ArrayList<>();
+        super.readBodyAsRows(context, row -> models.add(toActualModel(row)));
 
-            for (Map<String, String> map : maps) {
-                T model = toActualModel(map);
-                models.add(model);
-            }
+        return models;
+    }
+
+    /**
+     * Reads the body with a pipeline, in which this thread parses rows
+     * and the workers on the executor convert them into models at the same time.
+     *
+     * @param context  context with current sheet
+     * @param parallel strategy for parallel conversion
+     * @return models
+     */
+    private List<T> readBodyInParallel(ExcelReadContext<T> context, Parallel parallel) {
+        BlockingQueue<PendingRow<T>> queue = new ArrayBlockingQueue<>(parallel.getQueueCapacity());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // Keeps the pending rows in order of rows, or collects the models in order of completion.
+        List<PendingRow<T>> pendingRows = parallel.isOrdered() ? new ArrayList<>() : null;
+        Queue<T> completedModels = parallel.isOrdered() ? null : new ConcurrentLinkedQueue<>();
+
+        // The executor such as direct executor or caller-runs policy may run a worker on this thread,
+        // where it would wait for the rows forever, because this thread can't parse them until it returns.
+        Thread parser = Thread.currentThread();
+        AtomicInteger inlineWorkers = new AtomicInteger();
+
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[parallel.getParallelism()];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                if (Thread.currentThread() == parser) {
+                    inlineWorkers.incrementAndGet();
+                    return;
+                }
+
+                convertRows(queue, completedModels, failure);
+            }, parallel.getExecutor());
+        }
+        CompletableFuture<Void> allWorkers = CompletableFuture.allOf(workers);
+
+        // Converts the rows on this thread if there is no worker on the other threads.
+        if (inlineWorkers.get() == workers.length) {
+            List<T> models = new ArrayList<>();
+            super.readBodyAsRows(context, row -> models.add(toActualModel(row)));
 
             return models;
         }
+
+        try {
+            super.readBodyAsRows(context, row -> {
+                // Stops parsing as soon as a worker fails.
+                Throwable cause = failure.get();
+                if (cause != null) throw rethrow(cause);
+
+                // Copies the reused buffer, because it is converted on the other thread.
+                PendingRow<T> pendingRow = new PendingRow<>(row.copy());
+                if (pendingRows != null) pendingRows.add(pendingRow);
+
+                offer(queue, pendingRow, allWorkers);
+            });
+        } finally {
+            // Signals the end of rows to each worker.
+            for (int i = 0; i < workers.length; i++) {
+                offer(queue, PendingRow.endOfRows(), allWorkers);
+            }
+        }
+
+        allWorkers.join();
+
+        Throwable cause = failure.get();
+        if (cause != null) throw rethrow(cause);
+
+        if (pendingRows == null) {
+            return new ArrayList<>(completedModels);
+        }
+
+        List<T> models = new ArrayList<>(pendingRows.size());
+        for (PendingRow<T> pendingRow : pendingRows) {
+            models.add(pendingRow.model);
+        }
+
+        return models;
+    }
+
+    private void convertRows(BlockingQueue<PendingRow<T>> queue, @Nullable Queue<T> completedModels,
+                             AtomicReference<Throwable> failure) {
+        while (true) {
+            PendingRow<T> pendingRow;
+            try {
+                pendingRow = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+                return;
+            }
+
+            if (pendingRow.isEndOfRows()) return;
+
+            // Keeps taking rows after failure not to block the parser, but discards them.
+            if (failure.get() == null) {
+                try {
+                    T model = toActualModel(pendingRow.row);
+
+                    if (completedModels == null) {
+                        pendingRow.model = model;
+                    } else {
+                        completedModels.add(model);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }
+
+            // Releases the row as soon as it is converted.
+            pendingRow.row = null;
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+
+        return new ReadingExcelException(cause);
+    }
+
+    /**
+     * Puts the row into the queue, waiting until the workers take rows from it.
+     *
+     * @param queue      queue of pending rows
+     * @param pendingRow pending row
+     * @param allWorkers future completed when all the workers finish
+     */
+    private static <T> void offer(BlockingQueue<PendingRow<T>> queue, PendingRow<T> pendingRow,
+                                  CompletableFuture<?> allWorkers) {
+        try {
+            while (!queue.offer(pendingRow, 10, TimeUnit.MILLISECONDS)) {
+                // Gives up if there is no worker to take the row.
+                if (allWorkers.isDone()) return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReadingExcelException(e, "Interrupted while reading the Excel sheet in parallel");
+        }
+    }
+
+    @Override
+    protected T readModel(ExcelReadRow row) {
+        return toActualModel(row);
     }
 
     /**
-     * Converts an imitated model to the real model.
+     * Converts a buffer of row to the real model.
      *
-     * @param variables variables
+     * @param row buffer of row
      * @return real model
      */
-    private T toActualModel(Map<String, String> variables) {
-        // Creates a mock model for actual model.
-        Map<String, Object> mock = new HashMap<>();
-        for (Field field : this.fields) {
-            String key = field.getName();
-            Object value = this.converter.convert(variables, field);
-
-            mock.put(key, value);
+    private T toActualModel(ExcelReadRow row) {
+        // Values of the fields in the same order as the fields.
+        Object[] values = new Object[this.fields.size()];
+
+        // Converts the values through the compiled converters of fields.
+        if (this.fieldConverters != null) {
+            for (int i = 0; i < this.fieldConverters.length; i++) {
+                Field field = this.fields.get(i);
+                values[i] = row.isProjected(i)
+                        ? this.fieldConverters[i].convert(row, field) : ClassUtils.initialValueOf(field.getType());
+            }
+
+            return this.modelProcessor.createModel(values);
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            // Skips conversion of the field whose column is not projected.
+            Field field = this.fields.get(i);
+            values[i] = row.isProjected(i) ? this.converter.convert(row, field) : ClassUtils.initialValueOf(field.getType());
         }
 
-        return this.modelProcessor.createModel(mock);
+        return this.modelProcessor.createModel(values);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Row waiting for conversion on the pipeline.
+     *
+     * @param <T> type of model
+     */
+    private static class PendingRow<T> {
+        private static final PendingRow<?> END_OF_ROWS = new PendingRow<>(null);
+
+        @Nullable
+        private ExcelReadRow row;
+        @Nullable
+        private T model;
+
+        private PendingRow(@Nullable ExcelReadRow row) {
+            this.row = row;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> PendingRow<T> endOfRows() {
+            return (PendingRow<T>) END_OF_ROWS;
+        }
+
+        private boolean isEndOfRows() {
+            return this == END_OF_ROWS;
+        }
     }
 
 }
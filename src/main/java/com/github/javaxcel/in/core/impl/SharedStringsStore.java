@@ -0,0 +1,307 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.impl;
+
+import com.github.javaxcel.exception.ReadingExcelException;
+import org.apache.poi.util.XMLHelper;
+import org.jetbrains.annotations.Nullable;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Store of shared strings, which spills them to a temporary file once they exceed the threshold.
+ *
+ * <p> The spilled strings are written as a blob of UTF-8 and looked up by the offsets
+ * through memory-mapped segments of the file, so they are not kept on heap.
+ * The strings looked up recently are cached on heap, because the cells in the same column
+ * tend to refer to the same strings.
+ *
+ * <p> This is not thread-safe.
+ */
+final class SharedStringsStore implements Closeable {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLHelper.newXMLInputFactory();
+
+    /**
+     * Size of segment mapped to memory. No string spans two segments.
+     */
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    private static final int CACHE_CAPACITY = 1024;
+
+    private final long threshold;
+
+    @Nullable
+    private final Path directory;
+
+    /**
+     * Strings on heap, before they are spilled.
+     */
+    private List<String> strings = new ArrayList<>();
+
+    /**
+     * Estimated size of the strings on heap in bytes.
+     */
+    private long heapSize;
+
+    // Spilled strings ---------------------------------------------------------------------------------
+
+    @Nullable
+    private Path file;
+
+    @Nullable
+    private OutputStream out;
+
+    private long position;
+
+    private long[] offsets = new long[0];
+
+    private int[] lengths = new int[0];
+
+    private int size;
+
+    private MappedByteBuffer[] segments;
+
+    private final Map<Integer, String> cache = new LinkedHashMap<Integer, String>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * Creates a store of shared strings.
+     *
+     * @param threshold estimated size of strings on heap in bytes, over which they are spilled
+     * @param directory directory of temporary file, or null for the default one
+     */
+    SharedStringsStore(long threshold, @Nullable Path directory) {
+        this.threshold = threshold;
+        this.directory = directory;
+    }
+
+    /**
+     * Reads the shared strings from the XML of shared strings table.
+     *
+     * <p> Phonetic runs are excluded like the text of cell read with workbook.
+     *
+     * @param in input stream of shared strings table
+     * @throws IOException if failed to read or spill the strings
+     */
+    void readFrom(InputStream in) throws IOException {
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            StringBuilder text = null;
+            int phoneticDepth = 0;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("si".equals(name)) {
+                        text = new StringBuilder();
+                    } else if ("rPh".equals(name)) {
+                        phoneticDepth++;
+                    } else if ("t".equals(name) && text != null) {
+                        String t = reader.getElementText();
+                        if (phoneticDepth == 0) text.append(t);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("si".equals(name) && text != null) {
+                        add(text.toString());
+                        text = null;
+                    } else if ("rPh".equals(name)) {
+                        phoneticDepth--;
+                    }
+                }
+            }
+
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new ReadingExcelException(e, "Failed to read the shared strings of the xlsx file");
+        }
+
+        if (this.out != null) {
+            mapSegments();
+        }
+    }
+
+    private void add(String string) throws IOException {
+        if (this.out != null) {
+            write(string);
+            return;
+        }
+
+        this.strings.add(string);
+        this.heapSize += 2L * string.length();
+
+        if (this.heapSize > this.threshold) {
+            spill();
+        }
+    }
+
+    private void spill() throws IOException {
+        this.file = this.directory == null
+                ? Files.createTempFile("javaxcel-sst-", ".tmp")
+                : Files.createTempFile(this.directory, "javaxcel-sst-", ".tmp");
+        this.out = new BufferedOutputStream(Files.newOutputStream(this.file), 64 * 1024);
+
+        for (String string : this.strings) {
+            write(string);
+        }
+
+        // Releases the strings on heap.
+        this.strings = null;
+        this.heapSize = 0;
+    }
+
+    private void write(String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+        // Pads the rest of segment, so that the string doesn't span two segments.
+        long remaining = SEGMENT_SIZE - this.position % SEGMENT_SIZE;
+        if (bytes.length > remaining) {
+            for (long i = 0; i < remaining; i++) {
+                this.out.write(0);
+            }
+            this.position += remaining;
+        }
+
+        if (this.size == this.offsets.length) {
+            int capacity = Math.max(16, this.size * 2);
+            this.offsets = Arrays.copyOf(this.offsets, capacity);
+            this.lengths = Arrays.copyOf(this.lengths, capacity);
+        }
+
+        this.offsets[this.size] = this.position;
+        this.lengths[this.size] = bytes.length;
+        this.size++;
+
+        this.out.write(bytes);
+        this.position += bytes.length;
+    }
+
+    private void mapSegments() throws IOException {
+        this.out.close();
+        this.out = null;
+
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            int numOfSegments = (int) ((this.position + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            this.segments = new MappedByteBuffer[numOfSegments];
+
+            for (int i = 0; i < numOfSegments; i++) {
+                long start = (long) i * SEGMENT_SIZE;
+                long length = Math.min(SEGMENT_SIZE, this.position - start);
+                this.segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the strings are spilled to the temporary file.
+     *
+     * @return whether the strings are spilled
+     */
+    boolean isSpilled() {
+        return this.file != null;
+    }
+
+    /**
+     * Returns the number of strings.
+     *
+     * @return the number of strings
+     */
+    int size() {
+        return this.strings == null ? this.size : this.strings.size();
+    }
+
+    /**
+     * Returns the string at the index.
+     *
+     * @param index index of shared string
+     * @return string
+     */
+    String get(int index) {
+        if (this.strings != null) {
+            return this.strings.get(index);
+        }
+
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        String string = this.cache.get(index);
+        if (string != null) return string;
+
+        long offset = this.offsets[index];
+        ByteBuffer segment = this.segments[(int) (offset / SEGMENT_SIZE)].duplicate();
+        segment.position((int) (offset % SEGMENT_SIZE));
+
+        byte[] bytes = new byte[this.lengths[index]];
+        segment.get(bytes);
+
+        string = new String(bytes, StandardCharsets.UTF_8);
+        this.cache.put(index, string);
+
+        return string;
+    }
+
+    /**
+     * Deletes the temporary file.
+     *
+     * <p> The mapped segments are released by garbage collector, so on some platforms
+     * the file is deleted on exit of JVM instead.
+     */
+    @Override
+    public void close() {
+        this.segments = null;
+        this.cache.clear();
+
+        Path file = this.file;
+        if (file == null) return;
+
+        try {
+            if (this.out != null) this.out.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+}
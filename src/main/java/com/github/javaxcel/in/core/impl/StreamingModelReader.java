@@ -0,0 +1,745 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.in.core.impl;
+
+import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.converter.in.ExcelReadConverter;
+import com.github.javaxcel.converter.in.ExcelReadRow;
+import com.github.javaxcel.converter.in.ExcelReadRow.NativeType;
+import com.github.javaxcel.exception.NoTargetedFieldException;
+import com.github.javaxcel.exception.ReadingExcelException;
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.ExcelStreamingReader;
+import com.github.javaxcel.in.lifecycle.ExcelReadLifecycle;
+import com.github.javaxcel.in.processor.ExcelModelCreationProcessor;
+import com.github.javaxcel.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.in.strategy.impl.Filter;
+import com.github.javaxcel.in.strategy.impl.Limit;
+import com.github.javaxcel.in.strategy.impl.Offset;
+import com.github.javaxcel.in.strategy.impl.SpillSharedStrings;
+import com.github.javaxcel.metadata.ExcelModelMetadata;
+import com.github.javaxcel.metadata.ExcelModelMetadataCache;
+import com.github.javaxcel.util.FieldUtils;
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ArrayUtils;
+import io.github.imsejin.common.util.ClassUtils;
+import io.github.imsejin.common.util.StringUtils;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.jetbrains.annotations.Nullable;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Excel reader for model, which streams rows of xlsx file without loading {@link org.apache.poi.ss.usermodel.Workbook}.
+ *
+ * <p> The sheets are parsed by pull parser of StAX, so only a row is kept in memory at a time.
+ * Each row is converted through the same converters and model creation processor as {@link ModelReader}.
+ *
+ * <p> Formula is not evaluated, but the cached value of formula is read as it is.
+ *
+ * @param <T> type of model
+ */
+public class StreamingModelReader<T> implements ExcelStreamingReader<T>, ExcelReadLifecycle<T> {
+
+    private static final String RELATIONSHIP_NAMESPACE = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLHelper.newXMLInputFactory();
+
+    /**
+     * Index returned for the row skipped by {@link Offset}.
+     */
+    private static final int SKIPPED_ROW = -2;
+
+    /**
+     * The fields of the type that will is actually read from Excel file.
+     */
+    private final List<Field> fields;
+
+    private final ExcelTypeHandlerRegistry registry;
+
+    private final ExcelModelMetadata<T> metadata;
+
+    private final OPCPackage pkg;
+
+    /**
+     * Temporary copy of xlsx file that the package is opened from, which is deleted on closing.
+     */
+    @Nullable
+    private final Path file;
+
+    private final ExcelReadContext<T> context;
+
+    /**
+     * Formatter that stringifies the numeric value with its data format.
+     */
+    private final DataFormatter dataFormatter = new DataFormatter();
+
+    /**
+     * Limitation of reading rows.
+     */
+    private int limit = -1;
+
+    /**
+     * The number of rows to be skipped before reading.
+     *
+     * @see Offset
+     */
+    private int offset;
+
+    private boolean consumed;
+
+    private boolean closed;
+
+    @Nullable
+    private ModelIterator iterator;
+
+    /**
+     * Creates a streaming reader for model.
+     *
+     * @param pkg           package of xlsx file, which is closed by this reader
+     * @param modelType     type of Excel model
+     * @param registry      registry of handlers for field type
+     * @param metadataCache cache of metadata for model
+     */
+    public StreamingModelReader(OPCPackage pkg, Class<T> modelType, ExcelTypeHandlerRegistry registry,
+                                ExcelModelMetadataCache metadataCache) {
+        this(pkg, null, modelType, registry, metadataCache);
+    }
+
+    /**
+     * Creates a streaming reader for model, which deletes the temporary copy of xlsx file on closing.
+     *
+     * @param pkg           package of xlsx file, which is closed by this reader
+     * @param file          temporary file that the package is opened from
+     * @param modelType     type of Excel model
+     * @param registry      registry of handlers for field type
+     * @param metadataCache cache of metadata for model
+     */
+    @SuppressWarnings("unchecked")
+    public StreamingModelReader(OPCPackage pkg, @Nullable Path file, Class<T> modelType,
+                                ExcelTypeHandlerRegistry registry, ExcelModelMetadataCache metadataCache) {
+        Asserts.that(pkg)
+                .describedAs("StreamingModelReader.pkg is not allowed to be null")
+                .isNotNull();
+        this.pkg = pkg;
+        this.file = file;
+
+        this.context = new ExcelReadContext<>(modelType, (Class<? extends ExcelReader<T>>) getClass());
+
+        Asserts.that(metadataCache)
+                .describedAs("StreamingModelReader.metadataCache is not allowed to be null")
+                .isNotNull();
+        this.metadata = metadataCache.get(modelType);
+
+        // Finds the targeted fields, which are already accessible.
+        List<Field> fields = this.metadata.getFields();
+        Asserts.that(fields)
+                .describedAs("StreamingModelReader.fields cannot find the targeted fields in the class: {0}", modelType.getName())
+                .thrownBy(desc -> new NoTargetedFieldException(modelType, desc))
+                .isNotEmpty()
+                .describedAs("StreamingModelReader.fields cannot have null element: {0}", fields)
+                .doesNotContainNull();
+        this.fields = fields;
+
+        Asserts.that(registry)
+                .describedAs("StreamingModelReader.registry is not allowed to be null")
+                .isNotNull();
+        this.registry = registry;
+
+        // Resolves the model creator in advance to fail fast.
+        this.metadata.getExecutable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExcelStreamingReader<T> options(ExcelReadStrategy... strategies) {
+        Asserts.that(strategies)
+                .describedAs("strategies is not allowed to be null")
+                .isNotNull()
+                .describedAs("strategies cannot have null element: {0}", ArrayUtils.toString(strategies))
+                .doesNotContainNull();
+        if (strategies.length == 0) return this;
+
+        // Makes each strategy be unique; removes duplication.
+        Map<Class<? extends ExcelReadStrategy>, ExcelReadStrategy> strategyMap = Arrays.stream(strategies)
+                .distinct().filter(it -> it.isSupported(this.context))
+                .collect(toMap(ExcelReadStrategy::getClass, Function.identity()));
+        this.context.setStrategyMap(Collections.unmodifiableMap(strategyMap));
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> This reads all the models into a list, and closes this reader.
+     */
+    @Override
+    public List<T> read() {
+        List<T> list = new ArrayList<>();
+        iterator().forEachRemaining(list::add);
+
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> This closes this reader after all the batches are read.
+     */
+    @Override
+    public void read(int batchSize, Consumer<List<T>> consumer) {
+        Asserts.that(batchSize)
+                .describedAs("batchSize must be positive, but it isn't: {0}", batchSize)
+                .isPositive();
+        Asserts.that(consumer)
+                .describedAs("consumer is not allowed to be null")
+                .isNotNull();
+
+        // Reuses the list for all the batches.
+        List<T> batch = new ArrayList<>(batchSize);
+        List<T> readOnlyBatch = Collections.unmodifiableList(batch);
+
+        try {
+            Iterator<T> iterator = iterator();
+            while (iterator.hasNext()) {
+                // Lifecycle method.
+                if (batch.isEmpty()) preReadBatch(this.context);
+
+                batch.add(iterator.next());
+
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    this.context.setChunk(readOnlyBatch);
+
+                    // Lifecycle method.
+                    postReadBatch(this.context);
+
+                    consumer.accept(readOnlyBatch);
+
+                    // Releases the models before reading the next batch.
+                    batch.clear();
+                }
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        if (this.consumed) {
+            throw new IllegalStateException("StreamingModelReader can read the Excel file only once");
+        }
+        this.consumed = true;
+
+        ExcelReadStrategy strategy = this.context.getStrategyMap().get(Limit.class);
+        if (strategy != null) {
+            this.limit = (int) strategy.execute(this.context);
+        }
+
+        ExcelReadStrategy offset = this.context.getStrategyMap().get(Offset.class);
+        if (offset != null) {
+            this.offset = (int) offset.execute(this.context);
+        }
+
+        // To convert Map to the actual model, ignores @ExcelColumn.name().
+        this.context.setHeaderNames(FieldUtils.toHeaderNames(this.fields, true));
+
+        try {
+            // Lifecycle method.
+            prepare(this.context);
+
+            this.iterator = new ModelIterator(ModelReadPlan.get(this.metadata, this.registry, this.context));
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+
+        return this.iterator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (this.closed) return;
+        this.closed = true;
+
+        ModelIterator iterator = this.iterator;
+        if (iterator != null) {
+            iterator.closeSheet();
+            iterator.sharedStrings.close();
+        }
+
+        // Releases the file without saving it.
+        this.pkg.revert();
+
+        Path file = this.file;
+        if (file == null) return;
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Iterator that pulls rows from the sheets in order, and converts them into models.
+     */
+    private class ModelIterator implements Iterator<T> {
+        private final ExcelReadConverter[] fieldConverters;
+        private final ExcelModelCreationProcessor<T> modelProcessor;
+        private final SharedStringsStore sharedStrings;
+        @Nullable
+        private final StylesTable styles;
+        private final XSSFReader xssfReader;
+        private final Iterator<String> sheetRelIds;
+
+        /**
+         * Buffer of the current row, which is reused for each row.
+         */
+        private final ExcelReadRow row;
+
+        @Nullable
+        private final Filter filter;
+
+        @Nullable
+        private InputStream sheetStream;
+        @Nullable
+        private XMLStreamReader sheetReader;
+        private int nextRowIndex;
+
+        /**
+         * The number of rows that remain to be skipped before reading.
+         */
+        private int rowsToSkip = offset;
+
+        @Nullable
+        private T next;
+        private boolean finished;
+
+        private ModelIterator(ModelReadPlan<T> plan) {
+            this.fieldConverters = fields.stream().map(plan.converters::getConverter).toArray(ExcelReadConverter[]::new);
+            this.modelProcessor = plan.modelProcessor;
+            this.row = new ExcelReadRow(context.getHeaderNames(), plan.getNativeTypes(context));
+
+            // Lets the buffer read only the projected columns and the columns that expressions refer to.
+            Set<String> projection = plan.getProjection(context);
+            if (projection != null) {
+                this.row.project(projection);
+            }
+
+            ExcelReadStrategy filter = context.getStrategyMap().get(Filter.class);
+            this.filter = filter == null ? null : (Filter) filter.execute(context);
+
+            SharedStringsStore sharedStrings = null;
+            try {
+                this.xssfReader = new XSSFReader(pkg);
+                this.sharedStrings = sharedStrings = openSharedStrings();
+                this.styles = this.xssfReader.getStylesTable();
+
+                try (InputStream in = this.xssfReader.getWorkbookData()) {
+                    this.sheetRelIds = readVisibleSheetRelIds(in).iterator();
+                }
+            } catch (Exception e) {
+                // Deletes the spilled strings, because this iterator is not returned to be closed.
+                if (sharedStrings != null) sharedStrings.close();
+                throw new ReadingExcelException(e, "Failed to open the xlsx file");
+            }
+        }
+
+        private SharedStringsStore openSharedStrings() throws IOException {
+            // Keeps the strings on heap unless they are allowed to spill.
+            ExcelReadStrategy strategy = context.getStrategyMap().get(SpillSharedStrings.class);
+            SpillSharedStrings spill = strategy == null ? null : (SpillSharedStrings) strategy.execute(context);
+            SharedStringsStore store = spill == null
+                    ? new SharedStringsStore(Long.MAX_VALUE, null)
+                    : new SharedStringsStore(spill.getThreshold(), spill.getDirectory());
+
+            List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+            if (parts.isEmpty()) return store;
+
+            try (InputStream in = parts.get(0).getInputStream()) {
+                store.readFrom(in);
+            } catch (IOException | RuntimeException e) {
+                store.close();
+                throw e;
+            }
+
+            return store;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null && !this.finished) {
+                this.next = advance();
+            }
+
+            return this.next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            T model = this.next;
+            this.next = null;
+
+            return model;
+        }
+
+        @Nullable
+        private T advance() {
+            try {
+                while (context.getReadCount() != limit) {
+                    if (this.sheetReader == null && !openNextSheet()) {
+                        break;
+                    }
+
+                    int rowIndex = readRow();
+
+                    // Reaches the end of the sheet.
+                    if (rowIndex == -1) {
+                        closeSheet();
+                        continue;
+                    }
+
+                    // Skips the first row that is header, and the rows before the offset.
+                    if (rowIndex == 0 || rowIndex == SKIPPED_ROW) {
+                        continue;
+                    }
+
+                    // Discards the rejected row before conversion.
+                    if (this.filter != null && !this.filter.test(this.row)) {
+                        continue;
+                    }
+
+                    // Increases read count of row.
+                    context.increaseReadCount();
+
+                    return toActualModel();
+                }
+            } catch (XMLStreamException | IOException e) {
+                close();
+                throw new ReadingExcelException(e);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+
+            // Releases the file as soon as all the models are read.
+            this.finished = true;
+            close();
+
+            // Lifecycle method.
+            complete(context);
+
+            return null;
+        }
+
+        private boolean openNextSheet() throws IOException, XMLStreamException {
+            if (!this.sheetRelIds.hasNext()) {
+                return false;
+            }
+
+            try {
+                this.sheetStream = this.xssfReader.getSheet(this.sheetRelIds.next());
+            } catch (Exception e) {
+                throw new ReadingExcelException(e, "Failed to open the sheet of the xlsx file");
+            }
+
+            this.sheetReader = XML_INPUT_FACTORY.createXMLStreamReader(this.sheetStream);
+            this.nextRowIndex = 0;
+
+            return true;
+        }
+
+        private void closeSheet() {
+            XMLStreamReader reader = this.sheetReader;
+            InputStream in = this.sheetStream;
+            this.sheetReader = null;
+            this.sheetStream = null;
+
+            try {
+                if (reader != null) reader.close();
+                if (in != null) in.close();
+            } catch (XMLStreamException | IOException ignored) {
+                // The sheet is already read.
+            }
+        }
+
+        /**
+         * Reads the next row into the values.
+         *
+         * @return index of the row, {@link #SKIPPED_ROW} if the row is before the offset,
+         * or -1 if there is no more row in the sheet
+         */
+        private int readRow() throws XMLStreamException {
+            XMLStreamReader reader = this.sheetReader;
+
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !"row".equals(reader.getLocalName())) {
+                    continue;
+                }
+
+                String ref = reader.getAttributeValue(null, "r");
+                int rowIndex = ref == null ? this.nextRowIndex : Integer.parseInt(ref) - 1;
+                this.nextRowIndex = rowIndex + 1;
+
+                // Drops the row before the offset without parsing its cells.
+                if (rowIndex != 0 && this.rowsToSkip > 0) {
+                    this.rowsToSkip--;
+                    skipElement(reader, "row");
+                    return SKIPPED_ROW;
+                }
+
+                this.row.clear();
+                readCells(reader);
+
+                return rowIndex;
+            }
+
+            return -1;
+        }
+
+        private void readCells(XMLStreamReader reader) throws XMLStreamException {
+            int nextColumnIndex = 0;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT && "row".equals(reader.getLocalName())) {
+                    return;
+                }
+                if (event != XMLStreamConstants.START_ELEMENT || !"c".equals(reader.getLocalName())) {
+                    continue;
+                }
+
+                String ref = reader.getAttributeValue(null, "r");
+                int columnIndex = ref == null ? nextColumnIndex : toColumnIndex(ref);
+                nextColumnIndex = columnIndex + 1;
+
+                // Drops the columns that are not mapped to the fields or not projected at parse time.
+                if (columnIndex >= this.row.size() || !this.row.isProjected(columnIndex)) {
+                    skipElement(reader, "c");
+                    continue;
+                }
+
+                String type = reader.getAttributeValue(null, "t");
+                String style = reader.getAttributeValue(null, "s");
+                Object cellValue = readCell(reader, type, style, columnIndex);
+
+                if (cellValue == null || cellValue instanceof String) {
+                    // Converts empty string to null like ModelReader.
+                    this.row.set(columnIndex, StringUtils.ifNullOrEmpty((String) cellValue, (String) null));
+                } else {
+                    this.row.setNative(columnIndex, cellValue);
+                }
+            }
+        }
+
+        private void skipElement(XMLStreamReader reader, String name) throws XMLStreamException {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.END_ELEMENT && name.equals(reader.getLocalName())) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Reads a cell as string, or as native value if the column accepts it.
+         */
+        @Nullable
+        private Object readCell(XMLStreamReader reader, @Nullable String type, @Nullable String style,
+                                int columnIndex) throws XMLStreamException {
+            String value = null;
+            StringBuilder inlineText = null;
+            int phoneticDepth = 0;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("c".equals(name)) break;
+                    if ("rPh".equals(name)) phoneticDepth--;
+                    continue;
+                }
+                if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                String name = reader.getLocalName();
+                if ("v".equals(name)) {
+                    value = reader.getElementText();
+                } else if ("rPh".equals(name)) {
+                    phoneticDepth++;
+                } else if ("t".equals(name)) {
+                    // Text of inline string can be split into rich text runs.
+                    String text = reader.getElementText();
+                    if (phoneticDepth == 0) {
+                        if (inlineText == null) inlineText = new StringBuilder();
+                        inlineText.append(text);
+                    }
+                }
+            }
+
+            if (type == null) {
+                return readNumber(value, style, columnIndex);
+            }
+
+            switch (type) {
+                case "s":
+                    return value == null ? null : this.sharedStrings.get(Integer.parseInt(value));
+                case "inlineStr":
+                    return inlineText == null ? null : inlineText.toString();
+                case "b":
+                    if (value == null) return null;
+                    if (this.row.acceptsNative(columnIndex, NativeType.BOOLEAN)) return "1".equals(value);
+                    return "1".equals(value) ? "TRUE" : "FALSE";
+                case "n":
+                    return readNumber(value, style, columnIndex);
+                default:
+                    // Cached value of formula, error or date in ISO 8601.
+                    return value;
+            }
+        }
+
+        @Nullable
+        private Object readNumber(@Nullable String value, @Nullable String style, int columnIndex) {
+            if (StringUtils.isNullOrEmpty(value)) {
+                return null;
+            }
+
+            int formatIndex = 0;
+            String formatString = null;
+            if (style != null && this.styles != null) {
+                XSSFCellStyle cellStyle = this.styles.getStyleAt(Integer.parseInt(style));
+                if (cellStyle != null) {
+                    formatIndex = cellStyle.getDataFormat();
+                    formatString = cellStyle.getDataFormatString();
+                }
+            }
+            if (formatString == null) {
+                formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+            }
+
+            double number = Double.parseDouble(value);
+
+            // Skips formatting the number when the column accepts it as it is.
+            boolean acceptsNumber = this.row.acceptsNative(columnIndex, NativeType.NUMBER);
+            boolean acceptsDate = this.row.acceptsNative(columnIndex, NativeType.DATE);
+            if (acceptsNumber || acceptsDate) {
+                boolean date = DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(number);
+                if (date && acceptsDate) return DateUtil.getLocalDateTime(number);
+                if (!date && acceptsNumber) return number;
+            }
+
+            return dataFormatter.formatRawCellContents(number, formatIndex, formatString);
+        }
+
+        private T toActualModel() {
+            // Values of the fields in the same order as the fields.
+            Object[] values = new Object[this.fieldConverters.length];
+            for (int i = 0; i < values.length; i++) {
+                // Skips conversion of the field whose column is not projected.
+                Field field = fields.get(i);
+                values[i] = this.row.isProjected(i)
+                        ? this.fieldConverters[i].convert(this.row, field) : ClassUtils.initialValueOf(field.getType());
+            }
+
+            return this.modelProcessor.createModel(values);
+        }
+    }
+
+    private static List<String> readVisibleSheetRelIds(InputStream workbookData) throws XMLStreamException {
+        List<String> relIds = new ArrayList<>();
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(workbookData);
+
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !"sheet".equals(reader.getLocalName())) {
+                    continue;
+                }
+
+                // Skips the hidden sheet like ModelReader.
+                if ("hidden".equals(reader.getAttributeValue(null, "state"))) {
+                    continue;
+                }
+
+                relIds.add(reader.getAttributeValue(RELATIONSHIP_NAMESPACE, "id"));
+            }
+        } finally {
+            reader.close();
+        }
+
+        return relIds;
+    }
+
+    private static int toColumnIndex(String cellReference) {
+        int columnNumber = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') break;
+
+            columnNumber = columnNumber * 26 + (c - 'A' + 1);
+        }
+
+        return columnNumber - 1;
+    }
+
+}
@@ -19,6 +19,12 @@ package com.github.javaxcel.in.lifecycle;
 import com.github.javaxcel.in.context.ExcelReadContext;
 import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
 
+/**
+ * Lifecycle of reading Excel file.
+ *
+ * <p> The methods are invoked on the thread that reads the models, even when
+ * {@link com.github.javaxcel.in.strategy.impl.ConcurrentSheets} reads the bodies of sheets on the other threads.
+ */
 @ExcludeFromGeneratedJacocoReport
 public interface ExcelReadLifecycle<T> {
 
@@ -31,6 +37,23 @@ public interface ExcelReadLifecycle<T> {
     default void postReadSheet(ExcelReadContext<T> context) {
     }
 
+    /**
+     * Invoked before a batch is read, only when the models are read in batches.
+     *
+     * @param context context with current sheet
+     */
+    default void preReadBatch(ExcelReadContext<T> context) {
+    }
+
+    /**
+     * Invoked after a batch is read and before it is passed to the consumer,
+     * only when the models are read in batches.
+     *
+     * @param context context with current batch as chunk
+     */
+    default void postReadBatch(ExcelReadContext<T> context) {
+    }
+
     default void complete(ExcelReadContext<T> context) {
     }
 
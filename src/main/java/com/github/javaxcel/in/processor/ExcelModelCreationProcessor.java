@@ -16,6 +16,8 @@
 
 package com.github.javaxcel.in.processor;
 
+import com.github.javaxcel.accessor.FieldAccessor;
+import com.github.javaxcel.accessor.FieldAccessorFactory;
 import com.github.javaxcel.analysis.ExcelAnalysis;
 import com.github.javaxcel.analysis.in.ExcelReadAnalyzer;
 import com.github.javaxcel.annotation.ExcelModelCreator;
@@ -25,19 +27,22 @@ import com.github.javaxcel.in.resolver.ExcelModelExecutableParameterNameResolver
 import com.github.javaxcel.in.resolver.ExcelModelExecutableParameterNameResolver.ResolvedParameter;
 import com.github.javaxcel.util.FieldUtils;
 import io.github.imsejin.common.assertion.Asserts;
-import io.github.imsejin.common.util.CollectionUtils;
-import io.github.imsejin.common.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Processor for creation of Excel model
@@ -46,6 +51,10 @@ import static java.util.stream.Collectors.toList;
  */
 public class ExcelModelCreationProcessor<T> {
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType CREATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
     private final List<Field> fields;
 
     /**
@@ -83,11 +92,22 @@ public class ExcelModelCreationProcessor<T> {
      */
     private final Executable executable;
 
+    /**
+     * Method handle of the executable, which takes the arguments as an array and returns the model.
+     *
+     * <p> This is resolved once, so that creation of model doesn't check access
+     * and copy the arguments on each call unlike reflection API.
+     */
+    private final MethodHandle creator;
+
     private final List<ResolvedParameter> resolvedParameters;
 
-    private List<ExcelAnalysis> analyses;
+    private final FieldAccessorFactory accessorFactory;
 
-    private Map<Field, Method> setterMap;
+    /**
+     * Plan for binding the values to the model, which is compiled whenever the accessors are changed.
+     */
+    private BindingPlan plan;
 
     /**
      * Instantiates a new processor.
@@ -97,6 +117,19 @@ public class ExcelModelCreationProcessor<T> {
      * @param executable creator of model
      */
     public ExcelModelCreationProcessor(Class<T> modelType, List<Field> fields, Executable executable) {
+        this(modelType, fields, executable, FieldAccessorFactory.DEFAULT);
+    }
+
+    /**
+     * Instantiates a new processor.
+     *
+     * @param modelType       type of model
+     * @param fields          targeted fields of model
+     * @param executable      creator of model
+     * @param accessorFactory factory of accessor for the fields
+     */
+    public ExcelModelCreationProcessor(Class<T> modelType, List<Field> fields, Executable executable,
+                                       FieldAccessorFactory accessorFactory) {
         Asserts.that(modelType)
                 .describedAs("ExcelModelCreationProcessor.modelType is not allowed to be null")
                 .isNotNull();
@@ -122,44 +155,63 @@ public class ExcelModelCreationProcessor<T> {
         }
 
         this.executable = executable;
+        this.creator = toCreatorHandle(executable);
 
         // Parameters are already validated on AbstractExcelModelExecutableResolver.
         this.resolvedParameters = new ExcelModelExecutableParameterNameResolver(executable).resolve();
+
+        Asserts.that(accessorFactory)
+                .describedAs("ExcelModelCreationProcessor.accessorFactory is not allowed to be null")
+                .isNotNull();
+        this.accessorFactory = accessorFactory;
+
+        // Without analyses, binds the argument to the field directly.
+        List<FieldAccessor> accessors = fields.stream().map(it -> accessorFactory.create(it, null, null)).collect(toList());
+        this.plan = compile(accessors);
     }
 
     public void setAnalyses(List<ExcelAnalysis> analyses) {
-        Map<Field, Method> setterMap = new HashMap<>();
+        List<FieldAccessor> accessors = new ArrayList<>(analyses.size());
 
         for (ExcelAnalysis analysis : analyses) {
-            if (analysis.hasFlag(ExcelReadAnalyzer.SETTER)) {
-                Field field = analysis.getField();
-                Method setter = FieldUtils.resolveSetter(field);
+            Field field = analysis.getField();
 
-                setterMap.put(field, setter);
-            }
+            // Binds the argument through setter for the field.
+            Method setter = analysis.hasFlag(ExcelReadAnalyzer.SETTER) ? FieldUtils.resolveSetter(field) : null;
+            accessors.add(this.accessorFactory.create(field, null, setter));
         }
 
-        this.analyses = analyses;
-        this.setterMap = Collections.unmodifiableMap(setterMap);
+        this.plan = compile(accessors);
     }
 
     /**
-     * Creates a Excel model.
+     * Compiles a plan for binding the values to the model, so that creation of model
+     * doesn't resolve the parameters and fields for each row.
      *
-     * <p> The parameter has a entry which has the key as {@link Field#getName()}
-     * and the value from {@link ExcelReadConverter}.
-     *
-     * @param mock mock of the model
-     * @return model
+     * @param accessors accessors for each field
+     * @return binding plan
      */
-    @SuppressWarnings("unchecked")
-    public T createModel(Map<String, Object> mock) {
-        Object[] arguments = resolveInitialArguments(mock);
+    private BindingPlan compile(List<FieldAccessor> accessors) {
+        // Resolves the field bound to each parameter of the executable.
+        int[] argumentSlots = new int[this.resolvedParameters.size()];
+        for (int i = 0; i < argumentSlots.length; i++) {
+            ResolvedParameter resolvedParam = this.resolvedParameters.get(i);
+            int index = indexOfField(resolvedParam.getName());
 
-        // Instantiates the actual model through the cached ExcelModelCreator.
-        T model = (T) ReflectionUtils.execute(this.executable, null, arguments);
+            // It is able to map argument to this parameter
+            // when its type is unique on the fields that model class has
+            // even though both parameter name and field type is not matched.
+            if (index == -1) {
+                Field field = this.fields.stream().filter(it -> it.getType() == resolvedParam.getType()).findFirst().get();
+                index = this.fields.indexOf(field);
+            }
+
+            argumentSlots[i] = index;
+        }
 
-        List<String> paramNames = this.resolvedParameters.stream().map(ResolvedParameter::getName).collect(toList());
+        Set<String> paramNames = this.resolvedParameters.stream().map(ResolvedParameter::getName).collect(toSet());
+        List<Integer> assignmentSlots = new ArrayList<>();
+        List<FieldAccessor> assignmentAccessors = new ArrayList<>();
 
         for (int i = 0; i < this.fields.size(); i++) {
             Field field = this.fields.get(i);
@@ -174,51 +226,124 @@ public class ExcelModelCreationProcessor<T> {
                 continue;
             }
 
-            Object value = mock.get(field.getName());
-
-            if (!CollectionUtils.isNullOrEmpty(this.analyses)) {
-                ExcelAnalysis analysis = this.analyses.get(i);
+            assignmentSlots.add(i);
+            assignmentAccessors.add(accessors.get(i));
+        }
 
-                // Binds the argument through setter for the field.
-                if (analysis.hasFlag(ExcelReadAnalyzer.SETTER)) {
-                    Method setter = this.setterMap.get(field);
-                    ReflectionUtils.invoke(setter, model, value);
-                    continue;
-                }
-            }
+        return new BindingPlan(argumentSlots, assignmentSlots.stream().mapToInt(Integer::intValue).toArray(),
+                assignmentAccessors.toArray(new FieldAccessor[0]));
+    }
 
-            // Without setter, binds the argument to the field directly.
-            ReflectionUtils.setFieldValue(model, field, value);
+    /**
+     * Creates a Excel model.
+     *
+     * <p> The parameter has a entry which has the key as {@link Field#getName()}
+     * and the value from {@link ExcelReadConverter}.
+     *
+     * @param mock mock of the model
+     * @return model
+     */
+    public T createModel(Map<String, Object> mock) {
+        Object[] values = new Object[this.fields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mock.get(this.fields.get(i).getName());
         }
 
-        return model;
+        return createModel(values);
     }
 
     /**
-     * Maps a mock model to initial arguments for {@link ExcelModelCreator @ExcelModelCreator}.
+     * Creates a Excel model.
+     *
+     * <p> The parameter has the values from {@link ExcelReadConverter}
+     * in the same order as the targeted fields.
      *
-     * @param mock mock model
+     * @param values values of the fields
+     * @return model
      */
-    private Object[] resolveInitialArguments(Map<String, Object> mock) {
-        Object[] arguments = new Object[this.resolvedParameters.size()];
+    @SuppressWarnings("unchecked")
+    public T createModel(Object[] values) {
+        BindingPlan plan = this.plan;
+
+        // Maps values of the fields to initial arguments for @ExcelModelCreator.
+        int[] argumentSlots = plan.argumentSlots;
+        Object[] arguments = new Object[argumentSlots.length];
+        for (int i = 0; i < argumentSlots.length; i++) {
+            arguments[i] = values[argumentSlots[i]];
+        }
 
-        for (int i = 0; i < arguments.length; i++) {
-            ResolvedParameter resolvedParam = this.resolvedParameters.get(i);
-            String paramName = resolvedParam.getName();
+        // Instantiates the actual model through the cached ExcelModelCreator.
+        T model;
+        try {
+            model = (T) (Object) this.creator.invokeExact(arguments);
+        } catch (Throwable t) {
+            if (t instanceof RuntimeException) throw (RuntimeException) t;
+            if (t instanceof Error) throw (Error) t;
+
+            String message = String.format("Failed to create the model through: %s", this.executable);
+            throw new RuntimeException(message, t);
+        }
 
-            if (mock.containsKey(paramName)) {
-                arguments[i] = mock.get(paramName);
-                continue;
-            }
+        // Binds the rest of values through setter or to the field directly.
+        int[] assignmentSlots = plan.assignmentSlots;
+        FieldAccessor[] assignmentAccessors = plan.assignmentAccessors;
+        for (int i = 0; i < assignmentSlots.length; i++) {
+            assignmentAccessors[i].set(model, values[assignmentSlots[i]]);
+        }
 
-            // It is able to map argument to this parameter
-            // when its type is unique on the fields that model class has
-            // even though both parameter name and field type is not matched.
-            Field field = this.fields.stream().filter(it -> it.getType() == resolvedParam.getType()).findFirst().get();
-            arguments[i] = mock.get(field.getName());
+        return model;
+    }
+
+    private static MethodHandle toCreatorHandle(Executable executable) {
+        try {
+            MethodHandle handle = executable instanceof Constructor
+                    ? LOOKUP.unreflectConstructor((Constructor<?>) executable)
+                    : LOOKUP.unreflect((Method) executable);
+
+            // Spreads the arguments and erases the types to invoke the handle exactly.
+            return handle.asFixedArity()
+                    .asSpreader(Object[].class, executable.getParameterCount())
+                    .asType(CREATOR_TYPE);
+        } catch (IllegalAccessException e) {
+            String message = String.format("Failed to create method handle for the executable: %s", executable);
+            throw new IllegalArgumentException(message, e);
         }
+    }
 
-        return arguments;
+    private int indexOfField(String fieldName) {
+        for (int i = 0; i < this.fields.size(); i++) {
+            if (this.fields.get(i).getName().equals(fieldName)) return i;
+        }
+
+        return -1;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Plan for binding the values of fields to the model.
+     */
+    private static final class BindingPlan {
+        /**
+         * Index of the field bound to each parameter of {@link ExcelModelCreator}.
+         */
+        private final int[] argumentSlots;
+
+        /**
+         * Index of the field assigned after the model is instantiated.
+         */
+        private final int[] assignmentSlots;
+
+        /**
+         * Accessor for the field assigned after the model is instantiated, which is prebound with setter.
+         */
+        private final FieldAccessor[] assignmentAccessors;
+
+        private BindingPlan(int[] argumentSlots, int[] assignmentSlots, FieldAccessor[] assignmentAccessors) {
+            this.argumentSlots = argumentSlots;
+            this.assignmentSlots = assignmentSlots;
+            this.assignmentAccessors = assignmentAccessors;
+        }
     }
 
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.in.strategy.impl;
+
+import com.github.javaxcel.annotation.ExcelReadExpression;
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
+import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+/**
+ * Makes the expressions of {@link ExcelReadExpression} compiled into bytecode.
+ *
+ * <p> The expression is interpreted for the first calls and compiled when it gets hot.
+ * The expression that cannot be compiled, such as selection or projection of collection,
+ * is still interpreted, so the result is identical to the one without this strategy.
+ *
+ * @see SpelCompilerMode
+ */
+public class CompiledExpressions extends AbstractExcelReadStrategy {
+
+    private final SpelCompilerMode compilerMode;
+
+    /**
+     * Strategy for compiled expressions with {@link SpelCompilerMode#MIXED}.
+     *
+     * <p> If the compiled expression fails, such as when the types of variables vary,
+     * it falls back to the interpreted one.
+     */
+    public CompiledExpressions() {
+        this(SpelCompilerMode.MIXED);
+    }
+
+    /**
+     * Strategy for compiled expressions with the given mode.
+     *
+     * @param compilerMode compiler mode of expressions
+     */
+    public CompiledExpressions(SpelCompilerMode compilerMode) {
+        Asserts.that(compilerMode)
+                .describedAs("ExcelReadStrategy.CompiledExpressions.compilerMode is not allowed to be null")
+                .isNotNull();
+
+        this.compilerMode = compilerMode;
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || StreamingModelReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this.compilerMode;
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.in.strategy.impl;
+
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.impl.MapReader;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Makes the visible sheets read concurrently.
+ *
+ * <p> The headers are read by the thread that calls {@link ExcelReader#read()}, and the bodies
+ * of the sheets are read on the executor, each with its own formatter, formula evaluator and context.
+ * The models are merged in order of the sheets, so they are the same as the ones read sequentially
+ * even with {@link Limit} and {@link Offset}: each sheet reads the models up to the limit, and the merge
+ * stops at the limit. The lifecycle methods such as {@code preReadSheet} and {@code postReadSheet}
+ * are invoked on the calling thread in order of the sheets, not on the executor.
+ *
+ * <p> Apache POI doesn't guarantee thread-safety of a workbook, even when its different sheets are
+ * only read from different threads with a separate formula evaluator per sheet. The sheets still share
+ * the workbook-wide state such as the shared strings table, cell styles and the names used by formulas.
+ * Use this only with the workbook whose sheets are read without mutating the shared state,
+ * such as {@link org.apache.poi.xssf.usermodel.XSSFWorkbook} and {@link org.apache.poi.hssf.usermodel.HSSFWorkbook}
+ * opened for reading and not modified while being read, and at your own risk.
+ * {@link Parallel} is not applied within the sheets read concurrently,
+ * and this is not applied when the models are read in batches.
+ */
+public class ConcurrentSheets extends AbstractExcelReadStrategy {
+
+    private final Executor executor;
+
+    /**
+     * Strategy for concurrent sheets on {@link ForkJoinPool#commonPool()}.
+     */
+    public ConcurrentSheets() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Strategy for concurrent sheets on the given executor.
+     *
+     * @param executor executor that reads sheets
+     */
+    public ConcurrentSheets(Executor executor) {
+        Asserts.that(executor)
+                .describedAs("ExcelReadStrategy.ConcurrentSheets.executor is not allowed to be null")
+                .isNotNull();
+
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || MapReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this.executor;
+    }
+
+}
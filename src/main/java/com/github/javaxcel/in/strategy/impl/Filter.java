@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.strategy.impl;
+
+import com.github.javaxcel.converter.in.ExcelReadRow;
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.impl.MapReader;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
+import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Reads only the rows that match the predicate.
+ *
+ * <p> The predicate is tested on the raw values of row right after it is parsed,
+ * so the rejected rows are neither converted by handlers and expressions nor instantiated as models.
+ * {@link Limit} counts only the accepted rows, and {@link Offset} counts all the rows.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .reader(workbook, Order.class)
+ *             .options(new Filter("status", "PAID"::equals))
+ *             .read();
+ * }</pre>
+ *
+ * <p> The predicate may be tested concurrently when {@link ConcurrentSheets} is given,
+ * so it should be thread-safe.
+ */
+public class Filter extends AbstractExcelReadStrategy {
+
+    @Nullable
+    private final String headerName;
+
+    private final Predicate<ExcelReadRow> predicate;
+
+    /**
+     * Strategy for filter on the buffer of row.
+     *
+     * <p> {@link ExcelReadRow#get(int)} returns the stringified value of cell.
+     * Every column is read as string with this, even if {@link TypedCells} is given,
+     * so prefer {@link #Filter(String, Predicate)} to keep reading the other columns as native value.
+     *
+     * @param predicate predicate on the buffer of row, which must not keep reference to it
+     */
+    public Filter(Predicate<ExcelReadRow> predicate) {
+        Asserts.that(predicate)
+                .describedAs("ExcelReadStrategy.Filter.predicate is not allowed to be null")
+                .isNotNull();
+
+        this.headerName = null;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Strategy for filter on the stringified value of a column.
+     *
+     * @param headerName header name of the column
+     * @param predicate  predicate on the stringified value of cell, which is null if the cell is blank
+     */
+    public Filter(String headerName, Predicate<String> predicate) {
+        Asserts.that(headerName)
+                .describedAs("ExcelReadStrategy.Filter.headerName is not allowed to be null or blank: '{0}'", headerName)
+                .isNotNull().hasText();
+        Asserts.that(predicate)
+                .describedAs("ExcelReadStrategy.Filter.predicate is not allowed to be null")
+                .isNotNull();
+
+        this.headerName = headerName;
+        this.predicate = row -> predicate.test(row.get(headerName));
+    }
+
+    /**
+     * Returns the header name of the column to be tested,
+     * which must be read as string.
+     *
+     * @return header name, or null if the predicate is on the buffer of row
+     */
+    @Nullable
+    public String getHeaderName() {
+        return this.headerName;
+    }
+
+    /**
+     * Tests the buffer of row.
+     *
+     * @param row buffer of row
+     * @return whether the row is read
+     */
+    public boolean test(ExcelReadRow row) {
+        return this.predicate.test(row);
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || MapReader.class.isAssignableFrom(readerType)
+                || StreamingModelReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this;
+    }
+
+}
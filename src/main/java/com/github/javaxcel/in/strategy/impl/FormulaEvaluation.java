@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.strategy.impl;
+
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.impl.MapReader;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+
+/**
+ * Decides how to read the cell that has a formula.
+ *
+ * <p> Without this strategy, reader evaluates the formulas as {@link Policy#EVALUATE}.
+ * Evaluating a workbook with a lot of lookup formulas can take much longer than reading it,
+ * so use {@link Policy#CACHED} when the file was saved by Excel, which stores the results.
+ *
+ * @see ExcelReadContext#getFormulaEvaluationTime()
+ */
+public class FormulaEvaluation extends AbstractExcelReadStrategy {
+
+    private final Policy policy;
+
+    public FormulaEvaluation(Policy policy) {
+        Asserts.that(policy)
+                .describedAs("ExcelReadStrategy.FormulaEvaluation.policy is not allowed to be null")
+                .isNotNull();
+
+        this.policy = policy;
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || MapReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this.policy;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Policy for the cell that has a formula.
+     */
+    public enum Policy {
+        /**
+         * Reads the formula itself, such as {@code SUM(A1:A3)}.
+         */
+        NONE,
+
+        /**
+         * Reads the last result of formula stored in the file, without evaluation.
+         *
+         * <p> The result may be stale or absent if the file was not saved by spreadsheet program.
+         */
+        CACHED,
+
+        /**
+         * Evaluates the formula and reads the result.
+         *
+         * <p> The results of the cells referenced by formulas are memoized while reading a workbook,
+         * so the cell referenced by many formulas is evaluated only once. The sheets read concurrently
+         * have their own memoization.
+         */
+        EVALUATE,
+    }
+
+}
@@ -20,6 +20,7 @@ import com.github.javaxcel.in.context.ExcelReadContext;
 import com.github.javaxcel.in.core.ExcelReader;
 import com.github.javaxcel.in.core.impl.MapReader;
 import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
 import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
 import io.github.imsejin.common.assertion.Asserts;
 
@@ -43,7 +44,8 @@ public class Limit extends AbstractExcelReadStrategy {
     @Override
     public boolean isSupported(ExcelReadContext<?> context) {
         Class<? extends ExcelReader<?>> writerType = context.getReaderType();
-        return ModelReader.class.isAssignableFrom(writerType) || MapReader.class.isAssignableFrom(writerType);
+        return ModelReader.class.isAssignableFrom(writerType) || MapReader.class.isAssignableFrom(writerType)
+                || StreamingModelReader.class.isAssignableFrom(writerType);
     }
 
     @Override
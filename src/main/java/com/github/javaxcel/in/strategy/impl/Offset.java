@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.strategy.impl;
+
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.impl.MapReader;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
+import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+
+/**
+ * Skips the rows before the offset, which are counted from the first row of body
+ * through the sheets in order.
+ *
+ * <p> The skipped rows are neither formatted nor converted, and {@link StreamingModelReader}
+ * doesn't parse their cells. With {@link Limit}, reader reads a range of rows and stops
+ * as soon as the range is done. The following code reads the 51 rows from the 1,000,001st row.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .reader(workbook, Product.class)
+ *             .options(new Offset(1_000_000), new Limit(51))
+ *             .read();
+ * }</pre>
+ *
+ * <p> The sheets are read in order even if {@link ConcurrentSheets} is given,
+ * because the offset depends on the rows of the previous sheets.
+ */
+public class Offset extends AbstractExcelReadStrategy {
+
+    private final int value;
+
+    /**
+     * Strategy for the number of rows to be skipped.
+     *
+     * @param value the number of rows to be skipped
+     */
+    public Offset(int value) {
+        Asserts.that(value)
+                .describedAs("ExcelReadStrategy.Offset.value is not allowed to be negative")
+                .isZeroOrPositive();
+
+        this.value = value;
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || MapReader.class.isAssignableFrom(readerType)
+                || StreamingModelReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this.value;
+    }
+
+}
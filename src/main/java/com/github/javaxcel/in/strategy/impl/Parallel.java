@@ -20,30 +20,98 @@ import com.github.javaxcel.in.context.ExcelReadContext;
 import com.github.javaxcel.in.core.ExcelReader;
 import com.github.javaxcel.in.core.impl.ModelReader;
 import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
-import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+import io.github.imsejin.common.assertion.Asserts;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
- * Makes the conversion from imitated model into real model parallel.
+ * Makes the conversion from row into real model parallel.
+ *
+ * <p> The thread that calls {@link ExcelReader#read()} parses rows and feeds them into a bounded queue,
+ * and the workers on the executor convert them into models at the same time.
+ * When the queue is full, parsing waits until the workers take rows from it,
+ * so the number of rows waiting for conversion doesn't exceed the capacity of the queue.
  *
- * <p> We recommend processing in parallel only when
- * dealing with large data. The following table is a benchmark.
+ * <p> The worker that the executor runs on the parsing thread, such as by direct executor
+ * or caller-runs policy, doesn't take part in the conversion. If no worker runs on the other threads,
+ * the rows are converted on the parsing thread as if this is not given.
+ * This is not applied when the models are read in batches.
  *
- * <pre><code>
- *     +------------+------------+----------+
- *     | row \ type | sequential | parallel |
- *     +------------+------------+----------+
- *     | 10,000     | 16s        | 13s      |
- *     +------------+------------+----------+
- *     | 25,000     | 31s        | 21s      |
- *     +------------+------------+----------+
- *     | 100,000    | 2m 7s      | 1m 31s   |
- *     +------------+------------+----------+
- *     | 150,000    | 3m 28s     | 2m 1s    |
- *     +------------+------------+----------+
- * </code></pre>
+ * <p> We recommend processing in parallel only when dealing with large data,
+ * because copying and handing over each row costs more than converting it for small data.
  */
 public class Parallel extends AbstractExcelReadStrategy {
 
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private final Executor executor;
+
+    private final int parallelism;
+
+    private final int queueCapacity;
+
+    private final boolean ordered;
+
+    /**
+     * Strategy for parallel conversion on {@link ForkJoinPool#commonPool()}.
+     */
+    public Parallel() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Strategy for parallel conversion on the given executor,
+     * which keeps the order of models as the order of rows.
+     *
+     * @param executor executor that converts rows
+     */
+    public Parallel(Executor executor) {
+        this(executor, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY, true);
+    }
+
+    /**
+     * Strategy for parallel conversion on the given executor.
+     *
+     * @param executor      executor that converts rows
+     * @param parallelism   the number of workers converting rows
+     * @param queueCapacity the maximum number of rows waiting for conversion
+     * @param ordered       whether to keep the order of models as the order of rows,
+     *                      or to return them in order of completion
+     */
+    public Parallel(Executor executor, int parallelism, int queueCapacity, boolean ordered) {
+        Asserts.that(executor)
+                .describedAs("ExcelReadStrategy.Parallel.executor is not allowed to be null")
+                .isNotNull();
+        Asserts.that(parallelism)
+                .describedAs("ExcelReadStrategy.Parallel.parallelism must be positive, but it isn't: {0}", parallelism)
+                .isPositive();
+        Asserts.that(queueCapacity)
+                .describedAs("ExcelReadStrategy.Parallel.queueCapacity must be positive, but it isn't: {0}", queueCapacity)
+                .isPositive();
+
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.queueCapacity = queueCapacity;
+        this.ordered = ordered;
+    }
+
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public int getQueueCapacity() {
+        return this.queueCapacity;
+    }
+
+    public boolean isOrdered() {
+        return this.ordered;
+    }
+
     @Override
     public boolean isSupported(ExcelReadContext<?> context) {
         Class<? extends ExcelReader<?>> writerType = context.getReaderType();
@@ -51,9 +119,8 @@ public class Parallel extends AbstractExcelReadStrategy {
     }
 
     @Override
-    @ExcludeFromGeneratedJacocoReport
     public Object execute(ExcelReadContext<?> context) {
-        throw new UnsupportedOperationException("ExcelReadStrategy." + getClass().getSimpleName() + " is not supported");
+        return this;
     }
 
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.strategy.impl;
+
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.impl.MapReader;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
+import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.StringUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Reads only the columns that have the given header names.
+ *
+ * <p> The other cells are skipped before they are formatted or looked up in shared strings,
+ * so reading a few columns of a wide sheet gets much faster. Header names of {@link MapReader}
+ * are the values in the first row (or {@link KeyNames}), and header names of {@link ModelReader}
+ * and {@link StreamingModelReader} are the names of the targeted fields.
+ *
+ * <p> {@link MapReader} doesn't put the skipped columns into {@link java.util.Map},
+ * and model reader leaves the fields of the skipped columns with initial value of their types
+ * without conversion. Model reader also reads the columns that the expressions
+ * of {@link com.github.javaxcel.annotation.ExcelReadExpression} on the projected fields refer to.
+ */
+public class Projection extends AbstractExcelReadStrategy {
+
+    private final Set<String> headerNames;
+
+    public Projection(Collection<String> headerNames) {
+        Asserts.that(headerNames)
+                .describedAs("ExcelReadStrategy.Projection.headerNames is not allowed to be null or empty: {0}", headerNames)
+                .isNotNull().isNotEmpty()
+                .describedAs("ExcelReadStrategy.Projection.headerNames cannot have null or blank element: {0}", headerNames)
+                .noneMatch(StringUtils::isNullOrBlank);
+
+        this.headerNames = Collections.unmodifiableSet(new LinkedHashSet<>(headerNames));
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || MapReader.class.isAssignableFrom(readerType)
+                || StreamingModelReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this.headerNames;
+    }
+
+}
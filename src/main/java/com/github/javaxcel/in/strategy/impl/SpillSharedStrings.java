@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.strategy.impl;
+
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
+import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spills the shared strings of xlsx file to a temporary file, once they exceed the threshold on heap.
+ *
+ * <p> The shared strings table is often the largest consumer of heap when reading xlsx file
+ * that has text columns of high cardinality. With this strategy, {@link StreamingModelReader}
+ * writes the strings into a temporary file as UTF-8, and looks them up through memory-mapped file
+ * with a small cache on heap. The temporary file is deleted when the reader is closed.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .streamingReader(file, Product.class)
+ *             .options(new SpillSharedStrings(64 * 1024 * 1024))
+ *             .read();
+ * }</pre>
+ */
+public class SpillSharedStrings extends AbstractExcelReadStrategy {
+
+    private final long threshold;
+
+    @Nullable
+    private final Path directory;
+
+    /**
+     * Strategy for spilling the shared strings to the default temporary directory.
+     *
+     * @param threshold estimated size of the strings on heap in bytes, over which they are spilled
+     */
+    public SpillSharedStrings(long threshold) {
+        this(threshold, null);
+    }
+
+    /**
+     * Strategy for spilling the shared strings to the directory.
+     *
+     * @param threshold estimated size of the strings on heap in bytes, over which they are spilled
+     * @param directory directory of temporary file, or null for the default one
+     */
+    public SpillSharedStrings(long threshold, @Nullable Path directory) {
+        Asserts.that(threshold)
+                .describedAs("ExcelReadStrategy.SpillSharedStrings.threshold is not allowed to be negative")
+                .isZeroOrPositive();
+        if (directory != null) {
+            Asserts.that(Files.isDirectory(directory))
+                    .describedAs("ExcelReadStrategy.SpillSharedStrings.directory must be a directory: {0}", directory)
+                    .isTrue();
+        }
+
+        this.threshold = threshold;
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return StreamingModelReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this;
+    }
+
+    /**
+     * Returns the threshold in bytes.
+     *
+     * @return threshold
+     */
+    public long getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Returns the directory of temporary file.
+     *
+     * @return directory, or null for the default one
+     */
+    @Nullable
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+}
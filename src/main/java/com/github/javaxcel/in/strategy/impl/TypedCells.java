@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.strategy.impl;
+
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
+import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
+import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+
+/**
+ * Reads number, boolean and date/time as native value of cell, not a formatted string.
+ *
+ * <p> This is applied to the fields handled by {@link ExcelNativeTypeHandler}, which are not referenced
+ * by expression. Because the value is not formatted by the data format of cell, the result can differ
+ * from the value displayed in Excel. For example, a number displayed as {@code 0.30} is read
+ * as {@code 0.30000000000000004}, and a date is read regardless of the pattern of field.
+ */
+public class TypedCells extends AbstractExcelReadStrategy {
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || StreamingModelReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    @ExcludeFromGeneratedJacocoReport
+    public Object execute(ExcelReadContext<?> context) {
+        throw new UnsupportedOperationException("ExcelReadStrategy." + getClass().getSimpleName() + " is not supported");
+    }
+
+}
@@ -19,6 +19,7 @@ package com.github.javaxcel.in.strategy.impl;
 import com.github.javaxcel.in.context.ExcelReadContext;
 import com.github.javaxcel.in.core.ExcelReader;
 import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.core.impl.StreamingModelReader;
 import com.github.javaxcel.in.strategy.AbstractExcelReadStrategy;
 import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
 
@@ -30,7 +31,7 @@ public class UseSetters extends AbstractExcelReadStrategy {
     @Override
     public boolean isSupported(ExcelReadContext<?> context) {
         Class<? extends ExcelReader<?>> writerType = context.getReaderType();
-        return ModelReader.class.isAssignableFrom(writerType);
+        return ModelReader.class.isAssignableFrom(writerType) || StreamingModelReader.class.isAssignableFrom(writerType);
     }
 
     @Override
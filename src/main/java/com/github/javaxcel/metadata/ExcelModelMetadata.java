@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.metadata;
+
+import com.github.javaxcel.accessor.FieldAccessorFactory;
+import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.in.resolver.AbstractExcelModelExecutableResolver;
+import com.github.javaxcel.util.FieldUtils;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Metadata of a model type, which is resolved once and shared between threads.
+ *
+ * @param <T> type of model
+ * @see ExcelModelMetadataCache
+ */
+public final class ExcelModelMetadata<T> {
+
+    private final Class<T> modelType;
+
+    /**
+     * The targeted fields, which are accessible.
+     */
+    private final List<Field> fields;
+
+    private final ExcelModelMetadataCache cache;
+
+    /**
+     * Compiled plans for each combination of the strategies that affect them.
+     */
+    private final ConcurrentMap<Object, VersionedPlan> plans = new ConcurrentHashMap<>();
+
+    private volatile Executable executable;
+
+    ExcelModelMetadata(Class<T> modelType, ExcelModelMetadataCache cache) {
+        this.modelType = modelType;
+
+        List<Field> fields = FieldUtils.getTargetedFields(modelType);
+
+        // To prevent exception from occurring on multi-threaded environment,
+        // Permits access to the fields that are not accessible.
+        fields.stream().filter(it -> it != null && !it.isAccessible()).forEach(it -> it.setAccessible(true));
+        this.fields = Collections.unmodifiableList(fields);
+
+        this.cache = cache;
+    }
+
+    public Class<T> getModelType() {
+        return this.modelType;
+    }
+
+    /**
+     * Returns the targeted fields of the model type.
+     *
+     * @return targeted fields, which may be empty
+     */
+    public List<Field> getFields() {
+        return this.fields;
+    }
+
+    /**
+     * Returns the factory of accessor for the fields, which is shared by the plans.
+     *
+     * @return factory of accessor
+     * @see ExcelModelMetadataCache#getAccessorFactory()
+     */
+    public FieldAccessorFactory getAccessorFactory() {
+        return this.cache.getAccessorFactory();
+    }
+
+    /**
+     * Returns the creator of model, which is resolved on the first call.
+     *
+     * <p> The model type that is only written doesn't need to have the resolvable creator,
+     * so this is resolved lazily. If it cannot be resolved, this throws the exception
+     * on each call.
+     *
+     * @return constructor or method that creates a model
+     * @see AbstractExcelModelExecutableResolver#resolve(Class)
+     */
+    public Executable getExecutable() {
+        Executable executable = this.executable;
+        if (executable == null) {
+            executable = AbstractExcelModelExecutableResolver.resolve(this.modelType);
+            this.executable = executable;
+        }
+
+        return executable;
+    }
+
+    /**
+     * Returns the compiled plan for the key, or compiles it if absent.
+     *
+     * <p> The plan must be immutable, because it is shared between threads.
+     *
+     * @param key         key with the strategies that affect the plan, which implements equals and hashCode
+     * @param planFactory function to compile the plan
+     * @param <P>         type of plan
+     * @return compiled plan
+     */
+    public <P> P getPlan(Object key, Function<Object, P> planFactory) {
+        return getPlan(key, 0, planFactory);
+    }
+
+    /**
+     * Returns the compiled plan for the key and version, or compiles it if absent.
+     *
+     * <p> The plan compiled for the other version of the key is replaced with the new one,
+     * so that it doesn't remain after the things that affect it, such as registry, are modified.
+     *
+     * @param key         key with the strategies that affect the plan, which implements equals and hashCode
+     * @param version     version of the things that affect the plan, but are not in the key
+     * @param planFactory function to compile the plan
+     * @param <P>         type of plan
+     * @return compiled plan
+     * @see ExcelTypeHandlerRegistry#getVersion()
+     */
+    @SuppressWarnings("unchecked")
+    public <P> P getPlan(Object key, long version, Function<Object, P> planFactory) {
+        VersionedPlan plan = this.plans.get(key);
+        if (plan != null && plan.version == version) {
+            this.cache.recordHit();
+            return (P) plan.plan;
+        }
+
+        boolean[] compiled = new boolean[1];
+        plan = this.plans.compute(key, (k, old) -> {
+            // Another thread may have compiled it after the lookup above.
+            if (old != null && old.version == version) return old;
+
+            compiled[0] = true;
+            return new VersionedPlan(version, planFactory.apply(k));
+        });
+
+        if (compiled[0]) {
+            this.cache.recordMiss();
+        } else {
+            this.cache.recordHit();
+        }
+
+        return (P) plan.plan;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static final class VersionedPlan {
+        private final long version;
+        private final Object plan;
+
+        private VersionedPlan(long version, Object plan) {
+            this.version = version;
+            this.plan = plan;
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.metadata;
+
+import com.github.javaxcel.accessor.FieldAccessorFactory;
+import io.github.imsejin.common.assertion.Asserts;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe cache of metadata for each type of model.
+ *
+ * <p> The metadata is resolved once per type and shared by all the writers and readers
+ * created by the same {@link com.github.javaxcel.Javaxcel}, so that the fields,
+ * model creator and compiled plans are not resolved again for each instance.
+ * This is based on {@link ClassValue}, which doesn't prevent the type from being unloaded
+ * along with its class loader.
+ */
+public final class ExcelModelMetadataCache {
+
+    private final FieldAccessorFactory accessorFactory;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Whether the metadata is resolved on the current lookup of each thread.
+     */
+    private final ThreadLocal<boolean[]> resolved = ThreadLocal.withInitial(() -> new boolean[1]);
+
+    private final ClassValue<ExcelModelMetadata<?>> metadataMap = new ClassValue<ExcelModelMetadata<?>>() {
+        @Override
+        protected ExcelModelMetadata<?> computeValue(Class<?> type) {
+            // This is invoked on the thread that looks up the type, only when it is not cached.
+            resolved.get()[0] = true;
+
+            return new ExcelModelMetadata<>(type, ExcelModelMetadataCache.this);
+        }
+    };
+
+    /**
+     * Creates a cache whose plans access the fields with the default factory.
+     */
+    public ExcelModelMetadataCache() {
+        this(FieldAccessorFactory.DEFAULT);
+    }
+
+    /**
+     * Creates a cache whose plans access the fields with the factory.
+     *
+     * @param accessorFactory factory of accessor for the fields
+     */
+    public ExcelModelMetadataCache(FieldAccessorFactory accessorFactory) {
+        Asserts.that(accessorFactory)
+                .describedAs("ExcelModelMetadataCache.accessorFactory is not allowed to be null")
+                .isNotNull();
+
+        this.accessorFactory = accessorFactory;
+    }
+
+    /**
+     * Returns the factory of accessor, with which the compiled plans access the fields of model.
+     *
+     * @return factory of accessor
+     */
+    public FieldAccessorFactory getAccessorFactory() {
+        return this.accessorFactory;
+    }
+
+    /**
+     * Returns the metadata of the model type.
+     *
+     * @param modelType type of model
+     * @param <T>       type of model
+     * @return metadata of the model type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ExcelModelMetadata<T> get(Class<T> modelType) {
+        Asserts.that(modelType)
+                .describedAs("ExcelModelMetadataCache.modelType is not allowed to be null")
+                .isNotNull();
+
+        boolean[] resolved = this.resolved.get();
+        resolved[0] = false;
+
+        ExcelModelMetadata<T> metadata = (ExcelModelMetadata<T>) this.metadataMap.get(modelType);
+        if (resolved[0]) {
+            this.missCount.increment();
+        } else {
+            this.hitCount.increment();
+        }
+
+        return metadata;
+    }
+
+    /**
+     * Returns the number of lookups for metadata and compiled plans that are found in this cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups for metadata and compiled plans that are resolved newly.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    void recordHit() {
+        this.hitCount.increment();
+    }
+
+    void recordMiss() {
+        this.missCount.increment();
+    }
+
+}
@@ -25,6 +25,7 @@ import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
@@ -48,11 +49,23 @@ public class ExcelWriteContext<T> {
      * initialize this field with empty map.
      */
     private Map<Class<? extends ExcelWriteStrategy>, ExcelWriteStrategy> strategyMap = Collections.emptyMap();
+    /**
+     * Models to be written.
+     * <p>
+     * This is null when writing models pulled from iterator lazily.
+     */
     private List<T> list;
 
     private Sheet sheet;
     private List<T> chunk;
 
+    /**
+     * The number of models written on the current sheet before the chunk.
+     * <p>
+     * This is always 0 when writing list, because a chunk is all models of a sheet.
+     */
+    private int chunkOffset;
+
     /**
      * @see ExcelColumn#headerStyle()
      * @see ExcelModel#headerStyle()
@@ -113,7 +126,7 @@ public class ExcelWriteContext<T> {
         this.strategyMap = strategyMap;
     }
 
-    @NotNull
+    @Nullable
     public List<T> getList() {
         return this.list;
     }
@@ -139,13 +152,25 @@ public class ExcelWriteContext<T> {
         this.chunk = chunk;
     }
 
+    public int getChunkOffset() {
+        return this.chunkOffset;
+    }
+
+    public void setChunkOffset(int chunkOffset) {
+        Asserts.that(chunkOffset)
+                .describedAs("ExcelWriteContext.chunkOffset cannot be negative, but it is: {0}", chunkOffset)
+                .isZeroOrPositive();
+
+        this.chunkOffset = chunkOffset;
+    }
+
     @NotNull
     public Sheet getSheet() {
         return this.sheet;
     }
 
     public void setSheet(Sheet sheet) {
-        Asserts.that(chunk)
+        Asserts.that(sheet)
                 .describedAs("ExcelWriteContext.sheet is not allowed to be null")
                 .isNotNull();
 
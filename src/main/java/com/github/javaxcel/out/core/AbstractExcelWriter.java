@@ -37,6 +37,7 @@ import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -55,6 +56,13 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
      */
     protected static final ExcelStyleConfig DEFAULT_STYLE_CONFIG = new NoStyleConfig();
 
+    /**
+     * The number of models pulled from an iterator at once on writing lazily.
+     *
+     * @see #write(OutputStream, Iterator)
+     */
+    private static final int BATCH_SIZE = 1024;
+
     private final ExcelWriteContext<T> context;
 
     /**
@@ -108,6 +116,122 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
         final int numOfSheets = NumberUtils.toPositive(chunkedList.size());
 
         // Creates sheet names by this or implementation.
+        List<String> sheetNames = resolveSheetNames(numOfSheets);
+
+        // To write 1 sheet at least, even if the list is empty.
+        List<List<T>> chunks = chunkedList.isEmpty() ? Collections.singletonList(Collections.emptyList()) : chunkedList;
+        try {
+            writeSheets(this.context, sheetNames, chunks);
+        } catch (RuntimeException e) {
+            discard();
+            throw e;
+        }
+
+        save(out);
+
+        // Lifecycle method.
+        complete(this.context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void write(OutputStream out, Iterator<T> iterator) {
+        Asserts.that(iterator)
+                .describedAs("iterator is not allowed to be null")
+                .isNotNull();
+
+        Workbook workbook = this.context.getWorkbook();
+        final int maxRows = ExcelUtils.getMaxRows(workbook) - 1; // Subtracts 1 because of header row.
+        final int batchSize = Math.min(BATCH_SIZE, maxRows);
+
+        // There is no list when writing lazily, so provides the first batch
+        // with implementation as a chunk instead of it.
+        List<T> batch = nextBatch(iterator, batchSize);
+        this.context.setChunk(batch);
+
+        // Lifecycle method.
+        prepare(this.context);
+
+        try {
+            List<Sheet> sheets = new ArrayList<>();
+            do {
+                // Sheet names can depend on the number of sheets, so renames the sheets written already.
+                final int numOfSheets = sheets.size() + 1;
+                List<String> sheetNames = resolveSheetNames(numOfSheets);
+                for (int i = 0; i < sheets.size(); i++) {
+                    String sheetName = sheetNames.get(i);
+                    Sheet written = sheets.get(i);
+                    if (!sheetName.equals(written.getSheetName())) {
+                        workbook.setSheetName(workbook.getSheetIndex(written), sheetName);
+                    }
+                }
+
+                Sheet sheet = workbook.createSheet(sheetNames.get(numOfSheets - 1));
+                sheets.add(sheet);
+
+                this.context.setChunk(batch);
+                this.context.setChunkOffset(0);
+                this.context.setSheet(sheet);
+
+                // Lifecycle method.
+                preWriteSheet(this.context);
+
+                createHeader(this.context);
+
+                // Writes the batches until the sheet is full or there is no more model.
+                int numOfModels = 0;
+                while (true) {
+                    this.context.setChunk(batch);
+                    this.context.setChunkOffset(numOfModels);
+                    createBody(this.context);
+
+                    numOfModels += batch.size();
+                    if (numOfModels >= maxRows || !iterator.hasNext()) break;
+
+                    batch = nextBatch(iterator, Math.min(batchSize, maxRows - numOfModels));
+                }
+
+                // Lifecycle method.
+                postWriteSheet(this.context);
+
+                batch = iterator.hasNext() ? nextBatch(iterator, batchSize) : null;
+            } while (batch != null);
+        } catch (RuntimeException e) {
+            discard();
+            throw e;
+        }
+
+        save(out);
+
+        // Lifecycle method.
+        complete(this.context);
+    }
+
+    /**
+     * Pulls models from the iterator as many as the given size.
+     *
+     * @param iterator iterator of models
+     * @param size     maximum number of models
+     * @return models
+     */
+    private static <E> List<E> nextBatch(Iterator<E> iterator, int size) {
+        List<E> batch = new ArrayList<>(size);
+        while (batch.size() < size && iterator.hasNext()) {
+            batch.add(iterator.next());
+        }
+
+        return batch;
+    }
+
+    /**
+     * Creates and validates sheet names.
+     *
+     * @param numOfSheets the number of sheets
+     * @return sheet names
+     */
+    private List<String> resolveSheetNames(int numOfSheets) {
         List<String> sheetNames = createSheetNames(this.context, numOfSheets);
         Asserts.that(sheetNames)
                 .describedAs("sheetNames is not allowed to be null or empty: {0}", sheetNames)
@@ -120,29 +244,49 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
                 sheetNames.size(), numOfSheets)
                 .isEqualTo(numOfSheets);
 
-        for (int i = 0; i < numOfSheets; i++) {
+        return sheetNames;
+    }
+
+    // Overridable -------------------------------------------------------------------------------------
+
+    /**
+     * Writes each chunk into its own sheet in order.
+     *
+     * <p> This is invoked when writing list. Each chunk has models
+     * as many as the maximum number of rows per sheet.
+     *
+     * @param context    context with workbook and strategies
+     * @param sheetNames names of sheets
+     * @param chunks     models to be written in each sheet
+     */
+    protected void writeSheets(ExcelWriteContext<T> context, List<String> sheetNames, List<List<T>> chunks) {
+        Workbook workbook = context.getWorkbook();
+
+        for (int i = 0; i < chunks.size(); i++) {
             String sheetName = sheetNames.get(i);
             Sheet sheet = workbook.createSheet(sheetName);
 
-            // To write 1 sheet at least, even if the list is empty.
-            List<T> chunk = chunkedList.isEmpty() ? Collections.emptyList() : chunkedList.get(i);
-            this.context.setChunk(chunk);
-            this.context.setSheet(sheet);
+            context.setChunk(chunks.get(i));
+            context.setChunkOffset(0);
+            context.setSheet(sheet);
 
             // Lifecycle method.
-            preWriteSheet(this.context);
+            preWriteSheet(context);
 
-            createHeader(this.context);
-            createBody(this.context);
+            createHeader(context);
+            createBody(context);
 
             // Lifecycle method.
-            postWriteSheet(this.context);
+            postWriteSheet(context);
         }
+    }
 
-        save(out);
-
-        // Lifecycle method.
-        complete(this.context);
+    /**
+     * Discards the resources for the sheets written so far, when writing them fails before saving.
+     *
+     * <p> This does nothing by default, because the workbook is discarded with this writer.
+     */
+    protected void discard() {
     }
 
     /**
@@ -150,7 +294,7 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
      *
      * @param out output stream
      */
-    private void save(OutputStream out) {
+    protected void save(OutputStream out) {
         try {
             this.context.getWorkbook().write(out);
         } catch (IOException e) {
@@ -158,8 +302,6 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
         }
     }
 
-    // Overridable -------------------------------------------------------------------------------------
-
     /**
      * Creates sheet names following with the below instructions.
      *
@@ -199,6 +341,10 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
     /**
      * Creates the second row and below as body for each sheet.
      *
+     * <p> This can be invoked more than once for a sheet when writing lazily.
+     * The chunk must be written from the row next to
+     * {@link ExcelWriteContext#getChunkOffset()} models.
+     *
      * @param context context with current sheet and chunked models
      */
     protected abstract void createBody(ExcelWriteContext<T> context);
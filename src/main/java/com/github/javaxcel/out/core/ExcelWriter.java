@@ -17,9 +17,12 @@
 package com.github.javaxcel.out.core;
 
 import com.github.javaxcel.out.strategy.ExcelWriteStrategy;
+import io.github.imsejin.common.assertion.Asserts;
 
 import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ExcelWriter<T> {
 
@@ -40,4 +43,39 @@ public interface ExcelWriter<T> {
      */
     void write(OutputStream out, List<T> list);
 
+    /**
+     * Writes models in the Excel file, pulling them from the iterator lazily.
+     *
+     * <p> Unlike {@link #write(OutputStream, List)}, this doesn't need all the models
+     * to be loaded in memory. When the number of rows reaches the maximum of a sheet,
+     * the rest of models is written to a new sheet.
+     *
+     * <p> To keep memory bounded, use it with a workbook that flushes its rows
+     * such as {@link org.apache.poi.xssf.streaming.SXSSFWorkbook}.
+     *
+     * @param out      output stream for writing Excel file
+     * @param iterator iterator of models
+     */
+    void write(OutputStream out, Iterator<T> iterator);
+
+    /**
+     * Writes models in the Excel file, pulling them from the stream lazily.
+     *
+     * <p> The stream is closed after writing, so resources bound to it
+     * such as a database cursor are released.
+     *
+     * @param out    output stream for writing Excel file
+     * @param stream stream of models
+     * @see #write(OutputStream, Iterator)
+     */
+    default void write(OutputStream out, Stream<T> stream) {
+        Asserts.that(stream)
+                .describedAs("stream is not allowed to be null")
+                .isNotNull();
+
+        try (Stream<T> models = stream) {
+            write(out, models.iterator());
+        }
+    }
+
 }
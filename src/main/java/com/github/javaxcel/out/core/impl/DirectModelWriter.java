@@ -0,0 +1,665 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.core.impl;
+
+import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.converter.out.ExcelWriteRowScope;
+import com.github.javaxcel.exception.WritingExcelException;
+import com.github.javaxcel.metadata.ExcelModelMetadataCache;
+import com.github.javaxcel.out.context.ExcelWriteContext;
+import com.github.javaxcel.out.core.ExcelWriter;
+import com.github.javaxcel.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.out.strategy.impl.AutoResizedColumns;
+import com.github.javaxcel.out.strategy.impl.ConcurrentSheets;
+import com.github.javaxcel.out.strategy.impl.EnumDropdown;
+import com.github.javaxcel.out.strategy.impl.Filter;
+import com.github.javaxcel.out.strategy.impl.HiddenExtraColumns;
+import com.github.javaxcel.out.strategy.impl.HiddenExtraRows;
+import com.github.javaxcel.out.strategy.impl.Parallel;
+import io.github.imsejin.common.util.CollectionUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Excel writer for model, which writes the parts of OOXML directly without POI usermodel.
+ *
+ * <p> This doesn't create {@link Row} and {@link Cell} for each row and cell of the body.
+ * It writes XML of each sheet to a temporary file as soon as the models are converted,
+ * and assembles the parts into a zip archive when saving. So heap is kept constant
+ * regardless of the number of models, and string is written as inline string
+ * instead of shared strings table.
+ *
+ * <p> The analysis, conversion and styles of {@link ModelWriter} are reused as they are.
+ * Cell styles are created in the internal {@link XSSFWorkbook} that has no rows,
+ * and written as {@code xl/styles.xml}.
+ *
+ * <p> The strategies that need the cells of sheet are not supported:
+ * {@link AutoResizedColumns}, {@link HiddenExtraRows}, {@link HiddenExtraColumns} and {@link EnumDropdown}.
+ *
+ * @param <T> type of model
+ */
+public class DirectModelWriter<T> extends ModelWriter<T> {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private static final String SPREADSHEETML_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+    private static final String RELATIONSHIPS_NAMESPACE = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final String PACKAGE_RELATIONSHIPS_NAMESPACE = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Workbook that has only cell styles and empty sheets.
+     */
+    private final XSSFWorkbook workbook;
+
+    private final List<SheetPart> sheetParts = new ArrayList<>();
+
+    /**
+     * Column names of references for each column. (e.g. A, B, ..., AA)
+     */
+    private String[] columnNames;
+
+    /**
+     * Indexes of cell style for each column, or -1 if not styled.
+     */
+    private int[] styleIndexes;
+
+    /**
+     * Indexes of cell style for native number of each column, or -1 if not styled.
+     */
+    private int[] numericStyleIndexes;
+
+    /**
+     * Creates a writer for model.
+     *
+     * @param modelType type of Excel model
+     * @param registry  registry of handlers for field type
+     */
+    public DirectModelWriter(Class<T> modelType, ExcelTypeHandlerRegistry registry) {
+        this(modelType, registry, new ExcelModelMetadataCache());
+    }
+
+    /**
+     * Creates a writer for model, which shares the metadata of model with the other writers.
+     *
+     * @param modelType     type of Excel model
+     * @param registry      registry of handlers for field type
+     * @param metadataCache cache of metadata for model
+     */
+    public DirectModelWriter(Class<T> modelType, ExcelTypeHandlerRegistry registry,
+                             ExcelModelMetadataCache metadataCache) {
+        this(new XSSFWorkbook(), modelType, registry, metadataCache);
+    }
+
+    private DirectModelWriter(XSSFWorkbook workbook, Class<T> modelType, ExcelTypeHandlerRegistry registry,
+                              ExcelModelMetadataCache metadataCache) {
+        super(workbook, modelType, registry, metadataCache);
+        this.workbook = workbook;
+    }
+
+    @Override
+    public void prepare(ExcelWriteContext<T> context) {
+        super.prepare(context);
+
+        final int numOfColumns = getNumOfColumns();
+        this.columnNames = new String[numOfColumns];
+        this.styleIndexes = new int[numOfColumns];
+        this.numericStyleIndexes = new int[numOfColumns];
+
+        // Resolves the styles of each column in advance, because they are not changed while writing.
+        for (int i = 0; i < numOfColumns; i++) {
+            this.columnNames[i] = CellReference.convertNumToColString(i);
+            this.styleIndexes[i] = toStyleIndex(getBodyStyle(context, i, null));
+            this.numericStyleIndexes[i] = toStyleIndex(getBodyStyle(context, i, 0D));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> With {@link ConcurrentSheets}, the bodies of sheets are written on the executor at the same time,
+     * because each sheet is written to its own temporary file. The header of each sheet is still created
+     * on the current thread, because the internal workbook is not thread-safe.
+     */
+    @Override
+    protected void writeSheets(ExcelWriteContext<T> context, List<String> sheetNames, List<List<T>> chunks) {
+        ExcelWriteStrategy strategy = context.getStrategyMap().get(ConcurrentSheets.class);
+        if (strategy == null || chunks.size() < 2) {
+            super.writeSheets(context, sheetNames, chunks);
+            return;
+        }
+
+        Workbook workbook = context.getWorkbook();
+        List<ExcelWriteContext<T>> contexts = new ArrayList<>(chunks.size());
+
+        // Creates all the sheets with header before writing the bodies,
+        // so that the parts of sheets are not added while the bodies are written.
+        for (int i = 0; i < chunks.size(); i++) {
+            Sheet sheet = workbook.createSheet(sheetNames.get(i));
+            ExcelWriteContext<T> sheetContext = copyContext(context, sheet, chunks.get(i));
+
+            // Lifecycle method.
+            preWriteSheet(sheetContext);
+
+            createHeader(sheetContext);
+            contexts.add(sheetContext);
+        }
+
+        Executor executor = (Executor) strategy.execute(context);
+        CompletableFuture<?>[] futures = contexts.stream().map(it -> CompletableFuture.runAsync(() -> {
+            createBody(it);
+
+            // Lifecycle method.
+            postWriteSheet(it);
+        }, executor)).toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            // Throws the exception from converter as it is.
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Copies the context for a sheet, which shares strategies and styles with the original one.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ExcelWriteContext<T> copyContext(ExcelWriteContext<T> context, Sheet sheet, List<T> chunk) {
+        Class<? extends ExcelWriter<T>> writerType = (Class) context.getWriterType();
+        ExcelWriteContext<T> copy = new ExcelWriteContext<>(context.getWorkbook(), context.getModelType(), writerType);
+        copy.setStrategyMap(context.getStrategyMap());
+
+        if (context.getList() != null) {
+            copy.setList(context.getList());
+        }
+        if (!CollectionUtils.isNullOrEmpty(context.getHeaderStyles())) {
+            copy.setHeaderStyles(context.getHeaderStyles());
+        }
+        if (!CollectionUtils.isNullOrEmpty(context.getBodyStyles())) {
+            copy.setBodyStyles(context.getBodyStyles());
+        }
+
+        copy.setSheet(sheet);
+        copy.setChunk(chunk);
+        copy.setChunkOffset(0);
+
+        return copy;
+    }
+
+    @Override
+    public void preWriteSheet(ExcelWriteContext<T> context) {
+        // Doesn't create dropdowns, because this writer doesn't write data validations.
+        ExcelWriteStrategy strategy = context.getStrategyMap().get(Filter.class);
+        boolean frozenPane = strategy != null && (boolean) strategy.execute(context);
+
+        try {
+            Path path = Files.createTempFile("javaxcel-sheet", ".xml");
+            SheetPart sheetPart = new SheetPart(context.getSheet(), path, new SheetXmlWriter(path, this.columnNames));
+            this.sheetParts.add(sheetPart);
+
+            sheetPart.writer.startSheet(frozenPane);
+        } catch (IOException e) {
+            throw new WritingExcelException(e);
+        }
+    }
+
+    @Override
+    protected void createHeader(ExcelWriteContext<T> context) {
+        // Creates the header on the empty sheet to resolve names and styles,
+        // then moves it to XML. This is the only row created on the sheet.
+        super.createHeader(context);
+
+        Sheet sheet = context.getSheet();
+        Row row = sheet.getRow(0);
+        SheetXmlWriter writer = getSheetPart(sheet).writer;
+
+        try {
+            writer.startRow(0);
+            for (Cell cell : row) {
+                CellStyle style = cell.getCellStyle();
+                int styleIndex = style == null ? -1 : style.getIndex();
+                writer.writeString(cell.getColumnIndex(), cell.getStringCellValue(), styleIndex);
+            }
+            writer.endRow();
+        } catch (IOException e) {
+            throw new WritingExcelException(e);
+        }
+
+        sheet.removeRow(row);
+    }
+
+    @Override
+    protected void createBody(ExcelWriteContext<T> context) {
+        SheetXmlWriter writer = getSheetPart(context.getSheet()).writer;
+
+        // Converts the models in parallel, and writes the rows in order on this thread.
+        ExcelWriteStrategy strategy = context.getStrategyMap().get(Parallel.class);
+        if (strategy != null) {
+            Executor executor = (Executor) strategy.execute(context);
+            convertInParallel(context, executor, (values, rowIndex) -> writeRow(writer, values, rowIndex));
+            return;
+        }
+
+        List<T> chunk = context.getChunk();
+        final int chunkSize = chunk.size();
+        final int chunkOffset = context.getChunkOffset();
+        final int numOfColumns = this.columnNames.length;
+
+        try {
+            for (int i = 0; i < chunkSize; i++) {
+                T model = chunk.get(i);
+
+                // All the columns in the row share the values of model.
+                ExcelWriteRowScope scope = new ExcelWriteRowScope();
+
+                // Skips the first row that is header.
+                writer.startRow(chunkOffset + i + 1);
+
+                for (int j = 0; j < numOfColumns; j++) {
+                    // Writes the primitive value without boxing.
+                    if (isNumericColumn(j)) {
+                        double number = toNumericValue(model, j);
+                        if (!Double.isNaN(number)) {
+                            writer.writeNumber(j, number, this.numericStyleIndexes[j]);
+                            continue;
+                        }
+                    }
+
+                    // Converts field value into the string or native value.
+                    writeValue(writer, j, toCellValue(model, j, scope));
+                }
+
+                writer.endRow();
+            }
+        } catch (IOException e) {
+            throw new WritingExcelException(e);
+        }
+    }
+
+    private void writeRow(SheetXmlWriter writer, Object[] values, int rowIndex) {
+        try {
+            writer.startRow(rowIndex);
+
+            for (int j = 0; j < values.length; j++) {
+                writeValue(writer, j, values[j]);
+            }
+
+            writer.endRow();
+        } catch (IOException e) {
+            throw new WritingExcelException(e);
+        }
+    }
+
+    private void writeValue(SheetXmlWriter writer, int columnIndex, @Nullable Object value) throws IOException {
+        if (value instanceof Double) {
+            writer.writeNumber(columnIndex, (Double) value, this.numericStyleIndexes[columnIndex]);
+        } else if (value instanceof Boolean) {
+            writer.writeBoolean(columnIndex, (Boolean) value, this.styleIndexes[columnIndex]);
+        } else if (value != null && !"".equals(value)) {
+            writer.writeString(columnIndex, value.toString(), this.styleIndexes[columnIndex]);
+        } else {
+            // Doesn't write even empty string.
+            writer.writeBlank(columnIndex, this.styleIndexes[columnIndex]);
+        }
+    }
+
+    @Override
+    public void postWriteSheet(ExcelWriteContext<T> context) {
+        SheetPart sheetPart = getSheetPart(context.getSheet());
+
+        // The number of rows is unknown until the last chunk of the sheet is written.
+        if (context.getStrategyMap().containsKey(Filter.class)) {
+            int numOfModels = context.getChunkOffset() + context.getChunk().size();
+            sheetPart.filterRange = new CellRangeAddress(0, Math.max(numOfModels - 1, 0), 0, this.columnNames.length - 1);
+        }
+
+        try (SheetXmlWriter writer = sheetPart.writer) {
+            writer.endSheet(sheetPart.filterRange);
+        } catch (IOException e) {
+            throw new WritingExcelException(e);
+        }
+    }
+
+    private SheetPart getSheetPart(Sheet sheet) {
+        for (SheetPart sheetPart : this.sheetParts) {
+            if (sheetPart.sheet == sheet) {
+                return sheetPart;
+            }
+        }
+
+        throw new RuntimeException("Never throw; preWriteSheet creates the part of each sheet");
+    }
+
+    /**
+     * Assembles the parts of OOXML into a zip archive.
+     *
+     * @param out output stream
+     */
+    @Override
+    protected void save(OutputStream out) {
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+
+        try {
+            writeEntry(zip, "[Content_Types].xml", createContentTypes());
+            writeEntry(zip, "_rels/.rels", XML_DECLARATION + "<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS_NAMESPACE + "\">"
+                    + "<Relationship Id=\"rId1\" Type=\"" + RELATIONSHIPS_NAMESPACE + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                    + "</Relationships>");
+            writeEntry(zip, "xl/workbook.xml", createWorkbook());
+            writeEntry(zip, "xl/_rels/workbook.xml.rels", createWorkbookRelationships());
+
+            // Writes the cell styles created by ModelWriter.
+            zip.putNextEntry(new ZipEntry("xl/styles.xml"));
+            this.workbook.getStylesSource().writeTo(zip);
+            zip.closeEntry();
+
+            for (int i = 0; i < this.sheetParts.size(); i++) {
+                zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + (i + 1) + ".xml"));
+                Files.copy(this.sheetParts.get(i).path, zip);
+                zip.closeEntry();
+            }
+
+            // Doesn't close the output stream, like Workbook.write(OutputStream).
+            zip.finish();
+            zip.flush();
+        } catch (IOException e) {
+            throw new WritingExcelException(e);
+        } finally {
+            deleteSheetParts();
+        }
+    }
+
+    /**
+     * Deletes the temporary files of the sheets written so far.
+     */
+    @Override
+    protected void discard() {
+        deleteSheetParts();
+    }
+
+    private void deleteSheetParts() {
+        for (SheetPart sheetPart : this.sheetParts) {
+            try {
+                sheetPart.writer.close();
+                Files.deleteIfExists(sheetPart.path);
+            } catch (IOException ignored) {
+                // Temporary file will be removed by OS.
+            }
+        }
+    }
+
+    private String createContentTypes() {
+        StringBuilder sb = new StringBuilder(XML_DECLARATION)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+
+        for (int i = 1; i <= this.sheetParts.size(); i++) {
+            sb.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+
+        return sb.append("</Types>").toString();
+    }
+
+    private String createWorkbook() throws IOException {
+        StringBuilder sb = new StringBuilder(XML_DECLARATION)
+                .append("<workbook xmlns=\"").append(SPREADSHEETML_NAMESPACE)
+                .append("\" xmlns:r=\"").append(RELATIONSHIPS_NAMESPACE).append("\"><sheets>");
+
+        for (int i = 0; i < this.sheetParts.size(); i++) {
+            // Sheet can be renamed while writing lazily, so takes the name at this time.
+            sb.append("<sheet name=\"");
+            appendEscaped(sb, this.sheetParts.get(i).sheet.getSheetName());
+            sb.append("\" sheetId=\"").append(i + 1).append("\" r:id=\"rId").append(i + 1).append("\"/>");
+        }
+        sb.append("</sheets>");
+
+        // Defines the range of filter for each sheet as Excel does.
+        StringBuilder names = new StringBuilder();
+        for (int i = 0; i < this.sheetParts.size(); i++) {
+            SheetPart sheetPart = this.sheetParts.get(i);
+            if (sheetPart.filterRange == null) {
+                continue;
+            }
+
+            names.append("<definedName name=\"_xlnm._FilterDatabase\" localSheetId=\"").append(i).append("\" hidden=\"1\">");
+            appendEscaped(names, sheetPart.filterRange.formatAsString(sheetPart.sheet.getSheetName(), true));
+            names.append("</definedName>");
+        }
+        if (names.length() > 0) {
+            sb.append("<definedNames>").append(names).append("</definedNames>");
+        }
+
+        return sb.append("</workbook>").toString();
+    }
+
+    private String createWorkbookRelationships() {
+        StringBuilder sb = new StringBuilder(XML_DECLARATION)
+                .append("<Relationships xmlns=\"").append(PACKAGE_RELATIONSHIPS_NAMESPACE).append("\">");
+
+        final int numOfSheets = this.sheetParts.size();
+        for (int i = 1; i <= numOfSheets; i++) {
+            sb.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(RELATIONSHIPS_NAMESPACE)
+                    .append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        sb.append("<Relationship Id=\"rId").append(numOfSheets + 1).append("\" Type=\"").append(RELATIONSHIPS_NAMESPACE)
+                .append("/styles\" Target=\"styles.xml\"/>");
+
+        return sb.append("</Relationships>").toString();
+    }
+
+    private static void writeEntry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static int toStyleIndex(@Nullable CellStyle style) {
+        return style == null ? -1 : style.getIndex();
+    }
+
+    /**
+     * Appends the value escaped for XML.
+     *
+     * <p> The character that is not allowed in XML is encoded as {@code _xHHHH_} like Excel.
+     *
+     * @param out   destination
+     * @param value value to be escaped
+     * @throws IOException if an I/O error occurs
+     */
+    private static void appendEscaped(Appendable out, String value) throws IOException {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                default:
+                    if ((c < 0x20 && c != '\t' && c != '\n' && c != '\r') || c == 0xFFFE || c == 0xFFFF) {
+                        out.append(String.format("_x%04X_", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Part of sheet written to temporary file.
+     */
+    private static final class SheetPart {
+        private final Sheet sheet;
+        private final Path path;
+        private final SheetXmlWriter writer;
+        @Nullable
+        private CellRangeAddress filterRange;
+
+        private SheetPart(Sheet sheet, Path path, SheetXmlWriter writer) {
+            this.sheet = sheet;
+            this.path = path;
+            this.writer = writer;
+        }
+    }
+
+    /**
+     * Emitter of XML for worksheet, which writes characters to buffer without DOM.
+     */
+    private static final class SheetXmlWriter implements Closeable {
+        private final Writer writer;
+        private final String[] columnNames;
+        private String rowNum;
+
+        private SheetXmlWriter(Path path, String[] columnNames) throws IOException {
+            OutputStream out = Files.newOutputStream(path);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            this.columnNames = columnNames;
+        }
+
+        private void startSheet(boolean frozenPane) throws IOException {
+            this.writer.write(XML_DECLARATION);
+            this.writer.write("<worksheet xmlns=\"" + SPREADSHEETML_NAMESPACE + "\" xmlns:r=\"" + RELATIONSHIPS_NAMESPACE + "\">");
+
+            // Fixes the header row.
+            if (frozenPane) {
+                this.writer.write("<sheetViews><sheetView workbookViewId=\"0\">"
+                        + "<pane ySplit=\"1\" topLeftCell=\"A2\" activePane=\"bottomLeft\" state=\"frozen\"/>"
+                        + "<selection pane=\"bottomLeft\"/></sheetView></sheetViews>");
+            }
+
+            this.writer.write("<sheetData>");
+        }
+
+        private void endSheet(@Nullable CellRangeAddress filterRange) throws IOException {
+            this.writer.write("</sheetData>");
+
+            if (filterRange != null) {
+                this.writer.write("<autoFilter ref=\"" + filterRange.formatAsString() + "\"/>");
+            }
+
+            this.writer.write("</worksheet>");
+        }
+
+        private void startRow(int rowIndex) throws IOException {
+            this.rowNum = Integer.toString(rowIndex + 1);
+            this.writer.write("<row r=\"");
+            this.writer.write(this.rowNum);
+            this.writer.write("\">");
+        }
+
+        private void endRow() throws IOException {
+            this.writer.write("</row>");
+        }
+
+        private void writeNumber(int columnIndex, double value, int styleIndex) throws IOException {
+            startCell(columnIndex, styleIndex, null);
+            this.writer.write("><v>");
+            this.writer.write(Double.toString(value));
+            this.writer.write("</v></c>");
+        }
+
+        private void writeBoolean(int columnIndex, boolean value, int styleIndex) throws IOException {
+            startCell(columnIndex, styleIndex, "b");
+            this.writer.write(value ? "><v>1</v></c>" : "><v>0</v></c>");
+        }
+
+        private void writeString(int columnIndex, String value, int styleIndex) throws IOException {
+            startCell(columnIndex, styleIndex, "inlineStr");
+            this.writer.write("><is><t xml:space=\"preserve\">");
+            appendEscaped(this.writer, value);
+            this.writer.write("</t></is></c>");
+        }
+
+        private void writeBlank(int columnIndex, int styleIndex) throws IOException {
+            startCell(columnIndex, styleIndex, null);
+            this.writer.write("/>");
+        }
+
+        private void startCell(int columnIndex, int styleIndex, @Nullable String type) throws IOException {
+            this.writer.write("<c r=\"");
+            this.writer.write(this.columnNames[columnIndex]);
+            this.writer.write(this.rowNum);
+            this.writer.write('"');
+
+            // The default style whose index is 0 doesn't need to be specified.
+            if (styleIndex > 0) {
+                this.writer.write(" s=\"");
+                this.writer.write(Integer.toString(styleIndex));
+                this.writer.write('"');
+            }
+
+            if (type != null) {
+                this.writer.write(" t=\"");
+                this.writer.write(type);
+                this.writer.write('"');
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.writer.close();
+        }
+    }
+
+}
@@ -93,7 +93,10 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
     }
 
     private void setKeys(ExcelWriteContext<Map<String, Object>> context) {
+        // When writing lazily, there is no list. Then the keys are resolved from
+        // the first chunk and the keys that only appear after it are not written.
         List<Map<String, Object>> list = context.getList();
+        if (list == null) list = context.getChunk();
 
         // Gets the keys of all maps.
         List<String> keys = list.stream().flatMap(it -> it.keySet().stream()).distinct().collect(toList());
@@ -172,20 +175,6 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         context.setBodyStyles(Arrays.asList(bodyStyles));
     }
 
-    @Override
-    public void preWriteSheet(ExcelWriteContext<Map<String, Object>> context) {
-        if (context.getStrategyMap().containsKey(Filter.class)) {
-            ExcelWriteStrategy strategy = context.getStrategyMap().get(Filter.class);
-            boolean frozenPane = (boolean) strategy.execute(context);
-
-            Sheet sheet = context.getSheet();
-            String ref = ExcelUtils.toRangeReference(sheet, 0, 0, this.keys.size() - 1, context.getChunk().size() - 1);
-            sheet.setAutoFilter(CellRangeAddress.valueOf(ref));
-
-            if (frozenPane) sheet.createFreezePane(0, 1);
-        }
-    }
-
     @Override
     protected void createHeader(ExcelWriteContext<Map<String, Object>> context) {
         // Creates the first row that is header.
@@ -220,13 +209,14 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         List<CellStyle> bodyStyles = context.getBodyStyles();
 
         final int chunkSize = chunk.size();
+        final int chunkOffset = context.getChunkOffset();
         final int numOfKeys = this.keys.size();
 
         for (int i = 0; i < chunkSize; i++) {
             Map<String, Object> map = chunk.get(i);
 
             // Skips the first row that is header.
-            Row row = sheet.createRow(i + 1);
+            Row row = sheet.createRow(chunkOffset + i + 1);
 
             for (int j = 0; j < numOfKeys; j++) {
                 Object value = map.get(this.keys.get(j));
@@ -256,12 +246,25 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         Map<Class<? extends ExcelWriteStrategy>, ExcelWriteStrategy> strategyMap = context.getStrategyMap();
         Sheet sheet = context.getSheet();
 
+        // The number of rows is unknown until the last chunk of the sheet is written.
+        final int numOfModels = context.getChunkOffset() + context.getChunk().size();
+
+        if (strategyMap.containsKey(Filter.class)) {
+            ExcelWriteStrategy strategy = strategyMap.get(Filter.class);
+            boolean frozenPane = (boolean) strategy.execute(context);
+
+            String ref = ExcelUtils.toRangeReference(sheet, 0, 0, this.keys.size() - 1, numOfModels - 1);
+            sheet.setAutoFilter(CellRangeAddress.valueOf(ref));
+
+            if (frozenPane) sheet.createFreezePane(0, 1);
+        }
+
         // Adjusts rows and columns.
         if (strategyMap.containsKey(AutoResizedColumns.class)) {
             ExcelUtils.autoResizeColumns(sheet, this.keys.size());
         }
         if (strategyMap.containsKey(HiddenExtraRows.class)) {
-            ExcelUtils.hideExtraRows(sheet, context.getChunk().size() + 1);
+            ExcelUtils.hideExtraRows(sheet, numOfModels + 1);
         }
         if (strategyMap.containsKey(HiddenExtraColumns.class)) {
             ExcelUtils.hideExtraColumns(sheet, this.keys.size());
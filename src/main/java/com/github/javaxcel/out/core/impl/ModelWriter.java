@@ -21,21 +21,32 @@ import com.github.javaxcel.analysis.ExcelAnalyzer;
 import com.github.javaxcel.analysis.out.ExcelWriteAnalyzer;
 import com.github.javaxcel.annotation.ExcelColumn;
 import com.github.javaxcel.annotation.ExcelModel;
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler;
 import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.converter.out.ExcelWriteConverter;
+import com.github.javaxcel.converter.out.ExcelWriteHandlerConverter;
+import com.github.javaxcel.converter.out.ExcelWriteRowScope;
 import com.github.javaxcel.converter.out.support.ExcelWriteConverters;
 import com.github.javaxcel.exception.NoTargetedFieldException;
+import com.github.javaxcel.metadata.ExcelModelMetadata;
+import com.github.javaxcel.metadata.ExcelModelMetadataCache;
 import com.github.javaxcel.out.context.ExcelWriteContext;
 import com.github.javaxcel.out.core.AbstractExcelWriter;
 import com.github.javaxcel.out.strategy.ExcelWriteStrategy;
 import com.github.javaxcel.out.strategy.impl.AutoResizedColumns;
 import com.github.javaxcel.out.strategy.impl.BodyStyles;
+import com.github.javaxcel.out.strategy.impl.CompiledExpressions;
+import com.github.javaxcel.out.strategy.impl.CompiledRows;
+import com.github.javaxcel.out.strategy.impl.DefaultValue;
 import com.github.javaxcel.out.strategy.impl.EnumDropdown;
 import com.github.javaxcel.out.strategy.impl.Filter;
 import com.github.javaxcel.out.strategy.impl.HeaderNames;
 import com.github.javaxcel.out.strategy.impl.HeaderStyles;
 import com.github.javaxcel.out.strategy.impl.HiddenExtraColumns;
 import com.github.javaxcel.out.strategy.impl.HiddenExtraRows;
+import com.github.javaxcel.out.strategy.impl.Parallel;
+import com.github.javaxcel.out.strategy.impl.TypedCells;
+import com.github.javaxcel.out.strategy.impl.UseGetters;
 import com.github.javaxcel.styler.ExcelStyleConfig;
 import com.github.javaxcel.styler.NoStyleConfig;
 import com.github.javaxcel.util.ExcelUtils;
@@ -51,16 +62,23 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 import java.lang.reflect.Field;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.IntStream;
 
 /**
@@ -71,6 +89,21 @@ import java.util.stream.IntStream;
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class ModelWriter<T> extends AbstractExcelWriter<T> {
 
+    /**
+     * The number of models converted at once in parallel.
+     *
+     * @see Parallel
+     */
+    private static final int PARALLEL_BATCH_SIZE = 128;
+
+    /**
+     * The maximum number of batches being converted at the same time,
+     * which bounds the memory for the values of cells not written yet.
+     *
+     * @see Parallel
+     */
+    private static final int MAX_PARALLEL_BATCHES = Runtime.getRuntime().availableProcessors() * 2;
+
     /**
      * The fields of type that will be actually written in Excel file.
      */
@@ -78,10 +111,33 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
 
     private final ExcelTypeHandlerRegistry registry;
 
+    private final ExcelModelMetadata<T> metadata;
+
     private ExcelWriteConverter converter;
 
     private Map<Integer, String[]> enumDropdownMap;
 
+    /**
+     * Cell styles with data format for native value of each column.
+     *
+     * @see TypedCells
+     */
+    private CellStyle[] nativeStyles;
+
+    /**
+     * Writers for each column, which are compiled before writing the body.
+     *
+     * @see CompiledRows
+     */
+    private ColumnWriter[] columnWriters;
+
+    /**
+     * Whether each column is written as numeric value without boxing.
+     *
+     * @see ExcelWriteConverter#supportsNumeric(Field)
+     */
+    private boolean[] numericColumns;
+
     /**
      * Creates a writer for model.
      *
@@ -90,21 +146,35 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
      * @param registry  registry of handlers for field type
      */
     public ModelWriter(Workbook workbook, Class<T> modelType, ExcelTypeHandlerRegistry registry) {
+        this(workbook, modelType, registry, new ExcelModelMetadataCache());
+    }
+
+    /**
+     * Creates a writer for model, which shares the metadata of model with the other writers.
+     *
+     * @param workbook      Excel workbook
+     * @param modelType     type of Excel model
+     * @param registry      registry of handlers for field type
+     * @param metadataCache cache of metadata for model
+     */
+    public ModelWriter(Workbook workbook, Class<T> modelType, ExcelTypeHandlerRegistry registry,
+                       ExcelModelMetadataCache metadataCache) {
         super(workbook, modelType);
 
-        // Finds the targeted fields.
-        List<Field> fields = FieldUtils.getTargetedFields(modelType);
+        Asserts.that(metadataCache)
+                .describedAs("ModelWriter.metadataCache is not allowed to be null")
+                .isNotNull();
+        this.metadata = metadataCache.get(modelType);
+
+        // Finds the targeted fields, which are already accessible.
+        List<Field> fields = this.metadata.getFields();
         Asserts.that(fields)
                 .describedAs("ModelWriter.fields cannot find the targeted fields in the class: {0}", modelType.getName())
                 .thrownBy(desc -> new NoTargetedFieldException(modelType, desc))
                 .isNotEmpty()
                 .describedAs("ModelWriter.fields cannot have null element: {0}", fields)
                 .doesNotContainNull();
-
-        // To prevent exception from occurring on multi-threaded environment,
-        // Permits access to the fields that are not accessible. (ExcelReadStrategy.Parallel)
-        fields.stream().filter(it -> !it.isAccessible()).forEach(it -> it.setAccessible(true));
-        this.fields = Collections.unmodifiableList(fields);
+        this.fields = fields;
 
         Asserts.that(registry)
                 .describedAs("ModelWriter.registry is not allowed to be null")
@@ -114,18 +184,58 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
 
     @Override
     public void prepare(ExcelWriteContext<T> context) {
+        // Reuses the analyses and converter compiled by the other writers with the same options.
+        SpelCompilerMode compilerMode = resolveCompilerMode(context);
+        WritePlan plan = this.metadata.getPlan(toPlanKey(context, compilerMode), this.registry.getVersion(),
+                key -> compilePlan(context, compilerMode));
+        this.converter = plan.converters;
+        this.numericColumns = resolveNumericColumns(plan.converters);
+
+        // Handles the given options.
+        resolveEnumDropdown(context);
+        resolveHeaderStyles(context);
+        resolveBodyStyles(context);
+        resolveNativeStyles(context, plan.analyses);
+        resolveCompiledRows(context, plan.converters);
+    }
+
+    private boolean[] resolveNumericColumns(ExcelWriteConverters converters) {
+        boolean[] numericColumns = new boolean[this.fields.size()];
+        for (int i = 0; i < numericColumns.length; i++) {
+            numericColumns[i] = converters.supportsNumeric(this.fields.get(i));
+        }
+
+        return numericColumns;
+    }
+
+    private static SpelCompilerMode resolveCompilerMode(ExcelWriteContext<?> context) {
+        ExcelWriteStrategy compiledExpressions = context.getStrategyMap().get(CompiledExpressions.class);
+        return compiledExpressions == null ? SpelCompilerMode.OFF : (SpelCompilerMode) compiledExpressions.execute(context);
+    }
+
+    /**
+     * Returns the key of plan, which consists of the options that affect analyses and converter.
+     */
+    private List<Object> toPlanKey(ExcelWriteContext<T> context, SpelCompilerMode compilerMode) {
+        Map<Class<? extends ExcelWriteStrategy>, ExcelWriteStrategy> strategyMap = context.getStrategyMap();
+        ExcelWriteStrategy defaultValue = strategyMap.get(DefaultValue.class);
+
+        return Arrays.asList(ModelWriter.class, this.registry,
+                defaultValue == null ? null : defaultValue.execute(context),
+                strategyMap.containsKey(UseGetters.class), strategyMap.containsKey(TypedCells.class), compilerMode);
+    }
+
+    private WritePlan compilePlan(ExcelWriteContext<T> context, SpelCompilerMode compilerMode) {
         // Analyzes the fields with arguments.
         ExcelAnalyzer analyzer = new ExcelWriteAnalyzer(this.registry);
         Collection<ExcelWriteStrategy> strategies = context.getStrategyMap().values();
         List<ExcelAnalysis> analyses = analyzer.analyze(this.fields, strategies.toArray());
 
         // Creates a converter.
-        this.converter = new ExcelWriteConverters(analyses, this.registry);
+        ExcelWriteConverters converters = new ExcelWriteConverters(analyses, this.registry,
+                this.metadata.getAccessorFactory(), compilerMode);
 
-        // Handles the given options.
-        resolveEnumDropdown(context);
-        resolveHeaderStyles(context);
-        resolveBodyStyles(context);
+        return new WritePlan(analyses, converters);
     }
 
     private void resolveEnumDropdown(ExcelWriteContext<T> context) {
@@ -302,25 +412,103 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
         }
     }
 
-    @Override
-    public void preWriteSheet(ExcelWriteContext<T> context) {
-        resolveFilter(context);
+    private void resolveNativeStyles(ExcelWriteContext<T> context, List<ExcelAnalysis> analyses) {
+        if (!context.getStrategyMap().containsKey(TypedCells.class)) {
+            return;
+        }
+
+        Workbook workbook = context.getWorkbook();
+        List<CellStyle> bodyStyles = context.getBodyStyles();
+        CellStyle[] nativeStyles = new CellStyle[this.fields.size()];
+
+        // Caches cell style per data format and body style to prevent the number of cell styles from increasing.
+        Map<String, CellStyle> cache = new HashMap<>();
+
+        for (int i = 0; i < analyses.size(); i++) {
+            ExcelAnalysis analysis = analyses.get(i);
+            ExcelNativeTypeHandler<?> handler = ExcelWriteHandlerConverter.resolveNativeHandler(analysis);
+            if (handler == null) {
+                continue;
+            }
+
+            String dataFormat = handler.getDataFormat(analysis.getField());
+            if (dataFormat == null) {
+                continue;
+            }
+
+            CellStyle bodyStyle = null;
+            if (!CollectionUtils.isNullOrEmpty(bodyStyles)) {
+                bodyStyle = bodyStyles.size() == 1 ? bodyStyles.get(0) : bodyStyles.get(i);
+            }
+
+            String key = (bodyStyle == null ? "" : bodyStyle.getIndex()) + ":" + dataFormat;
+            CellStyle baseStyle = bodyStyle;
+            nativeStyles[i] = cache.computeIfAbsent(key, k -> {
+                CellStyle nativeStyle = workbook.createCellStyle();
+                if (baseStyle != null) {
+                    nativeStyle.cloneStyleFrom(baseStyle);
+                }
+
+                nativeStyle.setDataFormat(workbook.createDataFormat().getFormat(dataFormat));
+                return nativeStyle;
+            });
+        }
+
+        // Assigns null if there is no data format.
+        if (!cache.isEmpty()) {
+            this.nativeStyles = nativeStyles;
+        }
     }
 
-    private void resolveFilter(ExcelWriteContext<T> context) {
-        if (!context.getStrategyMap().containsKey(Filter.class)) {
+    private void resolveCompiledRows(ExcelWriteContext<T> context, ExcelWriteConverters converters) {
+        if (!context.getStrategyMap().containsKey(CompiledRows.class)) {
             return;
         }
 
-        ExcelWriteStrategy strategy = context.getStrategyMap().get(Filter.class);
-        boolean frozenPane = (boolean) strategy.execute(context);
+        List<CellStyle> bodyStyles = context.getBodyStyles();
+        ColumnWriter[] columnWriters = new ColumnWriter[this.fields.size()];
 
-        Sheet sheet = context.getSheet();
-        String ref = ExcelUtils.toRangeReference(sheet, 0, 0, this.fields.size() - 1, context.getChunk().size() - 1);
-        sheet.setAutoFilter(CellRangeAddress.valueOf(ref));
+        for (int i = 0; i < columnWriters.length; i++) {
+            Field field = this.fields.get(i);
 
-        if (frozenPane) {
-            sheet.createFreezePane(0, 1);
+            // Resolves the converter and styles of the column in advance.
+            ExcelWriteConverter converter = converters.getConverter(field);
+            CellStyle nativeStyle = this.nativeStyles == null ? null : this.nativeStyles[i];
+            CellStyle bodyStyle = null;
+            if (!CollectionUtils.isNullOrEmpty(bodyStyles)) {
+                bodyStyle = bodyStyles.size() == 1 ? bodyStyles.get(0) : bodyStyles.get(i);
+            }
+
+            CellStyle columnBodyStyle = bodyStyle;
+            if (this.numericColumns[i]) {
+                // Writes the primitive value without boxing.
+                CellStyle numericStyle = nativeStyle == null ? columnBodyStyle : nativeStyle;
+                columnWriters[i] = (model, scope, cell) -> {
+                    double number = converter.convertNumeric(model, field);
+                    if (Double.isNaN(number)) {
+                        Object value = converter.convertNative(model, field, scope);
+                        writeCell(cell, value, selectStyle(value, nativeStyle, columnBodyStyle));
+                    } else {
+                        writeNumericCell(cell, number, numericStyle);
+                    }
+                };
+                continue;
+            }
+
+            columnWriters[i] = (model, scope, cell) -> {
+                Object value = converter.convertNative(model, field, scope);
+                writeCell(cell, value, selectStyle(value, nativeStyle, columnBodyStyle));
+            };
+        }
+
+        this.columnWriters = columnWriters;
+    }
+
+    @Override
+    public void preWriteSheet(ExcelWriteContext<T> context) {
+        // Creates constraint for columns of enum.
+        if (this.enumDropdownMap != null) {
+            createDropdowns(context.getSheet());
         }
     }
 
@@ -383,52 +571,246 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
     protected void createBody(ExcelWriteContext<T> context) {
         Sheet sheet = context.getSheet();
 
-        // Creates constraint for columns of enum.
-        if (this.enumDropdownMap != null) {
-            createDropdowns(sheet);
+        // Converts the models in parallel, and creates the rows in order on this thread.
+        ExcelWriteStrategy strategy = context.getStrategyMap().get(Parallel.class);
+        if (strategy != null) {
+            Executor executor = (Executor) strategy.execute(context);
+            convertInParallel(context, executor, (values, rowIndex) -> {
+                Row row = sheet.createRow(rowIndex);
+                for (int j = 0; j < values.length; j++) {
+                    writeCell(row.createCell(j), values[j], getBodyStyle(context, j, values[j]));
+                }
+            });
+
+            return;
         }
 
         List<T> chunk = context.getChunk();
-        List<CellStyle> bodyStyles = context.getBodyStyles();
         final int chunkSize = chunk.size();
+        final int chunkOffset = context.getChunkOffset();
         final int numOfFields = this.fields.size();
 
         for (int i = 0; i < chunkSize; i++) {
             T model = chunk.get(i);
 
             // Skips the first row that is header.
-            Row row = sheet.createRow(i + 1);
+            Row row = sheet.createRow(chunkOffset + i + 1);
+
+            // All the columns in the row share the values of model.
+            ExcelWriteRowScope scope = new ExcelWriteRowScope();
+
+            // Writes the row through the compiled writers of columns.
+            if (this.columnWriters != null) {
+                for (int j = 0; j < numOfFields; j++) {
+                    this.columnWriters[j].write(model, scope, row.createCell(j));
+                }
+
+                continue;
+            }
 
             for (int j = 0; j < numOfFields; j++) {
-                Field field = this.fields.get(j);
                 Cell cell = row.createCell(j);
 
-                // Converts field value into the string.
-                String value = this.converter.convert(model, field);
-
-                // Doesn't write even empty string.
-                if (!StringUtils.isNullOrEmpty(value)) {
-                    cell.setCellValue(value);
+                // Writes the primitive value without boxing.
+                if (this.numericColumns[j]) {
+                    double number = toNumericValue(model, j);
+                    if (!Double.isNaN(number)) {
+                        writeNumericCell(cell, number, getNumericStyle(context, j));
+                        continue;
+                    }
                 }
 
-                if (CollectionUtils.isNullOrEmpty(bodyStyles)) {
-                    continue;
-                }
+                // Converts field value into the string or native value.
+                Object value = this.converter.convertNative(model, this.fields.get(j), scope);
+
+                writeCell(cell, value, getBodyStyle(context, j, value));
+            }
+        }
+    }
+
+    private static void writeCell(Cell cell, @Nullable Object value, @Nullable CellStyle style) {
+        if (value instanceof Double) {
+            cell.setCellValue((Double) value);
+        } else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else if (value != null && !"".equals(value)) {
+            // Doesn't write even empty string.
+            cell.setCellValue(value.toString());
+        }
 
-                // Sets styles to body's cell.
-                CellStyle bodyStyle;
-                if (bodyStyles.size() == 1) {
-                    bodyStyle = bodyStyles.get(0);
-                } else {
-                    bodyStyle = bodyStyles.get(j);
+        // There is possibility that bodyStyles has null elements, if you set NoStyleConfig.
+        if (style != null) {
+            cell.setCellStyle(style);
+        }
+    }
+
+    private static void writeNumericCell(Cell cell, double number, @Nullable CellStyle style) {
+        cell.setCellValue(number);
+
+        if (style != null) {
+            cell.setCellStyle(style);
+        }
+    }
+
+    @Nullable
+    private static CellStyle selectStyle(@Nullable Object value, @Nullable CellStyle nativeStyle,
+                                         @Nullable CellStyle bodyStyle) {
+        // Sets style with data format to the cell of native value. (e.g. date)
+        if (value instanceof Double && nativeStyle != null) {
+            return nativeStyle;
+        }
+
+        return bodyStyle;
+    }
+
+    /**
+     * Converts the chunk into the values of cells on the executor, and emits them in order on the current thread.
+     *
+     * <p> The chunk is split into batches, and only a bounded number of batches
+     * is converted at the same time. The emitter receives the values of a row
+     * and the index of the row in sheet, which skips the header.
+     *
+     * @param context  context with current sheet and chunked models
+     * @param executor executor that converts models
+     * @param emitter  consumer of the values of row and the index of row
+     */
+    protected final void convertInParallel(ExcelWriteContext<T> context, Executor executor,
+                                           ObjIntConsumer<Object[]> emitter) {
+        List<List<T>> batches = CollectionUtils.partitionBySize(context.getChunk(), PARALLEL_BATCH_SIZE);
+        Deque<CompletableFuture<Object[][]>> futures = new ArrayDeque<>();
+
+        // Skips the first row that is header.
+        int rowIndex = context.getChunkOffset() + 1;
+        int next = 0;
+
+        try {
+            while (next < batches.size() || !futures.isEmpty()) {
+                // Submits the next batches, as long as the number of batches in progress doesn't exceed the limit.
+                while (next < batches.size() && futures.size() < MAX_PARALLEL_BATCHES) {
+                    List<T> batch = batches.get(next++);
+                    futures.add(CompletableFuture.supplyAsync(() -> toRows(batch), executor));
                 }
 
-                // There is possibility that bodyStyles has null elements, if you set NoStyleConfig.
-                if (bodyStyle != null) {
-                    cell.setCellStyle(bodyStyle);
+                // Waits for the oldest batch to keep the order of models.
+                Object[][] rows = futures.poll().join();
+                for (Object[] values : rows) {
+                    emitter.accept(values, rowIndex++);
                 }
             }
+        } catch (CompletionException e) {
+            // Throws the exception from converter as it is.
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw e;
+        } finally {
+            futures.forEach(it -> it.cancel(false));
+        }
+    }
+
+    private Object[][] toRows(List<T> models) {
+        final int numOfFields = this.fields.size();
+        Object[][] rows = new Object[models.size()][];
+
+        for (int i = 0; i < rows.length; i++) {
+            Object[] values = new Object[numOfFields];
+            toCellValues(models.get(i), values);
+
+            rows[i] = values;
+        }
+
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns, which is equal to the number of targeted fields.
+     *
+     * @return the number of columns
+     */
+    protected final int getNumOfColumns() {
+        return this.fields.size();
+    }
+
+    /**
+     * Converts the field values of model into the values of cells in a row.
+     *
+     * <p> All the columns in the row share a scope, so the values of model
+     * are read once per row. Each value is {@link Double} or {@link Boolean}
+     * as native value, string or null.
+     *
+     * @param model  model
+     * @param values array to be filled, which has elements as many as the number of columns
+     */
+    protected final void toCellValues(T model, Object[] values) {
+        ExcelWriteRowScope scope = new ExcelWriteRowScope();
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.converter.convertNative(model, this.fields.get(i), scope);
+        }
+    }
+
+    /**
+     * Returns whether the column is written as numeric value without boxing.
+     *
+     * @param columnIndex index of column
+     * @return whether {@link #toNumericValue(Object, int)} is available for the column
+     */
+    protected final boolean isNumericColumn(int columnIndex) {
+        return this.numericColumns[columnIndex];
+    }
+
+    /**
+     * Converts the primitive field value of model into the numeric value of cell without boxing.
+     *
+     * @param model       model
+     * @param columnIndex index of numeric column
+     * @return numeric value, or {@link Double#NaN} if it should be converted by {@link #toCellValues(Object, Object[])}
+     * @see #isNumericColumn(int)
+     */
+    protected final double toNumericValue(T model, int columnIndex) {
+        return this.converter.convertNumeric(model, this.fields.get(columnIndex));
+    }
+
+    /**
+     * Converts the field value of model into the value of cell at the column.
+     *
+     * @param model       model
+     * @param columnIndex index of column
+     * @param scope       scope of the row
+     * @return {@link Double} or {@link Boolean} as native value, string or null
+     */
+    @Nullable
+    protected final Object toCellValue(T model, int columnIndex, ExcelWriteRowScope scope) {
+        return this.converter.convertNative(model, this.fields.get(columnIndex), scope);
+    }
+
+    @Nullable
+    private CellStyle getNumericStyle(ExcelWriteContext<T> context, int columnIndex) {
+        CellStyle nativeStyle = this.nativeStyles == null ? null : this.nativeStyles[columnIndex];
+        return nativeStyle == null ? getBodyStyle(context, columnIndex, null) : nativeStyle;
+    }
+
+    /**
+     * Returns the style of body's cell at the column for the value.
+     *
+     * @param context     context
+     * @param columnIndex index of column
+     * @param value       value of cell
+     * @return style of cell or null
+     */
+    @Nullable
+    protected final CellStyle getBodyStyle(ExcelWriteContext<T> context, int columnIndex, @Nullable Object value) {
+        CellStyle nativeStyle = this.nativeStyles == null ? null : this.nativeStyles[columnIndex];
+
+        CellStyle bodyStyle = null;
+        List<CellStyle> bodyStyles = context.getBodyStyles();
+        if (!CollectionUtils.isNullOrEmpty(bodyStyles)) {
+            bodyStyle = bodyStyles.size() == 1 ? bodyStyles.get(0) : bodyStyles.get(columnIndex);
         }
+
+        return selectStyle(value, nativeStyle, bodyStyle);
     }
 
     /**
@@ -448,11 +830,31 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
 
     @Override
     public void postWriteSheet(ExcelWriteContext<T> context) {
+        resolveFilter(context);
         resolveAutoResizedColumns(context);
         resolveHiddenExtraRows(context);
         resolveHiddenExtraColumns(context);
     }
 
+    private void resolveFilter(ExcelWriteContext<T> context) {
+        if (!context.getStrategyMap().containsKey(Filter.class)) {
+            return;
+        }
+
+        ExcelWriteStrategy strategy = context.getStrategyMap().get(Filter.class);
+        boolean frozenPane = (boolean) strategy.execute(context);
+
+        // The number of rows is unknown until the last chunk of the sheet is written.
+        Sheet sheet = context.getSheet();
+        int numOfModels = context.getChunkOffset() + context.getChunk().size();
+        String ref = ExcelUtils.toRangeReference(sheet, 0, 0, this.fields.size() - 1, numOfModels - 1);
+        sheet.setAutoFilter(CellRangeAddress.valueOf(ref));
+
+        if (frozenPane) {
+            sheet.createFreezePane(0, 1);
+        }
+    }
+
     private void resolveAutoResizedColumns(ExcelWriteContext<T> context) {
         if (context.getStrategyMap().containsKey(AutoResizedColumns.class)) {
             ExcelUtils.autoResizeColumns(context.getSheet(), this.fields.size());
@@ -461,7 +863,8 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
 
     private void resolveHiddenExtraRows(ExcelWriteContext<T> context) {
         if (context.getStrategyMap().containsKey(HiddenExtraRows.class)) {
-            ExcelUtils.hideExtraRows(context.getSheet(), context.getChunk().size() + 1);
+            int numOfModels = context.getChunkOffset() + context.getChunk().size();
+            ExcelUtils.hideExtraRows(context.getSheet(), numOfModels + 1);
         }
     }
 
@@ -471,4 +874,27 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
         }
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Analyses and converter, which are shared by the writers with the same options.
+     */
+    private static final class WritePlan {
+        private final List<ExcelAnalysis> analyses;
+        private final ExcelWriteConverters converters;
+
+        private WritePlan(List<ExcelAnalysis> analyses, ExcelWriteConverters converters) {
+            this.analyses = analyses;
+            this.converters = converters;
+        }
+    }
+
+    /**
+     * Writer of a column, which is compiled with the resolved converter and styles.
+     */
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(Object model, ExcelWriteRowScope scope, Cell cell);
+    }
+
 }
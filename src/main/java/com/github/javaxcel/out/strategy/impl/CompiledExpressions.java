@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.out.strategy.impl;
+
+import com.github.javaxcel.annotation.ExcelWriteExpression;
+import com.github.javaxcel.out.context.ExcelWriteContext;
+import com.github.javaxcel.out.core.ExcelWriter;
+import com.github.javaxcel.out.core.impl.ModelWriter;
+import com.github.javaxcel.out.strategy.AbstractExcelWriteStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+/**
+ * Makes the expressions of {@link ExcelWriteExpression} compiled into bytecode.
+ *
+ * <p> The expression is interpreted for the first calls and compiled when it gets hot.
+ * The expression that cannot be compiled, such as selection or projection of collection,
+ * is still interpreted, so the result is identical to the one without this strategy.
+ *
+ * @see SpelCompilerMode
+ */
+public class CompiledExpressions extends AbstractExcelWriteStrategy {
+
+    private final SpelCompilerMode compilerMode;
+
+    /**
+     * Strategy for compiled expressions with {@link SpelCompilerMode#MIXED}.
+     *
+     * <p> If the compiled expression fails, such as when the types of variables vary,
+     * it falls back to the interpreted one.
+     */
+    public CompiledExpressions() {
+        this(SpelCompilerMode.MIXED);
+    }
+
+    /**
+     * Strategy for compiled expressions with the given mode.
+     *
+     * @param compilerMode compiler mode of expressions
+     */
+    public CompiledExpressions(SpelCompilerMode compilerMode) {
+        Asserts.that(compilerMode)
+                .describedAs("ExcelWriteStrategy.CompiledExpressions.compilerMode is not allowed to be null")
+                .isNotNull();
+
+        this.compilerMode = compilerMode;
+    }
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return ModelWriter.class.isAssignableFrom(writerType);
+    }
+
+    @Override
+    public Object execute(ExcelWriteContext<?> context) {
+        return this.compilerMode;
+    }
+
+}
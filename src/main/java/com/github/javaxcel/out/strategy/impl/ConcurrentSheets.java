@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.strategy.impl;
+
+import com.github.javaxcel.out.context.ExcelWriteContext;
+import com.github.javaxcel.out.core.ExcelWriter;
+import com.github.javaxcel.out.core.impl.DirectModelWriter;
+import com.github.javaxcel.out.strategy.AbstractExcelWriteStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Makes the sheets written concurrently when the models overflow a single sheet.
+ *
+ * <p> Sheets of a workbook share its internal state, so this is supported only by {@link DirectModelWriter}
+ * which writes each sheet into its own temporary part. The headers are written by the thread that calls
+ * {@link ExcelWriter#write}, and the bodies of the sheets are written on the executor.
+ * The parts are assembled in order of the sheets on saving.
+ */
+public class ConcurrentSheets extends AbstractExcelWriteStrategy {
+
+    private final Executor executor;
+
+    /**
+     * Strategy for concurrent sheets on {@link ForkJoinPool#commonPool()}.
+     */
+    public ConcurrentSheets() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Strategy for concurrent sheets on the given executor.
+     *
+     * @param executor executor that writes sheets
+     */
+    public ConcurrentSheets(Executor executor) {
+        Asserts.that(executor)
+                .describedAs("ExcelWriteStrategy.ConcurrentSheets.executor is not allowed to be null")
+                .isNotNull();
+
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return DirectModelWriter.class.isAssignableFrom(writerType);
+    }
+
+    @Override
+    public Object execute(ExcelWriteContext<?> context) {
+        return this.executor;
+    }
+
+}
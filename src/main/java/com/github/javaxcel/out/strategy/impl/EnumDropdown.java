@@ -18,6 +18,7 @@ package com.github.javaxcel.out.strategy.impl;
 
 import com.github.javaxcel.out.context.ExcelWriteContext;
 import com.github.javaxcel.out.core.ExcelWriter;
+import com.github.javaxcel.out.core.impl.DirectModelWriter;
 import com.github.javaxcel.out.core.impl.ModelWriter;
 import com.github.javaxcel.out.strategy.AbstractExcelWriteStrategy;
 import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
@@ -27,7 +28,8 @@ public class EnumDropdown extends AbstractExcelWriteStrategy {
     @Override
     public boolean isSupported(ExcelWriteContext<?> context) {
         Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
-        return ModelWriter.class.isAssignableFrom(writerType);
+        // DirectModelWriter doesn't write data validations.
+        return ModelWriter.class.isAssignableFrom(writerType) && !DirectModelWriter.class.isAssignableFrom(writerType);
     }
 
     @Override
@@ -18,6 +18,7 @@ package com.github.javaxcel.out.strategy.impl;
 
 import com.github.javaxcel.out.context.ExcelWriteContext;
 import com.github.javaxcel.out.core.ExcelWriter;
+import com.github.javaxcel.out.core.impl.DirectModelWriter;
 import com.github.javaxcel.out.core.impl.MapWriter;
 import com.github.javaxcel.out.core.impl.ModelWriter;
 import com.github.javaxcel.out.strategy.AbstractExcelWriteStrategy;
@@ -27,6 +28,11 @@ public class HiddenExtraColumns extends AbstractExcelWriteStrategy {
 
     public boolean isSupported(ExcelWriteContext<?> context) {
         Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        // DirectModelWriter doesn't have the cells of sheet.
+        if (DirectModelWriter.class.isAssignableFrom(writerType)) {
+            return false;
+        }
+
         return ModelWriter.class.isAssignableFrom(writerType) || MapWriter.class.isAssignableFrom(writerType);
     }
 
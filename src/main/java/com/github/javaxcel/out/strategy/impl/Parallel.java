@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.strategy.impl;
+
+import com.github.javaxcel.out.context.ExcelWriteContext;
+import com.github.javaxcel.out.core.ExcelWriter;
+import com.github.javaxcel.out.core.impl.ModelWriter;
+import com.github.javaxcel.out.strategy.AbstractExcelWriteStrategy;
+import io.github.imsejin.common.assertion.Asserts;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Makes the conversion from model into values of cells parallel.
+ *
+ * <p> Sheet is not thread-safe, so only the conversion including handlers and expressions
+ * is processed on the executor. The models are converted in bounded batches, and the values
+ * are written into the sheet in order by the thread that calls {@link ExcelWriter#write}.
+ *
+ * <p> We recommend writing in parallel only when dealing with large data
+ * or the model that has many columns.
+ */
+public class Parallel extends AbstractExcelWriteStrategy {
+
+    private final Executor executor;
+
+    /**
+     * Strategy for parallel conversion on {@link ForkJoinPool#commonPool()}.
+     */
+    public Parallel() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Strategy for parallel conversion on the given executor.
+     *
+     * @param executor executor that converts models
+     */
+    public Parallel(Executor executor) {
+        Asserts.that(executor)
+                .describedAs("ExcelWriteStrategy.Parallel.executor is not allowed to be null")
+                .isNotNull();
+
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return ModelWriter.class.isAssignableFrom(writerType);
+    }
+
+    @Override
+    public Object execute(ExcelWriteContext<?> context) {
+        return this.executor;
+    }
+
+}
@@ -29,6 +29,9 @@ import org.apache.poi.hssf.usermodel.HSSFRow;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -43,6 +46,7 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.IOUtils;
 import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
@@ -50,14 +54,13 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
@@ -76,6 +79,16 @@ public final class ExcelUtils {
     public static final String EXCEL_97_EXTENSION = "xls";
     public static final String EXCEL_2007_EXTENSION = "xlsx";
 
+    /**
+     * Pattern of date/time format which is interpreted the same in Java and Excel.
+     */
+    private static final Pattern COMPATIBLE_DATE_FORMAT_PATTERN = Pattern.compile("^(yyyy|yy|MM?|dd?|HH?|mm?|ss?|[ ./:,-])+$");
+
+    /**
+     * Pattern of token in date/time format except separators.
+     */
+    private static final Pattern DATE_FORMAT_TOKEN_PATTERN = Pattern.compile("yyyy|yy|MM?|dd?|HH?|mm?|ss?");
+
     @ExcludeFromGeneratedJacocoReport
     private ExcelUtils() {
         throw new UnsupportedOperationException(getClass().getName() + " is not allowed to instantiate");
@@ -84,30 +97,52 @@ public final class ExcelUtils {
     /**
      * Creates an instance of {@link Workbook} from the file.
      *
+     * <p> The file is opened as read-only without copying it into memory,
+     * and released when the workbook is closed. Changes of the workbook
+     * can be written to another file, but not to the given file.
+     *
      * @param file Excel file
      * @return Excel workbook instance
      * @throws IllegalArgumentException unless file extension is equal to 'xls' or 'xlsx'
      */
     public static Workbook getWorkbook(File file) {
-        final String extension = FilenameUtils.getExtension(file.getName());
-        Asserts.that(extension)
-                .describedAs("Extension of Excel file must be '{0}' or '{1}'",
-                        EXCEL_97_EXTENSION, EXCEL_2007_EXTENSION)
-                .matches(Pattern.compile("^xlsx?$", Pattern.CASE_INSENSITIVE));
+        if (isExcel97(file)) {
+            POIFSFileSystem fs = null;
+            try {
+                fs = new POIFSFileSystem(file, true);
+                return new HSSFWorkbook(fs);
+            } catch (IOException e) {
+                // Releases the file if it is not a workbook.
+                IOUtils.closeQuietly(fs);
+                throw new RuntimeException(e.getMessage(), e);
+            } catch (RuntimeException e) {
+                IOUtils.closeQuietly(fs);
+                throw e;
+            }
+        }
 
-        Workbook workbook;
+        OPCPackage pkg = null;
         try {
-            if (extension.equalsIgnoreCase(EXCEL_97_EXTENSION)) {
-                InputStream in = new FileInputStream(file);
-                workbook = new HSSFWorkbook(in);
-            } else {
-                workbook = new XSSFWorkbook(file);
-            }
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+            return new XSSFWorkbook(pkg);
         } catch (IOException | InvalidFormatException e) {
+            // Releases the file without saving it, if it is not a workbook.
+            if (pkg != null) pkg.revert();
             throw new RuntimeException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            if (pkg != null) pkg.revert();
+            throw e;
         }
+    }
 
-        return workbook;
+    private static boolean isExcel97(File file) {
+        final String extension = FilenameUtils.getExtension(file.getName());
+        Asserts.that(extension)
+                .describedAs("Extension of Excel file must be '{0}' or '{1}'",
+                        EXCEL_97_EXTENSION, EXCEL_2007_EXTENSION)
+                .matches(Pattern.compile("^xlsx?$", Pattern.CASE_INSENSITIVE));
+
+        return extension.equalsIgnoreCase(EXCEL_97_EXTENSION);
     }
 
     /**
@@ -214,18 +249,46 @@ public final class ExcelUtils {
         return numOfModels;
     }
 
+    /**
+     * Returns the number of rows per sheet without building workbook.
+     *
+     * <p> This counts the rows of the visible sheets in order like {@link #getSheets(Workbook)},
+     * as fast as it reads the rows of the file without their cells.
+     *
+     * @param file Excel file
+     * @return the number of rows per sheet
+     * @throws IllegalArgumentException unless file extension is equal to 'xls' or 'xlsx'
+     */
+    public static int[] getNumOfRowsPerSheet(File file) {
+        boolean excel97 = isExcel97(file);
+
+        try {
+            return excel97 ? RowCounter.countXls(file) : RowCounter.countXlsx(file);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
     /**
      * Returns the number of models in all sheets.
      *
      * <p> This excludes header row. In other words,
      * this returns the total number of rows minus number of all headers.
+     * The rows are counted without building workbook.
      *
      * @param file Excel file
      * @return the number of models
+     * @see #getNumOfRowsPerSheet(File)
      */
     public static long getNumOfModels(File file) {
-        Workbook workbook = getWorkbook(file);
-        return getNumOfModels(workbook);
+        long numOfModels = 0;
+        for (int numOfRows : getNumOfRowsPerSheet(file)) {
+            numOfModels += Math.max(0, numOfRows - 1);
+        }
+
+        return numOfModels;
     }
 
     /**
@@ -613,6 +676,46 @@ public final class ExcelUtils {
         sheet.addValidationData(validation);
     }
 
+    /**
+     * Returns whether the pattern of {@link java.time.format.DateTimeFormatter}
+     * or {@link java.text.SimpleDateFormat} can be used as data format of Excel as it is.
+     *
+     * <pre><code>
+     *     isCompatibleDateFormat("yyyy-MM-dd HH:mm:ss"); // true
+     *     isCompatibleDateFormat("yyyy/MM/dd");          // true
+     *     isCompatibleDateFormat("hh:mm a");             // false
+     *     isCompatibleDateFormat("yyyyMMdd'T'HHmmss");   // false
+     *     isCompatibleDateFormat("yyyy-mm");             // false
+     *     isCompatibleDateFormat("HH:MM");               // false
+     * </code></pre>
+     *
+     * <p> Excel reads {@code m} and {@code M} as minute only right after hour or right before second,
+     * and as month otherwise. So the pattern is not compatible if Java reads them differently.
+     *
+     * @param pattern date/time pattern
+     * @return whether the pattern is compatible with data format of Excel
+     */
+    public static boolean isCompatibleDateFormat(@Nullable String pattern) {
+        if (pattern == null || !COMPATIBLE_DATE_FORMAT_PATTERN.matcher(pattern).matches()) return false;
+
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = DATE_FORMAT_TOKEN_PATTERN.matcher(pattern);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+
+        for (int i = 0; i < tokens.size(); i++) {
+            char letter = tokens.get(i).charAt(0);
+            if (letter != 'm' && letter != 'M') continue;
+
+            boolean minuteInExcel = (i > 0 && tokens.get(i - 1).charAt(0) == 'H')
+                    || (i < tokens.size() - 1 && tokens.get(i + 1).charAt(0) == 's');
+            if (minuteInExcel != (letter == 'm')) return false;
+        }
+
+        return true;
+    }
+
     /**
      * Returns the number of declared cell styles.
      *
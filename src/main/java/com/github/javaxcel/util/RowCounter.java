@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.util;
+
+import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.MulRKRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.RowRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Counter of rows in the sheets of Excel file, which doesn't build workbook and cells.
+ *
+ * <p> The rows are counted the same as {@link org.apache.poi.ss.usermodel.Sheet#getPhysicalNumberOfRows()}
+ * of the visible sheets. For xlsx file, this counts the {@code <row>} elements of the sheets,
+ * because {@code <dimension ref>} is a range that includes the missing rows and is optional.
+ * For xls file, this counts the row numbers of the records without building cells.
+ */
+final class RowCounter {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLHelper.newXMLInputFactory();
+
+    private static final String RELATIONSHIP_NAMESPACE = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    @ExcludeFromGeneratedJacocoReport
+    private RowCounter() {
+        throw new UnsupportedOperationException(getClass().getName() + " is not allowed to instantiate");
+    }
+
+    /**
+     * Counts the rows in the visible sheets of xlsx file.
+     *
+     * @param file xlsx file
+     * @return the number of rows per sheet
+     * @throws Exception if failed to read the file
+     */
+    static int[] countXlsx(File file) throws Exception {
+        OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+
+        try {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+
+            List<String> relIds;
+            try (InputStream in = xssfReader.getWorkbookData()) {
+                relIds = readVisibleSheetRelIds(in);
+            }
+
+            int[] counts = new int[relIds.size()];
+            for (int i = 0; i < counts.length; i++) {
+                try (InputStream in = xssfReader.getSheet(relIds.get(i))) {
+                    counts[i] = countRowElements(in);
+                }
+            }
+
+            return counts;
+        } finally {
+            // Releases the file without saving it.
+            pkg.revert();
+        }
+    }
+
+    private static List<String> readVisibleSheetRelIds(InputStream workbookData) throws XMLStreamException {
+        List<String> relIds = new ArrayList<>();
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(workbookData);
+
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !"sheet".equals(reader.getLocalName())) {
+                    continue;
+                }
+
+                // Skips the hidden sheet like ExcelUtils.getSheets(Workbook).
+                if ("hidden".equals(reader.getAttributeValue(null, "state"))) {
+                    continue;
+                }
+
+                relIds.add(reader.getAttributeValue(RELATIONSHIP_NAMESPACE, "id"));
+            }
+        } finally {
+            reader.close();
+        }
+
+        return relIds;
+    }
+
+    private static int countRowElements(InputStream sheetData) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(sheetData);
+        int count = 0;
+
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT && "row".equals(reader.getLocalName())) {
+                    count++;
+                } else if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(reader.getLocalName())) {
+                    // Doesn't parse the rest of sheet such as merged cells and drawings.
+                    break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        return count;
+    }
+
+    /**
+     * Counts the rows in the visible sheets of xls file.
+     *
+     * <p> A row is counted once, whether it has its row record or only the records of its cells.
+     *
+     * @param file xls file
+     * @return the number of rows per sheet
+     * @throws Exception if failed to read the file
+     */
+    static int[] countXls(File file) throws Exception {
+        try (POIFSFileSystem fs = new POIFSFileSystem(file, true)) {
+            DirectoryNode root = fs.getRoot();
+
+            try (InputStream in = root.createDocumentInputStream(HSSFWorkbook.getWorkbookDirEntryName(root))) {
+                return countRowRecords(new RecordFactoryInputStream(in, false));
+            }
+        }
+    }
+
+    private static int[] countRowRecords(RecordFactoryInputStream records) {
+        List<Boolean> hiddenStates = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+
+        // Row numbers of the current sheet, which is null in the substream that is not sheet.
+        BitSet rows = null;
+        int sheetIndex = -1;
+        int depth = 0;
+
+        Record record;
+        while ((record = records.nextRecord()) != null) {
+            if (record instanceof BOFRecord) {
+                // Substreams of sheets follow the substream of workbook globals in order of bound sheets.
+                int type = ((BOFRecord) record).getType();
+                if (depth == 0 && type != BOFRecord.TYPE_WORKBOOK) {
+                    sheetIndex++;
+
+                    // Chart sheet and macro sheet are not sheets of workbook.
+                    if (type == BOFRecord.TYPE_WORKSHEET) rows = new BitSet();
+                }
+                depth++;
+            } else if (record instanceof EOFRecord) {
+                depth--;
+                if (depth == 0 && rows != null) {
+                    boolean hidden = sheetIndex < hiddenStates.size() && hiddenStates.get(sheetIndex);
+                    if (!hidden) counts.add(rows.cardinality());
+                    rows = null;
+                }
+            } else if (record instanceof BoundSheetRecord) {
+                hiddenStates.add(((BoundSheetRecord) record).isHidden());
+            } else if (rows != null && depth == 1) {
+                int rowIndex = getRowIndex(record);
+                if (rowIndex >= 0) rows.set(rowIndex);
+            }
+        }
+
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int getRowIndex(Record record) {
+        if (record instanceof RowRecord) return ((RowRecord) record).getRowNumber();
+        if (record instanceof CellValueRecordInterface) return ((CellValueRecordInterface) record).getRow();
+        if (record instanceof MulRKRecord) return ((MulRKRecord) record).getRow();
+        if (record instanceof MulBlankRecord) return ((MulBlankRecord) record).getRow();
+
+        return -1;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.accessor
+
+import com.github.javaxcel.accessor.impl.MethodHandleFieldAccessorFactory
+import com.github.javaxcel.accessor.impl.ReflectionFieldAccessorFactory
+import com.github.javaxcel.util.FieldUtils
+import spock.lang.Specification
+
+class FieldAccessorFactorySpec extends Specification {
+
+    def "Gets and sets value through access to field"() {
+        given:
+        def field = Sample.getDeclaredField(fieldName)
+        def accessor = factory.create(field, null, null)
+        def model = new Sample()
+
+        when:
+        accessor.set(model, value)
+
+        then:
+        accessor.field == field
+        accessor.get(model) == value
+
+        where:
+        factory                               | fieldName | value
+        new MethodHandleFieldAccessorFactory() | "number"  | 256
+        new MethodHandleFieldAccessorFactory() | "amount"  | -1024L
+        new MethodHandleFieldAccessorFactory() | "ratio"   | 0.5D
+        new MethodHandleFieldAccessorFactory() | "name"    | "alpha"
+        new MethodHandleFieldAccessorFactory() | "name"    | null
+        new ReflectionFieldAccessorFactory()   | "number"  | 256
+        new ReflectionFieldAccessorFactory()   | "amount"  | -1024L
+        new ReflectionFieldAccessorFactory()   | "ratio"   | 0.5D
+        new ReflectionFieldAccessorFactory()   | "name"    | "alpha"
+        new ReflectionFieldAccessorFactory()   | "name"    | null
+    }
+
+    def "Gets and sets value through getter and setter"() {
+        given:
+        def field = Sample.getDeclaredField("name")
+        def accessor = factory.create(field, FieldUtils.resolveGetter(field), FieldUtils.resolveSetter(field))
+        def model = new Sample()
+
+        when:
+        accessor.set(model, "alpha")
+
+        then:
+        model.@name == "ALPHA"
+        accessor.get(model) == "[ALPHA]"
+
+        where:
+        factory << [new MethodHandleFieldAccessorFactory(), new ReflectionFieldAccessorFactory()]
+    }
+
+    def "Gets primitive value without boxing"() {
+        given:
+        def model = new Sample()
+        def intAccessor = factory.create(Sample.getDeclaredField("number"), null, null)
+        def longAccessor = factory.create(Sample.getDeclaredField("amount"), null, null)
+        def doubleAccessor = factory.create(Sample.getDeclaredField("ratio"), null, null)
+
+        when:
+        intAccessor.set(model, 64)
+        longAccessor.set(model, Long.MAX_VALUE)
+        doubleAccessor.set(model, -3.14D)
+
+        then:
+        intAccessor.getInt(model) == 64
+        longAccessor.getLong(model) == Long.MAX_VALUE
+        doubleAccessor.getDouble(model) == -3.14D
+
+        where:
+        factory << [new MethodHandleFieldAccessorFactory(), new ReflectionFieldAccessorFactory()]
+    }
+
+    def "Sets value to final field"() {
+        given:
+        def field = Sample.getDeclaredField("constant")
+        def accessor = factory.create(field, null, null)
+        def model = new Sample()
+
+        when:
+        accessor.set(model, "changed")
+
+        then:
+        accessor.get(model) == "changed"
+
+        where:
+        factory << [new MethodHandleFieldAccessorFactory(), new ReflectionFieldAccessorFactory()]
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static class Sample {
+        private int number
+        private long amount
+        private double ratio
+        private String name
+        private final String constant = "constant"
+
+        String getName() {
+            "[$name]"
+        }
+
+        void setName(String name) {
+            this.name = name.toUpperCase(Locale.US)
+        }
+    }
+
+}
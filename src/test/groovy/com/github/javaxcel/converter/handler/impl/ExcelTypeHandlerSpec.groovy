@@ -16,6 +16,7 @@
 
 package com.github.javaxcel.converter.handler.impl
 
+import com.github.javaxcel.converter.handler.ExcelNativeTypeHandler
 import com.github.javaxcel.converter.handler.ExcelTypeHandler
 import com.github.javaxcel.converter.handler.impl.io.FileTypeHandler
 import com.github.javaxcel.converter.handler.impl.lang.BooleanTypeHandler
@@ -135,4 +136,91 @@ class ExcelTypeHandlerSpec extends Specification {
         new PathTypeHandler()           || Paths.get("/usr", "local")                                                   | "${File.separator}usr${File.separator}local"
     }
 
+    @Unroll("#impl.class.simpleName: origin(#origin) => native(#expected)")
+    def "write native value"() {
+        given:
+        def handler = impl as ExcelNativeTypeHandler
+
+        when:
+        def actual = handler.writeNative(origin)
+
+        then:
+        actual == expected
+
+        where:
+        impl                           || origin                                      | expected
+        new BooleanTypeHandler(true)   || true                                        | true
+        new ByteTypeHandler(true)      || 2 as byte                                   | 2D
+        new ShortTypeHandler()         || -56 as short                                | -56D
+        new IntegerTypeHandler()       || 1024                                        | 1024D
+        new LongTypeHandler()          || 999_999_999_999_999L                        | 999_999_999_999_999D
+        new LongTypeHandler()          || 1_000_000_000_000_000L                      | null
+        new FloatTypeHandler()         || 3.14F                                       | 3.14D
+        new FloatTypeHandler()         || Float.NaN                                   | null
+        new DoubleTypeHandler()        || -1.141414D                                  | -1.141414D
+        new DoubleTypeHandler()        || Double.POSITIVE_INFINITY                    | null
+        new BigIntegerTypeHandler()    || new BigInteger("82487158456540")            | 82487158456540D
+        new BigIntegerTypeHandler()    || new BigInteger("8248715845654012")          | null
+        new BigDecimalTypeHandler()    || new BigDecimal("3.141592653580")            | 3.14159265358D
+        new BigDecimalTypeHandler()    || new BigDecimal("3.1415926535897932")        | null
+        new LocalDateTypeHandler()     || LocalDate.of(1900, 1, 1)                    | 1D
+        new LocalDateTypeHandler()     || LocalDate.of(1899, 12, 31)                  | null
+        new LocalDateTimeTypeHandler() || LocalDateTime.of(2000, 1, 1, 12, 0)         | 36526.5D
+        new LocalTimeTypeHandler()     || LocalTime.of(18, 0)                         | 0.75D
+        new DateTypeHandler()          || new Date(2000 - 1900, 1 - 1, 1, 12, 0, 0)   | 36526.5D
+        new DateTypeHandler()          || new Date(1899 - 1900, 12 - 1, 31)           | null
+        new DateTypeHandler()          || new Date(10000 - 1900, 1 - 1, 1)            | null
+    }
+
+    @Unroll("#impl.class.simpleName: native(#origin) => value(#expected)")
+    def "read native value"() {
+        given:
+        def handler = impl as ExcelNativeTypeHandler
+
+        expect:
+        handler.supportsReadNative(origin.class)
+
+        when:
+        def actual = handler.readNative(origin)
+
+        then:
+        actual == expected
+
+        where:
+        impl                           || origin                                | expected
+        new BooleanTypeHandler(true)   || false                                 | false
+        new ByteTypeHandler(true)      || 2D                                    | 2 as byte
+        new ShortTypeHandler()         || -56D                                  | -56 as short
+        new IntegerTypeHandler()       || 1024D                                 | 1024
+        new LongTypeHandler()          || 999_999_999_999_999D                  | 999_999_999_999_999L
+        new FloatTypeHandler()         || 3.14D                                 | 3.14F
+        new DoubleTypeHandler()        || -1.141414D                            | -1.141414D
+        new BigIntegerTypeHandler()    || 82487158456540D                       | new BigInteger("82487158456540")
+        new BigDecimalTypeHandler()    || 3.14159265358D                        | new BigDecimal("3.14159265358")
+        new BigDecimalTypeHandler()    || 1.0E7D                                | new BigDecimal("10000000")
+        new LocalDateTypeHandler()     || LocalDateTime.of(1900, 1, 1, 0, 0)    | LocalDate.of(1900, 1, 1)
+        new LocalDateTimeTypeHandler() || LocalDateTime.of(2000, 1, 1, 12, 0)   | LocalDateTime.of(2000, 1, 1, 12, 0)
+        new LocalTimeTypeHandler()     || LocalDateTime.of(1899, 12, 31, 18, 0) | LocalTime.of(18, 0)
+        new DateTypeHandler()          || LocalDateTime.of(2000, 1, 1, 12, 0)   | new Date(2000 - 1900, 1 - 1, 1, 12, 0, 0)
+    }
+
+    @Unroll("#impl.class.simpleName: native(#origin) => NumberFormatException")
+    def "read native value that has fraction into integral type"() {
+        given:
+        def handler = impl as ExcelNativeTypeHandler
+
+        when:
+        handler.readNative(origin)
+
+        then:
+        thrown NumberFormatException
+
+        where:
+        impl                        || origin
+        new ByteTypeHandler()       || 128D
+        new IntegerTypeHandler()    || 3.5D
+        new LongTypeHandler()       || Math.pow(2, 63)
+        new BigIntegerTypeHandler() || -0.25D
+    }
+
 }
@@ -23,6 +23,7 @@ import com.github.javaxcel.analysis.ExcelAnalysisImpl.DefaultMetaImpl
 import com.github.javaxcel.analysis.in.ExcelReadAnalyzer
 import com.github.javaxcel.annotation.ExcelColumn
 import com.github.javaxcel.annotation.ExcelReadExpression
+import org.springframework.expression.spel.SpelCompilerMode
 import spock.lang.Specification
 
 import java.lang.reflect.Field
@@ -60,6 +61,55 @@ class ExcelReadExpressionConverterSpec extends Specification {
         [time: "12:34:56"]                  | "time"    || LocalTime.of(12, 34, 56)
     }
 
+    def "Converts field value through compiled expression"() {
+        given:
+        def analyses = analyze(TestModel.declaredFields, ExcelReadAnalyzer.FIELD_ACCESS)
+        def field = TestModel.getDeclaredField(fieldName)
+        def expected = new ExcelReadExpressionConverter(analyses).convert(variables, field)
+
+        when: "Converts many times enough for the expression to be compiled"
+        def converter = new ExcelReadExpressionConverter(analyses, compilerMode)
+        def actual = (1..200).collect { converter.convert(variables, field) }
+
+        then: "Result is equal to the one of interpreted expression"
+        actual.every { it == expected }
+
+        where:
+        compilerMode               | variables                    | fieldName
+        SpelCompilerMode.IMMEDIATE | [i: "-51", l: "128"]         | "i"
+        SpelCompilerMode.IMMEDIATE | [:]                          | "l"
+        SpelCompilerMode.IMMEDIATE | [ss: "ALPHA,BETA,GAMMA"]     | "ss"
+        SpelCompilerMode.IMMEDIATE | [time: "12:34:56"]           | "time"
+        SpelCompilerMode.MIXED     | [i: "4", date: "2022-01-05"] | "date"
+        SpelCompilerMode.MIXED     | [o: null]                    | "o"
+        SpelCompilerMode.MIXED     | [s: ""]                      | "s"
+        SpelCompilerMode.MIXED     | [loc: "ko/KR"]               | "loc"
+    }
+
+    def "Converts field value from buffer of row"() {
+        given:
+        def analyses = analyze(TestModel.declaredFields, ExcelReadAnalyzer.FIELD_ACCESS)
+        def field = TestModel.getDeclaredField(fieldName)
+        def expected = new ExcelReadExpressionConverter(analyses).convert(variables, field)
+
+        when:
+        def row = new ExcelReadRow(variables.keySet() as List)
+        variables.eachWithIndex { entry, i -> row.set(i, entry.value) }
+        def actual = new ExcelReadExpressionConverter(analyses).convert(row, field)
+
+        then: "Result is equal to the one converted from map"
+        actual == expected
+        row.toMap() == variables
+
+        where:
+        variables                    | fieldName
+        [i: "-51", l: "128"]         | "i"
+        [:]                          | "l"
+        [o: null]                    | "o"
+        [s: ""]                      | "s"
+        [i: "4", date: "2022-01-05"] | "date"
+    }
+
     def "Converts through expression, but always returns null"() {
         given:
         def analyses = analyze(NullModel.declaredFields, ExcelReadAnalyzer.SETTER)
@@ -16,6 +16,9 @@
 
 package com.github.javaxcel.converter.out
 
+import com.github.javaxcel.accessor.FieldAccessor
+import com.github.javaxcel.accessor.FieldAccessorFactory
+import com.github.javaxcel.accessor.impl.MethodHandleFieldAccessorFactory
 import com.github.javaxcel.analysis.ExcelAnalysis
 import com.github.javaxcel.analysis.ExcelAnalysis.DefaultMeta.Source
 import com.github.javaxcel.analysis.ExcelAnalysisImpl
@@ -25,9 +28,11 @@ import com.github.javaxcel.annotation.ExcelColumn
 import com.github.javaxcel.annotation.ExcelModel
 import com.github.javaxcel.annotation.ExcelWriteExpression
 import groovy.transform.EqualsAndHashCode
+import org.springframework.expression.spel.SpelCompilerMode
 import spock.lang.Specification
 
 import java.lang.reflect.Field
+import java.lang.reflect.Method
 import java.time.LocalDate
 import java.time.LocalTime
 import java.util.concurrent.TimeUnit
@@ -63,6 +68,52 @@ class ExcelWriteExpressionConverterSpec extends Specification {
         "time"       | LocalTime.of(12, 34, 56)   || "12:35:01"
     }
 
+    def "Converts field value through compiled expression"() {
+        given:
+        def model = new TestModel(fieldName, value)
+        def analyses = analyze(model.class.declaredFields, ExcelWriteAnalyzer.GETTER)
+        def field = model.class.getDeclaredField(fieldName)
+        def expected = new ExcelWriteExpressionConverter(analyses).convert(model, field)
+
+        when: "Converts many times enough for the expression to be compiled"
+        def converter = new ExcelWriteExpressionConverter(analyses, new MethodHandleFieldAccessorFactory(), compilerMode)
+        def actual = (1..200).collect { converter.convert(model, field) }
+
+        then: "Result is equal to the one of interpreted expression"
+        actual.every { it == expected }
+
+        where:
+        compilerMode               | fieldName  | value
+        SpelCompilerMode.IMMEDIATE | "_int"     | -51
+        SpelCompilerMode.IMMEDIATE | "timeUnit" | TimeUnit.HOURS
+        SpelCompilerMode.IMMEDIATE | "strings"  | ['alpha', 'BETA', 'gamma']
+        SpelCompilerMode.IMMEDIATE | "time"     | LocalTime.of(12, 34, 56)
+        SpelCompilerMode.MIXED     | "_int"     | -51
+        SpelCompilerMode.MIXED     | "object"   | null
+        SpelCompilerMode.MIXED     | "strings"  | ['alpha', 'BETA', 'gamma']
+        SpelCompilerMode.MIXED     | "locale"   | Locale.US
+    }
+
+    def "Reads only the fields referenced by expressions once per row"() {
+        given:
+        def model = new TestModel("_int", 3)
+        def analyses = analyze(model.class.declaredFields, ExcelWriteAnalyzer.FIELD_ACCESS)
+        def counts = [:].withDefault { 0 }
+        def accessorFactory = { Field field, Method getter, Method setter ->
+            def accessor = new MethodHandleFieldAccessorFactory().create(field, getter, setter)
+            [getField: { field }, get: { counts[field.name]++; accessor.get(it) }] as FieldAccessor
+        } as FieldAccessorFactory
+
+        when:
+        def converter = new ExcelWriteExpressionConverter(analyses, accessorFactory)
+        def scope = new ExcelWriteRowScope()
+        def actual = ["_int", "_long"].collect { converter.convertNative(model, model.class.getDeclaredField(it), scope) }
+
+        then:
+        actual == ["6", "0"]
+        counts == [_int: 1, _long: 1]
+    }
+
     def "Returns default value"() {
         given:
         def analyses = analyze(model.class.declaredFields, ExcelWriteAnalyzer.FIELD_ACCESS)
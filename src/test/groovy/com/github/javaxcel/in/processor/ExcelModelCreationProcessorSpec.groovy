@@ -74,6 +74,27 @@ class ExcelModelCreationProcessorSpec extends Specification {
         Delta     | [name: "delta", title: "DELTA", point: 3.14D]          || new Delta("delta", "DELTA", 3.14D)
     }
 
+    def "Creates a excel model from values in order of the fields"() {
+        given:
+        def fields = FieldUtils.getTargetedFields(modelType)
+        def executable = AbstractExcelModelExecutableResolver.resolve(modelType)
+        def processor = new ExcelModelCreationProcessor<>(modelType as Class, fields, executable)
+
+        when:
+        def values = fields.collect { mock[it.name] } as Object[]
+        def models = (1..3).collect { processor.createModel(values) }
+
+        then: "Binds the values through the compiled plan as many times as the model is created"
+        models.every { modelType.isInstance(it) && it == processor.createModel(mock) }
+
+        where:
+        modelType | mock
+        Alpha     | [number: 256, name: "alpha", decimal: 2.173]
+        Beta      | [id: 1024L, timeUnit: TimeUnit.DAYS, tags: ["A", "B"]]
+        Gamma     | [uuid: new UUID(0x512, 64), locale: Locale.US]
+        Delta     | [name: "delta", title: "DELTA", point: 3.14D]
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     @EqualsAndHashCode
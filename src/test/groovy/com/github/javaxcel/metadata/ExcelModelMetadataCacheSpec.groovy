@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.metadata
+
+import com.github.javaxcel.Javaxcel
+import com.github.javaxcel.model.product.Product
+import com.github.javaxcel.util.FieldUtils
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+import spock.lang.Specification
+
+class ExcelModelMetadataCacheSpec extends Specification {
+
+    def "Returns the same metadata for the same type"() {
+        given:
+        def cache = new ExcelModelMetadataCache()
+
+        when:
+        def metadata = cache.get(Product)
+
+        then:
+        metadata.is(cache.get(Product))
+        metadata.modelType == Product
+        metadata.fields == FieldUtils.getTargetedFields(Product)
+        metadata.fields.every { it.isAccessible() }
+        cache.hitCount == 1
+        cache.missCount == 1
+    }
+
+    def "Compiles plan once for the same key"() {
+        given:
+        def cache = new ExcelModelMetadataCache()
+        def metadata = cache.get(Product)
+        def count = 0
+
+        when:
+        def plans = (1..3).collect { metadata.getPlan(["key"]) { count++; new Object() } }
+        def other = metadata.getPlan(["other"]) { new Object() }
+
+        then:
+        count == 1
+        plans.every { it.is(plans[0]) }
+        !other.is(plans[0])
+        cache.hitCount == 2
+        cache.missCount == 3
+    }
+
+    def "Replaces plan compiled for the other version of the same key"() {
+        given:
+        def cache = new ExcelModelMetadataCache()
+        def metadata = cache.get(Product)
+
+        when:
+        def old = metadata.getPlan(["key"], 0) { new Object() }
+        def plan = metadata.getPlan(["key"], 1) { new Object() }
+
+        then:
+        !plan.is(old)
+        plan.is(metadata.getPlan(["key"], 1) { new Object() })
+        metadata.plans.size() == 1
+        cache.hitCount == 1
+        cache.missCount == 3
+    }
+
+    def "Shares metadata of model between writers and readers of the same instance"() {
+        given:
+        def javaxcel = Javaxcel.newInstance()
+        def products = [new Product(), new Product()]
+
+        when:
+        2.times {
+            def out = new ByteArrayOutputStream()
+            javaxcel.writer(new XSSFWorkbook(), Product).write(out, products)
+        }
+
+        then: "Resolves metadata and plan of writer once"
+        javaxcel.metadataCache.missCount == 2
+        javaxcel.metadataCache.hitCount == 2
+    }
+
+}
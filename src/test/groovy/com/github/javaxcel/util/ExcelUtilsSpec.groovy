@@ -70,4 +70,48 @@ class ExcelUtilsSpec extends Specification {
         e.message == "The supplied file was empty (zero bytes long)"
     }
 
+    def "Counts rows per sheet without workbook"() {
+        given:
+        def path = tempPath.resolve("${new RandomString().nextString(8)}.$extension")
+        workbook.createSheet().with { sheet -> (0..<3).each { sheet.createRow(it).createCell(0).setCellValue(it) } }
+        workbook.createSheet().with { sheet -> (0..<5).each { sheet.createRow(it) } }
+        workbook.createSheet().with { sheet -> [0, 5, 100].each { sheet.createRow(it).createCell(1).setCellValue("$it") } }
+        workbook.setSheetHidden(1, true)
+        Files.newOutputStream(path).withCloseable { workbook.write(it) }
+
+        when:
+        def numsOfRows = ExcelUtils.getNumOfRowsPerSheet(path.toFile())
+        def numOfModels = ExcelUtils.getNumOfModels(path.toFile())
+
+        then: "The rows are counted like the physical rows of visible sheets"
+        numsOfRows == [3, 3] as int[]
+        numOfModels == 4
+        numOfModels == ExcelUtils.getWorkbook(path.toFile()).withCloseable { ExcelUtils.getNumOfModels(it) }
+
+        where:
+        workbook           | extension
+        new HSSFWorkbook() | EXCEL_97_EXTENSION
+        new XSSFWorkbook() | EXCEL_2007_EXTENSION
+    }
+
+    def "Checks if date/time pattern is compatible with data format of Excel"() {
+        expect:
+        ExcelUtils.isCompatibleDateFormat(pattern) == expected
+
+        where:
+        pattern               | expected
+        "yyyy-MM-dd HH:mm:ss" | true
+        "yyyy/MM/dd"          | true
+        "HH:mm"               | true
+        "mm:ss"               | true
+        "yy.M.d H:m"          | true
+        null                  | false
+        "hh:mm a"             | false
+        "yyyyMMdd'T'HHmmss"   | false
+        "yyyy-mm"             | false
+        "mm/dd/yyyy"          | false
+        "HH:MM"               | false
+        "MM:ss"               | false
+    }
+
 }
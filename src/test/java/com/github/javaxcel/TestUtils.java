@@ -22,6 +22,10 @@ import com.github.javaxcel.util.FieldUtils;
 import io.github.imsejin.common.assertion.Asserts;
 import io.github.imsejin.common.tool.TypeClassifier;
 import io.github.imsejin.common.util.MathUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
@@ -194,4 +198,49 @@ public class TestUtils {
                         .average().orElse(-1));
     }
 
+    /**
+     * Asserts that the sheets have the same type, value and style of each cell.
+     *
+     * @param actual   actual sheet
+     * @param expected expected sheet
+     */
+    public static void assertEqualsSheet(Sheet actual, Sheet expected) {
+        assertThat(actual.getPhysicalNumberOfRows())
+                .as("The number of rows is equal")
+                .isEqualTo(expected.getPhysicalNumberOfRows());
+
+        for (Row expectedRow : expected) {
+            Row actualRow = actual.getRow(expectedRow.getRowNum());
+
+            assertThat(actualRow.getLastCellNum())
+                    .as("The number of cells is equal at row %d", expectedRow.getRowNum())
+                    .isEqualTo(expectedRow.getLastCellNum());
+
+            for (Cell expectedCell : expectedRow) {
+                Cell actualCell = actualRow.getCell(expectedCell.getColumnIndex());
+                String address = expectedCell.getAddress().formatAsString();
+
+                assertThat(actualCell.getCellType())
+                        .as("The type of cell is equal at %s", address)
+                        .isEqualTo(expectedCell.getCellType());
+                assertThat(actualCell.getCellStyle().getIndex())
+                        .as("The style of cell is equal at %s", address)
+                        .isEqualTo(expectedCell.getCellStyle().getIndex());
+                assertThat(actualCell.getCellStyle().getDataFormatString())
+                        .as("The data format of cell is equal at %s", address)
+                        .isEqualTo(expectedCell.getCellStyle().getDataFormatString());
+
+                if (expectedCell.getCellType() == CellType.NUMERIC) {
+                    assertThat(actualCell.getNumericCellValue())
+                            .as("The numeric value of cell is equal at %s", address)
+                            .isEqualTo(expectedCell.getNumericCellValue());
+                } else {
+                    assertThat(actualCell.toString())
+                            .as("The value of cell is equal at %s", address)
+                            .isEqualTo(expectedCell.toString());
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.in.core.ExcelReader;
+import com.github.javaxcel.in.core.ModelReaderTester;
+import com.github.javaxcel.junit.annotation.StopwatchProvider;
+import com.github.javaxcel.model.computer.Computer;
+import com.github.javaxcel.util.ExcelUtils;
+import io.github.imsejin.common.tool.Stopwatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see ExcelReader#read(int, java.util.function.Consumer)
+ */
+@StopwatchProvider
+class BatchReadTest extends ModelReaderTester {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Test
+    void test(@TempDir Path path, Stopwatch stopwatch) throws Exception {
+        Class<Computer> type = Computer.class;
+        String filename = type.getSimpleName().toLowerCase() + '.' + ExcelUtils.EXCEL_2007_EXTENSION;
+        File file = path.resolve(filename).toFile();
+
+        run(file, type, stopwatch, BATCH_SIZE * 5 + 1);
+    }
+
+    @Override
+    protected ThenModel whenReadModels(GivenModel givenModel, WhenModel whenModel) {
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Object> models = new ArrayList<>();
+
+        TestUtils.JAVAXCEL.reader(whenModel.getWorkbook(), givenModel.getType()).read(BATCH_SIZE, batch -> {
+            batchSizes.add(batch.size());
+            models.addAll(batch);
+        });
+
+        assertThat(batchSizes)
+                .as("Each batch has models as many as batch size, except the last one")
+                .containsExactly(BATCH_SIZE, BATCH_SIZE, BATCH_SIZE, BATCH_SIZE, BATCH_SIZE, 1);
+
+        return new ThenModel(models);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void then(GivenModel givenModel, WhenModel whenModel, ThenModel thenModel) throws Exception {
+        List<Computer> computers = (List<Computer>) thenModel.getModels();
+        List<Computer> mocks = whenModel.getMocks();
+
+        assertThat(computers)
+                .as("#1 The number of loaded models is %,d", mocks.size())
+                .hasSameSizeAs(mocks)
+                .as("#2 Each loaded model is equal to each mock")
+                .containsExactlyElementsOf(mocks);
+
+        List<Computer> streamed = new ArrayList<>();
+        TestUtils.JAVAXCEL.streamingReader(givenModel.getFile(), Computer.class).read(BATCH_SIZE, streamed::addAll);
+        assertThat(streamed)
+                .as("#3 Each model read lazily in batches is equal to each mock")
+                .containsExactlyElementsOf(mocks);
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.annotation.ExcelModelCreator;
+import com.github.javaxcel.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry;
+import com.github.javaxcel.in.context.ExcelReadContext;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.in.strategy.impl.ConcurrentSheets;
+import com.github.javaxcel.in.strategy.impl.Limit;
+import com.github.javaxcel.in.strategy.impl.Offset;
+import lombok.Cleanup;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see ConcurrentSheets
+ */
+class ConcurrentSheetsTest {
+
+    private static List<SimpleModel> models;
+
+    private static byte[] bytes;
+
+    @BeforeAll
+    static void beforeAll() {
+        // To create multiple sheets, generates models as many
+        // as the amount exceeds the maximum number of rows per sheet.
+        final int numOfModels = SpreadsheetVersion.EXCEL97.getMaxRows() * 2 + 100;
+        models = IntStream.range(0, numOfModels)
+                .mapToObj(i -> new SimpleModel((long) i, "name-" + i)).collect(toList());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.writer(new HSSFWorkbook(), SimpleModel.class).write(out, models);
+        bytes = out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("When reads sheets concurrently")
+    void read() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            List<SimpleModel> actual = read(new ConcurrentSheets(executor));
+
+            assertThat(actual)
+                    .as("Models are merged in order of the sheets")
+                    .containsExactlyElementsOf(models);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("When reads sheets concurrently with limit")
+    void readWithLimit() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        int limit = SpreadsheetVersion.EXCEL97.getMaxRows() + 10;
+
+        try {
+            List<SimpleModel> actual = read(new ConcurrentSheets(executor), new Limit(limit));
+
+            assertThat(actual)
+                    .as("Models are the first ones of the sheets as many as the limit")
+                    .containsExactlyElementsOf(models.subList(0, limit));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("When reads sheets concurrently with offset and limit")
+    void readWithOffsetAndLimit() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        int offset = SpreadsheetVersion.EXCEL97.getMaxRows() - 10;
+        int limit = SpreadsheetVersion.EXCEL97.getMaxRows() + 20;
+
+        try {
+            List<SimpleModel> actual = read(new ConcurrentSheets(executor), new Offset(offset), new Limit(limit));
+
+            assertThat(actual)
+                    .as("Models are the same as the ones read sequentially")
+                    .containsExactlyElementsOf(models.subList(offset, offset + limit));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("When lifecycle methods are invoked while reading sheets concurrently")
+    void invokeLifecycleOnCallingThread() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        try {
+            @Cleanup Workbook workbook = new HSSFWorkbook(new ByteArrayInputStream(bytes));
+            new ModelReader<SimpleModel>(workbook, SimpleModel.class, new DefaultExcelTypeHandlerRegistry()) {
+                @Override
+                public void preReadSheet(ExcelReadContext<SimpleModel> context) {
+                    threads.add(Thread.currentThread());
+                }
+
+                @Override
+                public void postReadSheet(ExcelReadContext<SimpleModel> context) {
+                    threads.add(Thread.currentThread());
+                }
+            }.options(new ConcurrentSheets(executor)).read();
+
+            assertThat(threads)
+                    .as("Lifecycle methods are invoked on the calling thread")
+                    .containsExactly(Thread.currentThread());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static List<SimpleModel> read(ExcelReadStrategy... strategies) throws IOException {
+        @Cleanup Workbook workbook = new HSSFWorkbook(new ByteArrayInputStream(bytes));
+        return TestUtils.JAVAXCEL.reader(workbook, SimpleModel.class)
+                .options(strategies)
+                .read();
+    }
+
+    @ToString
+    @EqualsAndHashCode
+    private static class SimpleModel {
+        private final Long id;
+        private final String name;
+
+        @ExcelModelCreator
+        SimpleModel(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+}
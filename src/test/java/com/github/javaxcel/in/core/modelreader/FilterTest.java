@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.in.strategy.impl.Filter;
+import com.github.javaxcel.in.strategy.impl.Limit;
+import com.github.javaxcel.in.strategy.impl.TypedCells;
+import lombok.Cleanup;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see Filter
+ */
+class FilterTest {
+
+    @Test
+    @DisplayName("When reads only the rows whose column matches the predicate")
+    void filterByColumn() throws IOException {
+        @Cleanup Workbook workbook = createWorkbook(100);
+
+        List<Order> orders = TestUtils.JAVAXCEL.reader(workbook, Order.class)
+                .options(new Filter("status", "PAID"::equals))
+                .read();
+
+        assertThat(orders).hasSize(25).allMatch(it -> it.status.equals("PAID"));
+        assertThat(orders.get(0).amount).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("When the column of native value is tested as string")
+    void filterByNativeColumn() throws IOException {
+        @Cleanup Workbook workbook = createWorkbook(100);
+
+        List<Order> orders = TestUtils.JAVAXCEL.reader(workbook, Order.class)
+                .options(new Filter("amount", it -> Integer.parseInt(it) >= 90), new TypedCells())
+                .read();
+
+        assertThat(orders).hasSize(10).allMatch(it -> it.amount >= 90);
+    }
+
+    @Test
+    @DisplayName("When the column of native value is tested as string on buffer of row")
+    void filterByRowWithNativeColumn() throws IOException {
+        @Cleanup Workbook workbook = createWorkbook(100);
+
+        List<Order> orders = TestUtils.JAVAXCEL.reader(workbook, Order.class)
+                .options(new Filter(row -> Integer.parseInt(row.get(0)) >= 90), new TypedCells())
+                .read();
+
+        assertThat(orders).hasSize(10).allMatch(it -> it.amount >= 90);
+    }
+
+    @Test
+    @DisplayName("When limits the number of rows accepted by the predicate on buffer of row")
+    void filterByRowWithLimit() throws IOException {
+        @Cleanup Workbook workbook = createWorkbook(100);
+
+        List<Map<String, String>> maps = TestUtils.JAVAXCEL.reader(workbook)
+                .options(new Filter(row -> "NEW".equals(row.get(1))), new Limit(10))
+                .read();
+
+        assertThat(maps).hasSize(10).allMatch(it -> it.get("status").equals("NEW"));
+        assertThat(maps.get(9)).containsEntry("amount", "36");
+    }
+
+    @Test
+    @DisplayName("When reads lazily only the rows whose column matches the predicate")
+    void filterWithStreamingReader() throws IOException {
+        @Cleanup Workbook workbook = createWorkbook(100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        workbook.write(out);
+
+        List<Order> orders = TestUtils.JAVAXCEL.streamingReader(new ByteArrayInputStream(out.toByteArray()), Order.class)
+                .options(new Filter("status", "PAID"::equals))
+                .read();
+
+        assertThat(orders).hasSize(25).allMatch(it -> it.status.equals("PAID"));
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static Workbook createWorkbook(int numOfRows) {
+        String[] statuses = {"NEW", "CANCELED", "SHIPPED", "PAID"};
+
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("amount");
+        header.createCell(1).setCellValue("status");
+
+        for (int i = 0; i < numOfRows; i++) {
+            Row row = sheet.createRow(i + 1);
+            row.createCell(0).setCellValue(i);
+            row.createCell(1).setCellValue(statuses[i % statuses.length]);
+        }
+
+        return workbook;
+    }
+
+    @NoArgsConstructor
+    private static class Order {
+        private int amount;
+        private String status;
+    }
+
+}
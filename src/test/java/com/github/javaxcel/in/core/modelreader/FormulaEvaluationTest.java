@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.in.strategy.impl.FormulaEvaluation;
+import com.github.javaxcel.in.strategy.impl.FormulaEvaluation.Policy;
+import lombok.Cleanup;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see FormulaEvaluation
+ */
+class FormulaEvaluationTest {
+
+    @ParameterizedTest
+    @CsvSource({"NONE, A2*2", "CACHED, 2", "EVALUATE, 10"})
+    @DisplayName("When reads the cell that has a formula with the policy")
+    void test(Policy policy, String expected) throws IOException {
+        @Cleanup Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("number");
+        header.createCell(1).setCellValue("doubled");
+
+        Row row = sheet.createRow(1);
+        row.createCell(0).setCellValue(1);
+        row.createCell(1).setCellFormula("A2*2");
+
+        // Stores the result of formula, and then makes it stale.
+        workbook.getCreationHelper().createFormulaEvaluator().evaluateFormulaCell(row.getCell(1));
+        row.getCell(0).setCellValue(5);
+
+        List<FormulaModel> models = TestUtils.JAVAXCEL.reader(workbook, FormulaModel.class)
+                .options(new FormulaEvaluation(policy))
+                .read();
+
+        assertThat(models).hasSize(1);
+        assertThat(models.get(0).number).isEqualTo(5);
+        assertThat(models.get(0).doubled).isEqualTo(expected);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @NoArgsConstructor
+    private static class FormulaModel {
+        private Integer number;
+        private String doubled;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.annotation.ExcelModelCreator;
+import com.github.javaxcel.annotation.ExcelModelCreator.FieldName;
+import com.github.javaxcel.in.processor.ExcelModelCreationProcessor;
+import lombok.Cleanup;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @see ExcelModelCreationProcessor#createModel(Object[])
+ */
+class ModelCreatorTest {
+
+    @Test
+    @DisplayName("When creates models through constructor with primitive parameters")
+    void createByConstructor() throws IOException {
+        List<Account> accounts = IntStream.range(0, 100)
+                .mapToObj(i -> new Account(i, i * 0.5, i % 2 == 0, "owner-" + i)).collect(toList());
+
+        @Cleanup Workbook workbook = write(Account.class, accounts);
+        List<Account> actual = TestUtils.JAVAXCEL.reader(workbook, Account.class).read();
+
+        assertThat(actual)
+                .as("Values are unboxed into the primitive parameters of constructor")
+                .containsExactlyElementsOf(accounts);
+    }
+
+    @Test
+    @DisplayName("When creates models through static factory method")
+    void createByFactoryMethod() throws IOException {
+        List<Point> points = IntStream.range(0, 100)
+                .mapToObj(i -> Point.of(i, -i)).peek(it -> it.label = "point-" + it.x).collect(toList());
+
+        @Cleanup Workbook workbook = write(Point.class, points);
+        List<Point> actual = TestUtils.JAVAXCEL.reader(workbook, Point.class).read();
+
+        assertThat(actual)
+                .as("Field that is not a parameter of factory method is assigned after creation")
+                .containsExactlyElementsOf(points);
+    }
+
+    @Test
+    @DisplayName("When creator of model throws exception")
+    void throwFromCreator() throws IOException {
+        @Cleanup Workbook workbook = write(Account.class, IntStream.range(0, 3)
+                .mapToObj(i -> new Account(i, i, true, "owner-" + i)).collect(toList()));
+
+        assertThatThrownBy(() -> TestUtils.JAVAXCEL.reader(workbook, UncheckedFailure.class).read())
+                .as("#1 Unchecked exception is thrown as it is")
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid account: 0");
+        assertThatThrownBy(() -> TestUtils.JAVAXCEL.reader(workbook, CheckedFailure.class).read())
+                .as("#2 Checked exception is wrapped")
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasCauseExactlyInstanceOf(IOException.class);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static <T> Workbook write(Class<T> type, List<T> models) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.writer(new XSSFWorkbook(), type).write(out, models);
+
+        return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @ToString
+    @EqualsAndHashCode
+    private static class Account {
+        private final int id;
+        private final double balance;
+        private final boolean active;
+        private final String owner;
+
+        @ExcelModelCreator
+        Account(int id, double balance, boolean active, @FieldName("owner") String name) {
+            this.id = id;
+            this.balance = balance;
+            this.active = active;
+            this.owner = name;
+        }
+    }
+
+    @ToString
+    @EqualsAndHashCode
+    private static class Point {
+        private final long x;
+        private final long y;
+        private String label;
+
+        private Point(long x, long y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @ExcelModelCreator
+        public static Point of(long x, long y) {
+            return new Point(x, y);
+        }
+    }
+
+    private static class UncheckedFailure {
+        private final int id;
+
+        @ExcelModelCreator
+        UncheckedFailure(int id) {
+            throw new IllegalArgumentException("Invalid account: " + id);
+        }
+    }
+
+    private static class CheckedFailure {
+        private final int id;
+
+        @ExcelModelCreator
+        CheckedFailure(int id) throws IOException {
+            throw new IOException("Cannot create account: " + id);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.annotation.ExcelDateTimeFormat;
+import com.github.javaxcel.annotation.ExcelReadExpression;
+import com.github.javaxcel.in.strategy.impl.TypedCells;
+import lombok.Cleanup;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see TypedCells
+ * @see com.github.javaxcel.converter.handler.ExcelNativeTypeHandler#readNative(Object, Object...)
+ */
+class NativeCellsTest {
+
+    @Test
+    @DisplayName("When reads native value of cell without formatting")
+    void test() throws IOException {
+        LocalDateTime dateTime = LocalDateTime.of(2022, 12, 25, 18, 30, 15);
+
+        @Cleanup Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+        Row header = sheet.createRow(0);
+        for (String name : new String[]{"integer", "decimal", "bigDecimal", "bool", "date", "dateTime", "text", "integerText"}) {
+            header.createCell(header.getPhysicalNumberOfCells()).setCellValue(name);
+        }
+
+        // The format of date cell is different from the pattern of field.
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+
+        Row row = sheet.createRow(1);
+        row.createCell(0).setCellValue(1024);
+        row.createCell(1).setCellValue(0.1 + 0.2);
+        row.createCell(2).setCellValue(1.0E7);
+        row.createCell(3).setCellValue(true);
+        row.createCell(4).setCellValue(dateTime);
+        row.getCell(4).setCellStyle(dateStyle);
+        row.createCell(5).setCellValue(dateTime);
+        row.getCell(5).setCellStyle(dateStyle);
+        row.createCell(6).setCellValue(3.5);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        workbook.write(out);
+
+        @Cleanup Workbook saved = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+        List<NativeModel> models = TestUtils.JAVAXCEL.reader(saved, NativeModel.class)
+                .options(new TypedCells())
+                .read();
+
+        assertThat(models).hasSize(1);
+        NativeModel model = models.get(0);
+        assertThat(model.integer).isEqualTo(1024);
+        assertThat(model.decimal)
+                .as("Number is not rounded by DataFormatter")
+                .isEqualTo(0.1 + 0.2);
+        assertThat(model.bigDecimal).isEqualTo(new BigDecimal("10000000"));
+        assertThat(model.bool).isTrue();
+        assertThat(model.date)
+                .as("Date is read regardless of the pattern of field")
+                .isEqualTo(dateTime.toLocalDate());
+        assertThat(model.dateTime).isEqualTo(dateTime);
+        assertThat(model.text)
+                .as("Type that cannot read native value still reads the formatted string")
+                .isEqualTo("3.5");
+        assertThat(model.integerText)
+                .as("Column referenced by expression is read as string")
+                .isEqualTo("1024!");
+    }
+
+    @Test
+    @DisplayName("When reads formatted value of cell without strategy")
+    void readFormatted() throws IOException {
+        @Cleanup Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("integer");
+        header.createCell(1).setCellValue("decimal");
+
+        // The number is displayed with two decimal places.
+        CellStyle decimalStyle = workbook.createCellStyle();
+        decimalStyle.setDataFormat(workbook.createDataFormat().getFormat("0.00"));
+
+        Row row = sheet.createRow(1);
+        row.createCell(0).setCellValue(1024);
+        row.createCell(1).setCellValue(0.1 + 0.2);
+        row.getCell(1).setCellStyle(decimalStyle);
+
+        List<NativeModel> models = TestUtils.JAVAXCEL.reader(workbook, NativeModel.class).read();
+
+        assertThat(models).hasSize(1);
+        NativeModel model = models.get(0);
+        assertThat(model.integer).isEqualTo(1024);
+        assertThat(model.decimal)
+                .as("Number is read as displayed by DataFormatter")
+                .isEqualTo(0.3);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @NoArgsConstructor
+    private static class NativeModel {
+        private Integer integer;
+        private double decimal;
+        private BigDecimal bigDecimal;
+        private Boolean bool;
+        @ExcelDateTimeFormat(pattern = "yyyy/MM/dd")
+        private LocalDate date;
+        private LocalDateTime dateTime;
+        private String text;
+        @ExcelReadExpression("#integer + '!'")
+        private String integerText;
+    }
+
+}
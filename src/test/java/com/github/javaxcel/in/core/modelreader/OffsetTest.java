@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.in.strategy.impl.Limit;
+import com.github.javaxcel.in.strategy.impl.Offset;
+import com.github.javaxcel.model.creature.Human;
+import lombok.Cleanup;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see Offset
+ */
+class OffsetTest {
+
+    @Test
+    @DisplayName("When reads a range of rows with workbook and without workbook")
+    void readRange() throws IOException {
+        List<Human> people = Human.newRandomList(1000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.writer(new XSSFWorkbook(), Human.class).write(out, people);
+        byte[] bytes = out.toByteArray();
+
+        @Cleanup Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes));
+        List<Human> actual = TestUtils.JAVAXCEL.reader(workbook, Human.class)
+                .options(new Offset(900), new Limit(50))
+                .read();
+
+        assertThat(actual)
+                .as("#1 The models are read from the offset as many as the limit")
+                .containsExactlyElementsOf(people.subList(900, 950));
+
+        List<Human> streamed = TestUtils.JAVAXCEL.streamingReader(new ByteArrayInputStream(bytes), Human.class)
+                .options(new Offset(900), new Limit(50))
+                .read();
+
+        assertThat(streamed)
+                .as("#2 The models are read lazily from the offset as many as the limit")
+                .containsExactlyElementsOf(actual);
+    }
+
+    @Test
+    @DisplayName("When the offset is over the first sheet")
+    void readFromNextSheet() throws IOException {
+        @Cleanup Workbook workbook = new XSSFWorkbook();
+        for (int i = 0; i < 2; i++) {
+            Sheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("number");
+
+            for (int j = 1; j <= 10; j++) {
+                Row row = sheet.createRow(j);
+                row.createCell(0).setCellValue(String.valueOf(i * 10 + j - 1));
+            }
+        }
+
+        List<Map<String, String>> maps = TestUtils.JAVAXCEL.reader(workbook)
+                .options(new Offset(12), new Limit(5))
+                .read();
+
+        assertThat(maps.stream().map(it -> it.get("number")).collect(toList()))
+                .as("The rows of the first sheet are skipped as a whole")
+                .containsExactly("12", "13", "14", "15", "16");
+    }
+
+    @Test
+    @DisplayName("When the offset is over all the rows")
+    void readNothing() throws IOException {
+        List<Human> people = Human.newRandomList(10);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.writer(new XSSFWorkbook(), Human.class).write(out, people);
+
+        @Cleanup Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+        List<Human> actual = TestUtils.JAVAXCEL.reader(workbook, Human.class)
+                .options(new Offset(10))
+                .read();
+
+        assertThat(actual).isEmpty();
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.in.strategy.impl.Parallel;
+import com.github.javaxcel.model.creature.Human;
+import lombok.Cleanup;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see Parallel
+ */
+class ParallelTest {
+
+    @Test
+    @DisplayName("When converts rows in order on the given executor")
+    void readInOrder() throws IOException {
+        List<Human> people = Human.newRandomList(10_000);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            List<Human> actual = read(people, new Parallel(executor, 3, 16, true));
+
+            assertThat(actual)
+                    .as("Each loaded model is equal to each mock in order")
+                    .containsExactlyElementsOf(people);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("When converts rows in order of completion with the queue smaller than the number of workers")
+    void readInOrderOfCompletion() throws IOException {
+        List<Human> people = Human.newRandomList(10_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Human> actual = read(people, new Parallel(executor, 4, 1, false));
+
+            assertThat(actual)
+                    .as("Each loaded model is equal to each mock regardless of order")
+                    .containsExactlyInAnyOrderElementsOf(people);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("When the executor runs the workers on the parsing thread")
+    void readOnDirectExecutor() throws IOException {
+        List<Human> people = Human.newRandomList(1_000);
+        List<Human> actual = read(people, new Parallel(Runnable::run, 2, 16, true));
+
+        assertThat(actual)
+                .as("Each loaded model is equal to each mock in order")
+                .containsExactlyElementsOf(people);
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("When the executor runs some of the workers on the parsing thread by caller-runs policy")
+    void readOnCallerRunsPolicy() throws IOException {
+        List<Human> people = Human.newRandomList(1_000);
+        ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        try {
+            List<Human> actual = read(people, new Parallel(executor, 3, 16, true));
+
+            assertThat(actual)
+                    .as("Each loaded model is equal to each mock in order")
+                    .containsExactlyElementsOf(people);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static List<Human> read(List<Human> people, ExcelReadStrategy... strategies) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.writer(new XSSFWorkbook(), Human.class).write(out, people);
+
+        @Cleanup Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+        return TestUtils.JAVAXCEL.reader(workbook, Human.class)
+                .options(strategies)
+                .read();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.annotation.ExcelReadExpression;
+import com.github.javaxcel.in.strategy.impl.Projection;
+import lombok.Cleanup;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see Projection
+ */
+class ProjectionTest {
+
+    @Test
+    @DisplayName("When reads only the projected columns into maps")
+    void readMaps() throws IOException {
+        @Cleanup Workbook workbook = createWorkbook(100);
+
+        List<Map<String, String>> maps = TestUtils.JAVAXCEL.reader(workbook)
+                .options(new Projection(Arrays.asList("name", "age", "unknown")))
+                .read();
+
+        assertThat(maps).hasSize(100).allSatisfy(map -> assertThat(map).containsOnlyKeys("name", "age"));
+        assertThat(maps.get(0)).containsEntry("name", "name-0").containsEntry("age", "20");
+    }
+
+    @Test
+    @DisplayName("When reads only the projected columns into models")
+    void readModels() throws IOException {
+        @Cleanup Workbook workbook = createWorkbook(100);
+
+        List<Person> people = TestUtils.JAVAXCEL.reader(workbook, Person.class)
+                .options(new Projection(Arrays.asList("name", "age")))
+                .read();
+
+        assertThat(people).hasSize(100);
+        for (int i = 0; i < people.size(); i++) {
+            Person person = people.get(i);
+            assertThat(person.id).as("Field of the skipped column has initial value").isNull();
+            assertThat(person.name).isEqualTo("name-" + i);
+            assertThat(person.age).isEqualTo(20 + i % 50);
+            assertThat(person.score).as("Field of the skipped column has initial value").isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("When reads the columns that the expression of projected field refers to")
+    void readColumnsReferredByExpression() throws IOException {
+        @Cleanup Workbook workbook = createWorkbook(100);
+        Projection projection = new Projection(Collections.singletonList("description"));
+
+        List<Summary> summaries = TestUtils.JAVAXCEL.reader(workbook, Summary.class)
+                .options(projection)
+                .read();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        workbook.write(out);
+        List<Summary> streamed = TestUtils.JAVAXCEL.streamingReader(new ByteArrayInputStream(out.toByteArray()), Summary.class)
+                .options(projection)
+                .read();
+
+        for (List<Summary> actual : Arrays.asList(summaries, streamed)) {
+            assertThat(actual).hasSize(100);
+            for (int i = 0; i < actual.size(); i++) {
+                Summary summary = actual.get(i);
+                assertThat(summary.id).as("Field of the skipped column has initial value").isNull();
+                assertThat(summary.name).as("Field of the referred column is read").isEqualTo("name-" + i);
+                assertThat(summary.age).as("Field of the referred column is read").isEqualTo(20 + i % 50);
+                assertThat(summary.description).isEqualTo("name-" + i + " (" + (20 + i % 50) + ")");
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static Workbook createWorkbook(int numOfRows) {
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+
+        Row header = sheet.createRow(0);
+        List<String> headerNames = Arrays.asList("id", "name", "age", "score");
+        for (int i = 0; i < headerNames.size(); i++) {
+            header.createCell(i).setCellValue(headerNames.get(i));
+        }
+
+        for (int i = 0; i < numOfRows; i++) {
+            Row row = sheet.createRow(i + 1);
+            row.createCell(0).setCellValue(String.valueOf(i));
+            row.createCell(1).setCellValue("name-" + i);
+            row.createCell(2).setCellValue(String.valueOf(20 + i % 50));
+            row.createCell(3).setCellValue(String.valueOf(i * 1.5));
+        }
+
+        return workbook;
+    }
+
+    @NoArgsConstructor
+    private static class Person {
+        private Long id;
+        private String name;
+        private int age;
+        private double score;
+    }
+
+    @NoArgsConstructor
+    private static class Summary {
+        private Long id;
+        private String name;
+        private int age;
+        @ExcelReadExpression("#name + ' (' + #age + ')'")
+        private String description;
+    }
+
+}
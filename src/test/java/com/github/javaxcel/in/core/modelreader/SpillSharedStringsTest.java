@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.in.strategy.impl.SpillSharedStrings;
+import com.github.javaxcel.model.creature.Human;
+import lombok.Cleanup;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see SpillSharedStrings
+ */
+class SpillSharedStringsTest {
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Mapped file cannot be deleted until it is garbage-collected")
+    @DisplayName("When reads the shared strings spilled to temporary file")
+    void read(@TempDir Path directory) throws IOException {
+        List<Human> people = Human.newRandomList(1000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.writer(new XSSFWorkbook(), Human.class).write(out, people);
+        byte[] bytes = out.toByteArray();
+
+        List<Human> expected = TestUtils.JAVAXCEL.streamingReader(new ByteArrayInputStream(bytes), Human.class).read();
+        List<Human> actual = TestUtils.JAVAXCEL.streamingReader(new ByteArrayInputStream(bytes), Human.class)
+                .options(new SpillSharedStrings(0, directory))
+                .read();
+
+        assertThat(actual)
+                .as("#1 The models are the same as the ones read with the strings on heap")
+                .containsExactlyElementsOf(expected);
+
+        @Cleanup Stream<Path> files = Files.list(directory);
+        assertThat(files)
+                .as("#2 The temporary file is deleted after all the models are read")
+                .isEmpty();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.in.core.modelreader;
+
+import com.github.javaxcel.Javaxcel;
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.model.creature.Human;
+import lombok.Cleanup;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see Javaxcel#streamingReader(Path, Class)
+ * @see Javaxcel#streamingReader(java.nio.channels.SeekableByteChannel, Class)
+ * @see Javaxcel#streamingReader(java.nio.ByteBuffer, Class)
+ */
+class StreamingSourceTest {
+
+    @Test
+    @DisplayName("When reads xlsx file from path, channel and buffer")
+    void read(@TempDir Path directory) throws IOException {
+        List<Human> people = Human.newRandomList(100);
+        Path path = directory.resolve("people.xlsx");
+
+        try (OutputStream out = Files.newOutputStream(path)) {
+            TestUtils.JAVAXCEL.writer(new XSSFWorkbook(), Human.class).write(out, people);
+        }
+
+        List<Human> expected = TestUtils.JAVAXCEL.streamingReader(path.toFile(), Human.class).read();
+        Set<Path> before = getTemporaryCopies();
+
+        assertThat(TestUtils.JAVAXCEL.streamingReader(path, Human.class).read())
+                .as("#1 The models are read from path")
+                .containsExactlyElementsOf(expected);
+
+        @Cleanup FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        assertThat(TestUtils.JAVAXCEL.streamingReader(channel, Human.class).read())
+                .as("#2 The models are read from channel")
+                .containsExactlyElementsOf(expected);
+        assertThat(channel.isOpen())
+                .as("#3 The channel is not closed by the reader")
+                .isTrue();
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        assertThat(TestUtils.JAVAXCEL.streamingReader(buffer, Human.class).read())
+                .as("#4 The models are read from buffer")
+                .containsExactlyElementsOf(expected);
+        assertThat(buffer.position())
+                .as("#5 The position of buffer is not changed")
+                .isZero();
+
+        // Puts the file into zip file system, which is not the default one.
+        URI uri = URI.create("jar:" + directory.resolve("people.zip").toUri());
+        @Cleanup FileSystem zipFileSystem = FileSystems.newFileSystem(uri, Collections.singletonMap("create", "true"));
+        Path zipped = Files.copy(path, zipFileSystem.getPath("people.xlsx"));
+        assertThat(TestUtils.JAVAXCEL.streamingReader(zipped, Human.class).read())
+                .as("#6 The models are read from path on the other file system")
+                .containsExactlyElementsOf(expected);
+
+        assertThat(getTemporaryCopies())
+                .as("#7 The temporary copies of xlsx file are deleted when the readers are closed")
+                .isEqualTo(before);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static Set<Path> getTemporaryCopies() throws IOException {
+        Set<Path> paths = new HashSet<>();
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(tempDir, "javaxcel-xlsx-*.xlsx")) {
+            stream.forEach(paths::add);
+        }
+
+        return paths;
+    }
+
+}
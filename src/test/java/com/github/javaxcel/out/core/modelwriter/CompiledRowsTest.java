@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.core.modelwriter;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.model.creature.Human;
+import com.github.javaxcel.model.product.Product;
+import com.github.javaxcel.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.out.strategy.impl.CompiledRows;
+import com.github.javaxcel.out.strategy.impl.TypedCells;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static com.github.javaxcel.TestUtils.assertEqualsSheet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Proves that the compiled plan of rows has parity with the plan that dispatches each cell.
+ *
+ * @see CompiledRows
+ * @see com.github.javaxcel.in.strategy.impl.CompiledRows
+ */
+class CompiledRowsTest {
+
+    @Test
+    @DisplayName("When writes models with expressions and styles")
+    void writeWithExpressionsAndStyles() {
+        List<Human> people = Human.newRandomList(512);
+
+        Workbook expected = write(Human.class, people);
+        Workbook actual = write(Human.class, people, new CompiledRows());
+
+        assertEqualsSheet(actual.getSheetAt(0), expected.getSheetAt(0));
+    }
+
+    @Test
+    @DisplayName("When writes models with native value of cell")
+    void writeWithTypedCells() {
+        List<Product> products = TestUtils.getMocks(Product.class, 512);
+
+        Workbook expected = write(Product.class, products, new TypedCells());
+        Workbook actual = write(Product.class, products, new TypedCells(), new CompiledRows());
+
+        assertEqualsSheet(actual.getSheetAt(0), expected.getSheetAt(0));
+    }
+
+    @Test
+    @DisplayName("When reads models with expressions")
+    void read() {
+        List<Human> people = Human.newRandomList(512);
+        Workbook workbook = write(Human.class, people);
+
+        List<Human> expected = read(workbook, Human.class);
+        List<Human> actual = read(workbook, Human.class, new com.github.javaxcel.in.strategy.impl.CompiledRows());
+
+        assertThat(actual)
+                .as("Models read through the compiled plan are equal to the ones read through dispatch")
+                .isEqualTo(expected);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static <T> Workbook write(Class<T> type, List<T> models, ExcelWriteStrategy... strategies) {
+        Workbook workbook = new XSSFWorkbook();
+        TestUtils.JAVAXCEL.writer(workbook, type)
+                .options(strategies)
+                .write(new ByteArrayOutputStream(), models);
+
+        return workbook;
+    }
+
+    private static <T> List<T> read(Workbook workbook, Class<T> type, ExcelReadStrategy... strategies) {
+        return TestUtils.JAVAXCEL.reader(workbook, type)
+                .options(strategies)
+                .read();
+    }
+
+}
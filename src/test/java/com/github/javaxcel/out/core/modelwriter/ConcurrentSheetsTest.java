@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.javaxcel.out.core.modelwriter;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.out.strategy.impl.ConcurrentSheets;
+import com.github.javaxcel.out.strategy.impl.SheetName;
+import lombok.AllArgsConstructor;
+import lombok.Cleanup;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.util.IOUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see ConcurrentSheets
+ */
+class ConcurrentSheetsTest {
+
+    @Test
+    @DisplayName("When writes sheets concurrently")
+    void write(@TempDir Path path) throws IOException {
+        // To create multiple sheets, generates models as many
+        // as the amount exceeds the maximum number of rows per sheet.
+        final int numOfModels = (int) (SpreadsheetVersion.EXCEL2007.getMaxRows() * 2.1);
+        List<SimpleModel> models = IntStream.range(0, numOfModels)
+                .mapToObj(i -> new SimpleModel((long) i, "name-" + i)).collect(toList());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            File expected = write(path.resolve("expected.xlsx").toFile(), models, new SheetName("Models"));
+            File actual = write(path.resolve("actual.xlsx").toFile(), models,
+                    new SheetName("Models"), new ConcurrentSheets(executor));
+
+            @Cleanup ZipFile expectedZip = new ZipFile(expected);
+            @Cleanup ZipFile actualZip = new ZipFile(actual);
+            List<String> entryNames = Collections.list(expectedZip.entries()).stream()
+                    .map(ZipEntry::getName).collect(toList());
+
+            assertThat(Collections.list(actualZip.entries()).stream().map(ZipEntry::getName))
+                    .as("#1 Each part is written in order of the sheets")
+                    .containsExactlyElementsOf(entryNames)
+                    .filteredOn(name -> name.startsWith("xl/worksheets/"))
+                    .hasSize(3);
+            for (String entryName : entryNames) {
+                assertThat(readAllBytes(actualZip, entryName))
+                        .as("#2 Part '%s' is equal to the part written sequentially", entryName)
+                        .isEqualTo(readAllBytes(expectedZip, entryName));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static File write(File file, List<SimpleModel> models, ExcelWriteStrategy... strategies) throws IOException {
+        try (OutputStream out = new FileOutputStream(file)) {
+            TestUtils.JAVAXCEL.directWriter(SimpleModel.class)
+                    .options(strategies)
+                    .write(out, models);
+        }
+
+        return file;
+    }
+
+    private static byte[] readAllBytes(ZipFile zipFile, String entryName) throws IOException {
+        try (InputStream in = zipFile.getInputStream(zipFile.getEntry(entryName))) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class SimpleModel {
+        private Long id;
+        private String name;
+    }
+
+}
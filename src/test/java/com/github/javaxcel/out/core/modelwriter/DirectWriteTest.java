@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.core.modelwriter;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.model.creature.Human;
+import com.github.javaxcel.model.product.Product;
+import com.github.javaxcel.out.core.impl.DirectModelWriter;
+import com.github.javaxcel.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.out.strategy.impl.Filter;
+import com.github.javaxcel.out.strategy.impl.SheetName;
+import com.github.javaxcel.out.strategy.impl.TypedCells;
+import lombok.AllArgsConstructor;
+import lombok.Cleanup;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.github.javaxcel.TestUtils.assertEqualsSheet;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @see DirectModelWriter
+ */
+class DirectWriteTest {
+
+    @Test
+    @DisplayName("When writes models with expressions and styles")
+    void writeWithExpressionsAndStyles() throws IOException {
+        List<Human> people = Human.newRandomList(512);
+
+        @Cleanup Workbook expected = writeWithWorkbook(Human.class, people);
+        @Cleanup Workbook actual = writeDirectly(Human.class, people);
+
+        assertEqualsSheet(actual.getSheetAt(0), expected.getSheetAt(0));
+        assertThat(TestUtils.JAVAXCEL.reader(actual, Human.class).read())
+                .as("Models read from the file written directly are equal to the ones from the file written by ModelWriter")
+                .isEqualTo(TestUtils.JAVAXCEL.reader(expected, Human.class).read());
+    }
+
+    @Test
+    @DisplayName("When writes models with native value of cell and filter")
+    void writeWithTypedCellsAndFilter() throws IOException {
+        List<Product> products = TestUtils.getMocks(Product.class, 512);
+        ExcelWriteStrategy[] strategies = {new TypedCells(), new Filter(true), new SheetName("Products&<Items>")};
+
+        @Cleanup Workbook expected = writeWithWorkbook(Product.class, products, strategies);
+        @Cleanup Workbook actual = writeDirectly(Product.class, products, strategies);
+
+        XSSFSheet sheet = (XSSFSheet) actual.getSheetAt(0);
+        assertThat(sheet.getSheetName())
+                .as("#1 Sheet name is escaped")
+                .isEqualTo("Products&<Items>");
+        assertThat(sheet.getCTWorksheet().isSetAutoFilter())
+                .as("#2 Sheet has filter")
+                .isTrue();
+        assertThat(sheet.getPaneInformation().isFreezePane())
+                .as("#3 Header is frozen")
+                .isTrue();
+        assertEqualsSheet(sheet, expected.getSheetAt(0));
+    }
+
+    @Test
+    @DisplayName("When converter fails while writing the body of sheet")
+    void deleteSheetPartsOnFailure() throws IOException {
+        List<Failing> models = IntStream.range(0, 10).mapToObj(i -> new Failing(i, new Value(i == 5)))
+                .collect(toList());
+        Set<Path> before = getSheetParts();
+
+        assertThatThrownBy(() -> TestUtils.JAVAXCEL.directWriter(Failing.class).write(new ByteArrayOutputStream(), models))
+                .as("#1 Exception from converter is thrown as it is")
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TestUtils.JAVAXCEL.directWriter(Failing.class).write(new ByteArrayOutputStream(), models.iterator()))
+                .as("#2 Exception from converter is thrown as it is, when writes lazily")
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(getSheetParts())
+                .as("#3 Temporary files of sheets are deleted")
+                .isEqualTo(before);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static Set<Path> getSheetParts() throws IOException {
+        Set<Path> paths = new HashSet<>();
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(tempDir, "javaxcel-sheet*.xml")) {
+            stream.forEach(paths::add);
+        }
+
+        return paths;
+    }
+
+    private static <T> Workbook writeWithWorkbook(Class<T> type, List<T> models, ExcelWriteStrategy... strategies)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.writer(new XSSFWorkbook(), type)
+                .options(strategies)
+                .write(out, models);
+
+        return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static <T> Workbook writeDirectly(Class<T> type, List<T> models, ExcelWriteStrategy... strategies)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.directWriter(type)
+                .options(strategies)
+                .write(out, models);
+
+        return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @AllArgsConstructor
+    private static class Failing {
+        private final int id;
+        private final Value value;
+    }
+
+    @AllArgsConstructor
+    private static class Value {
+        private final boolean failing;
+
+        @Override
+        public String toString() {
+            if (this.failing) throw new IllegalStateException("Cannot convert value");
+            return "value";
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.core.modelwriter;
+
+import com.github.javaxcel.annotation.ExcelModelCreator;
+import com.github.javaxcel.converter.handler.AbstractExcelTypeHandler;
+import com.github.javaxcel.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry;
+import com.github.javaxcel.in.core.impl.ModelReader;
+import com.github.javaxcel.metadata.ExcelModelMetadataCache;
+import com.github.javaxcel.out.core.impl.ModelWriter;
+import lombok.Cleanup;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see ExcelTypeHandlerRegistry#getVersion()
+ */
+class HandlerRegistryTest {
+
+    private static final List<Answer> ANSWERS = Arrays.asList(new Answer(true), new Answer(false));
+
+    @Test
+    @DisplayName("When writes models after a handler is replaced in the registry")
+    void write() throws IOException {
+        ExcelTypeHandlerRegistry registry = new DefaultExcelTypeHandlerRegistry();
+        ExcelModelMetadataCache metadataCache = new ExcelModelMetadataCache();
+
+        @Cleanup Workbook before = write(registry, metadataCache);
+        registry.add(new YesNoTypeHandler());
+        @Cleanup Workbook after = write(registry, metadataCache);
+
+        assertThat(before.getSheetAt(0).getRow(1).getCell(0).getStringCellValue())
+                .as("#1 Boolean is written by the default handler")
+                .isEqualTo("true");
+        assertThat(after.getSheetAt(0).getRow(1).getCell(0).getStringCellValue())
+                .as("#2 The plan compiled before the handler is replaced is not reused")
+                .isEqualTo("Y");
+    }
+
+    @Test
+    @DisplayName("When reads models after a handler is replaced in the registry")
+    void read() throws IOException {
+        ExcelTypeHandlerRegistry registry = new DefaultExcelTypeHandlerRegistry();
+        ExcelModelMetadataCache metadataCache = new ExcelModelMetadataCache();
+
+        @Cleanup Workbook before = write(registry, metadataCache);
+        assertThat(new ModelReader<>(before, Answer.class, registry, metadataCache).read())
+                .as("#1 Boolean is read by the default handler")
+                .extracting(it -> it.correct).containsExactly(true, false);
+
+        registry.add(new YesNoTypeHandler());
+        @Cleanup Workbook after = write(registry, metadataCache);
+        assertThat(new ModelReader<>(after, Answer.class, registry, metadataCache).read())
+                .as("#2 The plan compiled before the handler is replaced is not reused")
+                .extracting(it -> it.correct).containsExactly(true, false);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static Workbook write(ExcelTypeHandlerRegistry registry, ExcelModelMetadataCache metadataCache)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ModelWriter<>(new XSSFWorkbook(), Answer.class, registry, metadataCache).write(out, ANSWERS);
+
+        return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static class Answer {
+        private final Boolean correct;
+
+        @ExcelModelCreator
+        Answer(Boolean correct) {
+            this.correct = correct;
+        }
+    }
+
+    private static class YesNoTypeHandler extends AbstractExcelTypeHandler<Boolean> {
+        YesNoTypeHandler() {
+            super(Boolean.class);
+        }
+
+        @Override
+        protected String writeInternal(Boolean value, Object... arguments) {
+            return value ? "Y" : "N";
+        }
+
+        @Override
+        public Boolean read(String value, Object... arguments) {
+            return value.equals("Y");
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.core.modelwriter;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.model.creature.Human;
+import com.github.javaxcel.model.product.Product;
+import com.github.javaxcel.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.out.strategy.impl.Parallel;
+import com.github.javaxcel.out.strategy.impl.TypedCells;
+import lombok.Cleanup;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.javaxcel.TestUtils.assertEqualsSheet;
+
+/**
+ * @see Parallel
+ */
+class ParallelTest {
+
+    @Test
+    @DisplayName("When converts models with expressions in parallel")
+    void writeWithExpressions() {
+        List<Human> people = Human.newRandomList(10_000);
+
+        Workbook expected = write(people, Human.class);
+        Workbook actual = write(people, Human.class, new Parallel());
+
+        assertEqualsSheet(actual.getSheetAt(0), expected.getSheetAt(0));
+    }
+
+    @Test
+    @DisplayName("When converts models with native value of cell on the given executor")
+    void writeWithExecutor() {
+        List<Product> products = TestUtils.getMocks(Product.class, 10_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Workbook expected = write(products, Product.class, new TypedCells());
+            Workbook actual = write(products, Product.class, new TypedCells(), new Parallel(executor));
+
+            assertEqualsSheet(actual.getSheetAt(0), expected.getSheetAt(0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("When converts models in parallel and writes them directly")
+    void writeDirectly() throws IOException {
+        List<Human> people = Human.newRandomList(10_000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestUtils.JAVAXCEL.directWriter(Human.class)
+                .options(new Parallel())
+                .write(out, people);
+
+        @Cleanup Workbook actual = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+        Workbook expected = write(people, Human.class);
+
+        assertEqualsSheet(actual.getSheetAt(0), expected.getSheetAt(0));
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static <T> Workbook write(List<T> models, Class<T> type, ExcelWriteStrategy... strategies) {
+        Workbook workbook = new XSSFWorkbook();
+        TestUtils.JAVAXCEL.writer(workbook, type)
+                .options(strategies)
+                .write(new ByteArrayOutputStream(), models);
+
+        return workbook;
+    }
+
+}
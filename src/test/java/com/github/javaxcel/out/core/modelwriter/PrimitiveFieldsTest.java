@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.core.modelwriter;
+
+import com.github.javaxcel.Javaxcel;
+import com.github.javaxcel.accessor.FieldAccessor;
+import com.github.javaxcel.accessor.FieldAccessorFactory;
+import com.github.javaxcel.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry;
+import com.github.javaxcel.out.core.ExcelWriter;
+import com.github.javaxcel.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.out.strategy.impl.CompiledRows;
+import com.github.javaxcel.out.strategy.impl.TypedCells;
+import lombok.AllArgsConstructor;
+import lombok.Cleanup;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see FieldAccessor#getInt(Object)
+ * @see FieldAccessor#getLong(Object)
+ * @see FieldAccessor#getDouble(Object)
+ */
+class PrimitiveFieldsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ModelWriter", "CompiledRows", "DirectModelWriter"})
+    @DisplayName("When writes primitive fields as numeric cells without boxing")
+    void write(String writerName) throws IOException {
+        CountingAccessorFactory accessorFactory = new CountingAccessorFactory();
+        Javaxcel javaxcel = Javaxcel.newInstance(new DefaultExcelTypeHandlerRegistry(), accessorFactory);
+        List<PrimitiveModel> models = Arrays.asList(
+                new PrimitiveModel(1, 10L, 0.5),
+                new PrimitiveModel(-2, Long.MAX_VALUE, -1.25),
+                new PrimitiveModel(3, -30L, Double.POSITIVE_INFINITY));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelWriter<PrimitiveModel> writer = "DirectModelWriter".equals(writerName)
+                ? javaxcel.directWriter(PrimitiveModel.class)
+                : javaxcel.writer(new XSSFWorkbook(), PrimitiveModel.class);
+        ExcelWriteStrategy[] strategies = "CompiledRows".equals(writerName)
+                ? new ExcelWriteStrategy[]{new TypedCells(), new CompiledRows()}
+                : new ExcelWriteStrategy[]{new TypedCells()};
+        writer.options(strategies).write(out, models);
+
+        assertThat(accessorFactory.primitiveCount.get())
+                .as("#1 The primitive values are got through the primitive-specialized getters")
+                .isEqualTo(models.size() * 3);
+        assertThat(accessorFactory.boxedCount.get())
+                .as("#2 Only the values that cannot be numeric cells are got as boxed values")
+                .isEqualTo(2);
+
+        @Cleanup Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+        Sheet sheet = workbook.getSheetAt(0);
+
+        Row row = sheet.getRow(1);
+        assertThat(row.getCell(0).getNumericCellValue()).isEqualTo(1);
+        assertThat(row.getCell(1).getNumericCellValue()).isEqualTo(10);
+        assertThat(row.getCell(2).getNumericCellValue()).isEqualTo(0.5);
+
+        assertThat(sheet.getRow(2).getCell(1).getCellType())
+                .as("#3 The number exceeding 15 significant digits is written as string")
+                .isEqualTo(CellType.STRING);
+        assertThat(sheet.getRow(2).getCell(1).getStringCellValue()).isEqualTo(String.valueOf(Long.MAX_VALUE));
+        assertThat(sheet.getRow(3).getCell(2).getCellType())
+                .as("#4 The infinite number is written as string")
+                .isEqualTo(CellType.STRING);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @AllArgsConstructor
+    private static class PrimitiveModel {
+        private int number;
+        private long amount;
+        private double ratio;
+    }
+
+    private static class CountingAccessorFactory implements FieldAccessorFactory {
+        private final AtomicInteger boxedCount = new AtomicInteger();
+        private final AtomicInteger primitiveCount = new AtomicInteger();
+
+        @Override
+        public FieldAccessor create(Field field, @Nullable Method getter, @Nullable Method setter) {
+            FieldAccessor accessor = FieldAccessorFactory.DEFAULT.create(field, getter, setter);
+
+            return new FieldAccessor() {
+                @Override
+                public Field getField() {
+                    return accessor.getField();
+                }
+
+                @Override
+                public Object get(Object model) {
+                    boxedCount.incrementAndGet();
+                    return accessor.get(model);
+                }
+
+                @Override
+                public void set(Object model, @Nullable Object value) {
+                    accessor.set(model, value);
+                }
+
+                @Override
+                public int getInt(Object model) {
+                    primitiveCount.incrementAndGet();
+                    return accessor.getInt(model);
+                }
+
+                @Override
+                public long getLong(Object model) {
+                    primitiveCount.incrementAndGet();
+                    return accessor.getLong(model);
+                }
+
+                @Override
+                public double getDouble(Object model) {
+                    primitiveCount.incrementAndGet();
+                    return accessor.getDouble(model);
+                }
+            };
+        }
+    }
+
+}
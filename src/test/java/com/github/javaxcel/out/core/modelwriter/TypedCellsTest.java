@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.out.core.modelwriter;
+
+import com.github.javaxcel.TestUtils;
+import com.github.javaxcel.annotation.ExcelDateTimeFormat;
+import com.github.javaxcel.junit.annotation.StopwatchProvider;
+import com.github.javaxcel.out.core.ModelWriterTester;
+import com.github.javaxcel.out.strategy.impl.TypedCells;
+import com.github.javaxcel.util.ExcelUtils;
+import io.github.imsejin.common.tool.Stopwatch;
+import lombok.Cleanup;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.github.javaxcel.TestUtils.assertNotEmptyFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @see TypedCells
+ */
+@StopwatchProvider
+class TypedCellsTest extends ModelWriterTester {
+
+    @Test
+    @DisplayName("When writes models with native value of cell")
+    void test(@TempDir Path path, Stopwatch stopwatch) throws Exception {
+        Class<TypedModel> type = TypedModel.class;
+        String filename = type.getSimpleName().toLowerCase() + '.' + ExcelUtils.EXCEL_2007_EXTENSION;
+        File file = new File(path.toFile(), filename);
+
+        run(file, type, stopwatch);
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected void whenWriteWorkbook(GivenModel givenModel, WhenModel whenModel, ThenModel thenModel) {
+        TestUtils.JAVAXCEL.writer(whenModel.getWorkbook(), givenModel.getType())
+                .options(new TypedCells())
+                .write(whenModel.getOutputStream(), (List) thenModel.getModels());
+    }
+
+    @Override
+    protected void then(GivenModel givenModel, WhenModel whenModel, ThenModel thenModel) throws Exception {
+        File file = givenModel.getFile();
+        assertNotEmptyFile(file, "#1 Excel file must be created and have content");
+
+        @Cleanup Workbook workbook = ExcelUtils.getWorkbook(file);
+        Sheet sheet = workbook.getSheetAt(0);
+        List<?> models = thenModel.getModels();
+
+        for (int i = 0; i < models.size(); i++) {
+            TypedModel model = (TypedModel) models.get(i);
+            Row row = sheet.getRow(i + 1);
+
+            assertCell(row.getCell(0), model.integer);
+            assertCell(row.getCell(1), model.bigDecimal);
+            assertCell(row.getCell(2), model.bool);
+
+            Cell dateCell = row.getCell(3);
+            if (model.date == null) {
+                assertThat(dateCell.getCellType()).isEqualTo(CellType.BLANK);
+            } else {
+                assertThat(dateCell.getCellType()).isEqualTo(CellType.NUMERIC);
+                assertThat(DateUtil.isCellDateFormatted(dateCell)).isTrue();
+                assertThat(dateCell.getCellStyle().getDataFormatString()).isEqualTo("yyyy/MM/dd");
+                assertThat(dateCell.getLocalDateTimeCellValue().toLocalDate()).isEqualTo(model.date);
+            }
+
+            Cell dateTimeCell = row.getCell(4);
+            if (model.dateTime != null) {
+                assertThat(dateTimeCell.getCellType()).isEqualTo(CellType.NUMERIC);
+                assertThat(dateTimeCell.getLocalDateTimeCellValue()).isEqualTo(model.dateTime);
+            }
+
+            Cell stringCell = row.getCell(5);
+            if (model.string != null && !model.string.isEmpty()) {
+                assertThat(stringCell.getCellType()).isEqualTo(CellType.STRING);
+                assertThat(stringCell.getStringCellValue()).isEqualTo(model.string);
+            }
+        }
+    }
+
+    private static void assertCell(Cell cell, Object value) {
+        if (value == null) {
+            assertThat(cell.getCellType()).isEqualTo(CellType.BLANK);
+        } else if (value instanceof Boolean) {
+            assertThat(cell.getCellType()).isEqualTo(CellType.BOOLEAN);
+            assertThat(cell.getBooleanCellValue()).isEqualTo(value);
+        } else {
+            assertThat(cell.getCellType()).isEqualTo(CellType.NUMERIC);
+            assertThat(cell.getNumericCellValue()).isEqualTo(((Number) value).doubleValue());
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static class TypedModel {
+        private Integer integer;
+        private BigDecimal bigDecimal = BigDecimal.valueOf(TestUtils.randomize(Integer.class), 2);
+        private Boolean bool;
+        @ExcelDateTimeFormat(pattern = "yyyy/MM/dd")
+        private LocalDate date = LocalDate.now();
+        private LocalDateTime dateTime = LocalDateTime.now().withNano(0);
+        private String string;
+    }
+
+}